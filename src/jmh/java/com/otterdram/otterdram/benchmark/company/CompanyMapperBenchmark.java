@@ -0,0 +1,38 @@
+package com.otterdram.otterdram.benchmark.company;
+
+import com.otterdram.otterdram.common.enums.common.DataStatus;
+import com.otterdram.otterdram.common.enums.common.LanguageCode;
+import com.otterdram.otterdram.domain.spirits.company.Company;
+import com.otterdram.otterdram.domain.spirits.company.dto.CompanyResponse;
+import com.otterdram.otterdram.domain.spirits.company.mapper.CompanyMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CompanyMapperBenchmark {
+
+    private Company company;
+
+    @Setup
+    public void setUp() {
+        company = Company.builder()
+                .id(2L)
+                .parentCompany(Company.builder().id(1L).companyName("Parent Company").build())
+                .companyLogo("http://example.com/logo.png")
+                .companyName("Test Company")
+                .translations(Map.of(LanguageCode.JA, "テストカンパニー", LanguageCode.KO, "테스트 컴퍼니"))
+                .descriptions(Map.of(LanguageCode.JA, "テストカンパニーの説明", LanguageCode.KO, "테스트 컴퍼니 설명"))
+                .independentBottler(true)
+                .status(DataStatus.CONFIRMED)
+                .build();
+    }
+
+    @Benchmark
+    public CompanyResponse toResponse() {
+        return CompanyMapper.INSTANCE.toResponse(company);
+    }
+}
@@ -0,0 +1,114 @@
+package com.otterdram.otterdram.benchmark.company;
+
+import com.otterdram.otterdram.benchmark.support.BenchmarkApplicationContext;
+import com.otterdram.otterdram.common.enums.common.LanguageCode;
+import com.otterdram.otterdram.domain.spirits.company.dto.CompanyBaseData;
+import com.otterdram.otterdram.domain.spirits.company.dto.CompanyCreateRequest;
+import com.otterdram.otterdram.domain.spirits.company.dto.CompanyResponse;
+import com.otterdram.otterdram.domain.spirits.company.service.CompanyService;
+import com.otterdram.otterdram.domain.spirits.revision.dto.RevisionResponse;
+import com.otterdram.otterdram.domain.spirits.revision.service.RevisionService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Company 쓰기 경로 벤치마크 (인메모리 H2).
+ * <pre>
+ * create             : 추가 데이터 없는 생성 (DRAFT, 리비전 없음)
+ * createWithRevision : 추가 데이터가 있는 생성 (IN_REVIEW + 리비전)
+ * createRevision     : DRAFT 컴퍼니에 리비전 제출
+ * approve            : 검토 대기 리비전 승인
+ * </pre>
+ * 리비전 제출/승인 대상은 측정 구간 밖(Level.Invocation)에서 준비한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CompanyServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private CompanyService companyService;
+    private RevisionService revisionService;
+    private Long parentCompanyId;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplicationContext.start();
+        companyService = context.getBean(CompanyService.class);
+        revisionService = context.getBean(RevisionService.class);
+        parentCompanyId = companyService.create(minimalRequest()).id();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /** 리비전 제출 대상 DRAFT 컴퍼니 */
+    @State(Scope.Thread)
+    public static class DraftCompany {
+        Long companyId;
+
+        @Setup(Level.Invocation)
+        public void setUp(CompanyServiceBenchmark benchmark) {
+            companyId = benchmark.companyService.create(benchmark.minimalRequest()).id();
+        }
+    }
+
+    /** 승인 대상 검토 대기 리비전 */
+    @State(Scope.Thread)
+    public static class PendingRevision {
+        Long revisionId;
+
+        @Setup(Level.Invocation)
+        public void setUp(CompanyServiceBenchmark benchmark) {
+            Long companyId = benchmark.companyService.create(benchmark.minimalRequest()).id();
+            revisionId = benchmark.companyService.createRevision(companyId, benchmark.fullRequest()).id();
+        }
+    }
+
+    @Benchmark
+    public CompanyResponse create() {
+        return companyService.create(minimalRequest());
+    }
+
+    @Benchmark
+    public CompanyResponse createWithRevision() {
+        return companyService.create(fullRequest());
+    }
+
+    @Benchmark
+    public RevisionResponse createRevision(DraftCompany draft) {
+        return companyService.createRevision(draft.companyId, fullRequest());
+    }
+
+    @Benchmark
+    public void approve(PendingRevision pending) {
+        revisionService.approve(pending.revisionId);
+    }
+
+    private CompanyCreateRequest minimalRequest() {
+        return new CompanyCreateRequest(null,
+                new CompanyBaseData(null, null, nextCompanyName(), Map.of(), Map.of(), null));
+    }
+
+    private CompanyCreateRequest fullRequest() {
+        return new CompanyCreateRequest(null,
+                new CompanyBaseData(
+                        parentCompanyId,
+                        "http://example.com/logo.png",
+                        nextCompanyName(),
+                        Map.of(LanguageCode.JA, "テストカンパニー", LanguageCode.KO, "테스트 컴퍼니"),
+                        Map.of(LanguageCode.JA, "テストカンパニーの説明", LanguageCode.KO, "테스트 컴퍼니 설명"),
+                        true
+                ));
+    }
+
+    private String nextCompanyName() {
+        return "Benchmark Company " + sequence++;
+    }
+}
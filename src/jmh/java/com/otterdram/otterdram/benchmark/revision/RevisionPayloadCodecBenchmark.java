@@ -0,0 +1,76 @@
+package com.otterdram.otterdram.benchmark.revision;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.otterdram.otterdram.common.enums.common.DataStatus;
+import com.otterdram.otterdram.common.enums.common.LanguageCode;
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+import com.otterdram.otterdram.domain.spirits.company.dto.CompanyBaseData;
+import com.otterdram.otterdram.domain.spirits.company.dto.CompanyRevisionPayload;
+import com.otterdram.otterdram.domain.spirits.revision.EntityRevision;
+import com.otterdram.otterdram.domain.spirits.revision.codec.RevisionPayloadCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리비전 payload 역직렬화 비교.
+ * <pre>
+ * legacyConvertValue : 요청마다 new ObjectMapper() + jsonb 를 Map 으로 읽은 값에 convertValue (기존 경로)
+ * codecRead          : 미리 만들어 둔 ObjectReader 로 jsonb 트리를 payload record 로 직접 변환
+ * </pre>
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RevisionPayloadCodecBenchmark {
+
+    private RevisionPayloadCodec codec;
+    private EntityRevision revision;
+    private Map<String, Object> legacyRevisionData;
+    private CompanyRevisionPayload payload;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        codec = new RevisionPayloadCodec(objectMapper);
+        payload = new CompanyRevisionPayload(
+                new CompanyBaseData(
+                        1L,
+                        "http://example.com/logo.png",
+                        "Test Company",
+                        Map.of(LanguageCode.JA, "テストカンパニー", LanguageCode.KO, "테스트 컴퍼니"),
+                        Map.of(LanguageCode.JA, "テストカンパニーの説明", LanguageCode.KO, "테스트 컴퍼니 설명"),
+                        true
+                ),
+                DataStatus.DRAFT
+        );
+        JsonNode revisionData = codec.write(RevisionTargetEntity.COMPANY, RevisionPayloadCodec.CURRENT_SCHEMA_VERSION, payload);
+        revision = EntityRevision.builder()
+                .id(1L)
+                .entityType(RevisionTargetEntity.COMPANY)
+                .entityId(1L)
+                .revisionData(revisionData)
+                .build();
+        legacyRevisionData = objectMapper.convertValue(revisionData, new TypeReference<>() {});
+    }
+
+    @Benchmark
+    public CompanyRevisionPayload legacyConvertValue() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        return objectMapper.convertValue(legacyRevisionData, CompanyRevisionPayload.class);
+    }
+
+    @Benchmark
+    public CompanyRevisionPayload codecRead() {
+        return codec.read(revision, CompanyRevisionPayload.class);
+    }
+
+    @Benchmark
+    public JsonNode codecWrite() {
+        return codec.write(RevisionTargetEntity.COMPANY, RevisionPayloadCodec.CURRENT_SCHEMA_VERSION, payload);
+    }
+}
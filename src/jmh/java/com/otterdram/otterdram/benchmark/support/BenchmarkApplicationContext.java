@@ -0,0 +1,53 @@
+package com.otterdram.otterdram.benchmark.support;
+
+import com.otterdram.otterdram.OtterDramApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트.
+ * <p>
+ * 인메모리 H2 (PostgreSQL 모드) 에 db/benchmark-schema.sql 로 스키마를 만들고 서비스 계층만 기동한다.
+ * 웹 계층과 스케줄러(아웃박스 릴레이, 리비전 압축)는 측정에 섞이지 않도록 기동하지 않는다.
+ */
+public final class BenchmarkApplicationContext {
+    private BenchmarkApplicationContext() {}
+
+    // @EnableScheduling 을 켜는 OtterDramApplication 대신 같은 패키지를 직접 스캔한다
+    @Configuration
+    @EnableAutoConfiguration
+    @EnableJpaAuditing(auditorAwareRef = "auditorProvider")
+    @EntityScan(basePackageClasses = OtterDramApplication.class)
+    @EnableJpaRepositories(basePackageClasses = OtterDramApplication.class)
+    @ComponentScan(
+            basePackageClasses = OtterDramApplication.class,
+            excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = OtterDramApplication.class)
+    )
+    static class BenchmarkConfiguration {
+    }
+
+    public static ConfigurableApplicationContext start() {
+        // application.yml 의 PostgreSQL 설정보다 우선하도록 커맨드라인 인자로 전달한다
+        return new SpringApplicationBuilder(BenchmarkConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.url=jdbc:h2:mem:otterdram-bench;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=none",
+                        "--spring.sql.init.mode=always",
+                        "--spring.sql.init.schema-locations=classpath:db/benchmark-schema.sql",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN"
+                );
+    }
+}
@@ -0,0 +1,56 @@
+-- 벤치마크 전용 H2 스키마 (PostgreSQL 모드)
+-- 운영 스키마는 외부에서 관리되므로 벤치마크 대상 쓰기 경로가 사용하는 테이블만 정의한다.
+
+CREATE SEQUENCE IF NOT EXISTS company_sequence START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS revision_sequence START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS outbox_event_sequence START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS companies (
+    id                  bigint PRIMARY KEY,
+    parent_company_id   bigint REFERENCES companies (id),
+    company_logo        varchar(255),
+    company_name        varchar(100) NOT NULL UNIQUE,
+    normalized_company_name varchar(100) NOT NULL UNIQUE,
+    translations        json,
+    descriptions        json,
+    independent_bottler boolean,
+    status              varchar(20)  NOT NULL DEFAULT 'IN_REVIEW',
+    version             bigint       NOT NULL DEFAULT 0,
+    created_at          timestamp(6) with time zone NOT NULL,
+    created_by          bigint       NOT NULL,
+    updated_at          timestamp(6) with time zone NOT NULL,
+    updated_by          bigint       NOT NULL,
+    deleted_at          timestamp(6) with time zone,
+    deleted_by          bigint
+);
+
+CREATE TABLE IF NOT EXISTS revisions (
+    id             bigint PRIMARY KEY,
+    entity_type    varchar(50) NOT NULL,
+    entity_id      bigint      NOT NULL,
+    schema_version varchar(16) NOT NULL DEFAULT '1.0',
+    revision_data  json        NOT NULL,
+    diff_data      json,
+    is_latest      boolean     NOT NULL DEFAULT true,
+    is_checkpoint  boolean     NOT NULL DEFAULT false,
+    status         varchar(20) NOT NULL DEFAULT 'IN_REVIEW',
+    version        bigint      NOT NULL DEFAULT 0,
+    created_at     timestamp(6) with time zone NOT NULL,
+    created_by     bigint      NOT NULL,
+    reviewed_at    timestamp(6) with time zone,
+    reviewed_by    bigint
+);
+CREATE INDEX IF NOT EXISTS ix_revisions_status_created_at_id ON revisions (status, created_at, id);
+CREATE INDEX IF NOT EXISTS ix_revisions_entity_timeline ON revisions (entity_type, entity_id, created_at, id);
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id             bigint PRIMARY KEY,
+    event_type     varchar(50)  NOT NULL,
+    aggregate_type varchar(50)  NOT NULL,
+    aggregate_id   bigint       NOT NULL,
+    revision_id    bigint,
+    attempts       integer      NOT NULL DEFAULT 0,
+    last_error     varchar(500),
+    created_at     timestamp(6) with time zone NOT NULL,
+    published_at   timestamp(6) with time zone
+);
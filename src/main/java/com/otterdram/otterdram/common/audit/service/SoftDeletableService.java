@@ -37,6 +37,7 @@ public abstract class SoftDeletableService<T extends SoftDeletable, ID> {
 
         entity.softDelete(getCurrentUserId());
         getRepository().save(entity);
+        afterSoftDelete(entity);
     }
 
     @Transactional
@@ -46,5 +47,18 @@ public abstract class SoftDeletableService<T extends SoftDeletable, ID> {
 
         entity.restore();
         getRepository().save(entity);
+        afterRestore(entity);
+    }
+
+    /**
+     * Hook invoked in the same transaction after an entity has been soft-deleted. No-op by default.
+     */
+    protected void afterSoftDelete(T entity) {
+    }
+
+    /**
+     * Hook invoked in the same transaction after an entity has been restored. No-op by default.
+     */
+    protected void afterRestore(T entity) {
     }
 }
@@ -0,0 +1,17 @@
+package com.otterdram.otterdram.common.enums.common;
+
+/**
+ * NULL 을 UNKNOWN 으로 쓰는 boolean 컬럼의 조회 조건 (예: limited_edition, chill_filtered).
+ */
+public enum TriState {
+
+    /** 값이 true */
+    TRUE,
+
+    /** 값이 false */
+    FALSE,
+
+    /** 값이 NULL (알 수 없음) */
+    UNKNOWN,
+
+}
@@ -54,10 +54,10 @@ public class City {
     @Column(name = "country_code", nullable = false, length = 2)
     private String countryCode;
 
-    @Column(name = "latitude", nullable = false, precision = 10, scale = 8)
+    @Column(name = "latitude", nullable = false, columnDefinition = "numeric(10,8)")
     private Double latitude;
 
-    @Column(name = "longitude", nullable = false, precision = 11, scale = 8)
+    @Column(name = "longitude", nullable = false, columnDefinition = "numeric(11,8)")
     private Double longitude;
 
     @Column(name="created_at")
@@ -117,10 +117,10 @@ public class Country {
     @Column(name = "translations", columnDefinition = "jsonb")
     private Map<LanguageCode, String> translations;
 
-    @Column(name = "latitude", precision = 10, scale = 8)
+    @Column(name = "latitude", columnDefinition = "numeric(10,8)")
     private Double latitude;
 
-    @Column(name = "longitude", precision = 11, scale = 8)
+    @Column(name = "longitude", columnDefinition = "numeric(11,8)")
     private Double longitude;
 
     @Column(name = "emoji", length = 191)
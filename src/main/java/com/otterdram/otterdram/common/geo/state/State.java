@@ -68,10 +68,10 @@ public class State {
     @JoinColumn(name = "parent_id", insertable = false, updatable = false)
     private State parentState;
 
-    @Column(name = "latitude", precision = 10, scale = 8)
+    @Column(name = "latitude", columnDefinition = "numeric(10,8)")
     private Double latitude;
 
-    @Column(name = "longitude", precision = 11, scale = 8)
+    @Column(name = "longitude", columnDefinition = "numeric(11,8)")
     private Double longitude;
 
     @Column(name = "created_at")
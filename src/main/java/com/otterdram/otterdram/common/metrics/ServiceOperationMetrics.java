@@ -0,0 +1,109 @@
+package com.otterdram.otterdram.common.metrics;
+
+import com.otterdram.otterdram.common.audit.service.ReviewableService;
+import com.otterdram.otterdram.common.audit.service.SoftDeletableService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공통 서비스(SoftDeletableService, AuthorModifiableService, ReviewableService 와 그 하위 서비스)의
+ * public 연산마다 처리 시간과 실행한 SQL 문 수를 기록한다.
+ * <ul>
+ *   <li>{@value #OPERATION_TIMER}: 처리 시간. 타이머의 count 가 호출 수다.</li>
+ *   <li>{@value #STATEMENT_SUMMARY}: 호출 한 번에 준비한 JDBC 문 수 ({@link StatementCounter}).</li>
+ * </ul>
+ * 태그는 entity(서비스가 다루는 엔티티 클래스), operation(메서드 이름), outcome 이고, 타이머에는 exception 이 더 붙는다.
+ * 트랜잭션 어드바이스보다 바깥에서 실행되므로 커밋(flush) 시간과 커밋 중 발생한 예외도 포함한다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ServiceOperationMetrics {
+    public static final String OPERATION_TIMER = "otterdram.service.operation";
+    public static final String STATEMENT_SUMMARY = "otterdram.service.statements";
+
+    static final String OUTCOME_SUCCESS = "success";
+    static final String OUTCOME_NOT_FOUND = "not_found";
+    static final String OUTCOME_CONFLICT = "conflict";
+    static final String OUTCOME_REJECTED = "rejected";
+    static final String OUTCOME_ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, String> entityNames = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.otterdram.otterdram.common.audit.service.*Service+.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long statementsBefore = StatementCounter.current();
+        String outcome = OUTCOME_SUCCESS;
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = outcome(e);
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            Tags tags = Tags.of(
+                    "entity", entityName(AopUtils.getTargetClass(joinPoint.getTarget())),
+                    "operation", joinPoint.getSignature().getName(),
+                    "outcome", outcome);
+            sample.stop(Timer.builder(OPERATION_TIMER)
+                    .tags(tags)
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+            DistributionSummary.builder(STATEMENT_SUMMARY)
+                    .baseUnit("statements")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(StatementCounter.current() - statementsBefore);
+        }
+    }
+
+    // 재시도 끝에 감싸서 던진 충돌(IllegalStateException)도 conflict 로 분류한다
+    static String outcome(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConcurrencyFailureException || cause instanceof DataIntegrityViolationException) {
+                return OUTCOME_CONFLICT;
+            }
+        }
+        if (e instanceof EntityNotFoundException) {
+            return OUTCOME_NOT_FOUND;
+        }
+        if (e instanceof IllegalArgumentException || e instanceof IllegalStateException) {
+            return OUTCOME_REJECTED;
+        }
+        return OUTCOME_ERROR;
+    }
+
+    // 서비스 타입 파라미터 T 의 엔티티 클래스 이름 (예: CompanyService → Company)
+    private String entityName(Class<?> serviceClass) {
+        return entityNames.computeIfAbsent(serviceClass, type -> {
+            for (Class<?> base : new Class<?>[]{SoftDeletableService.class, ReviewableService.class}) {
+                Class<?> entity = ResolvableType.forClass(type).as(base).getGeneric(0).resolve();
+                if (entity != null) {
+                    return entity.getSimpleName();
+                }
+            }
+            return "unknown";
+        });
+    }
+}
@@ -0,0 +1,23 @@
+package com.otterdram.otterdram.common.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 스레드별 JDBC 문 준비 횟수를 센다 (hibernate.session_factory.statement_inspector).
+ * <p>
+ * Hibernate 가 SQL 을 PreparedStatement 로 준비할 때마다 호출되므로, JDBC 배치는 배치당 한 번으로 센다.
+ * 누적 값이므로 구간의 문 수는 시작/종료 시점의 {@link #current()} 차이로 구한다.
+ */
+public class StatementCounter implements StatementInspector {
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    public static long current() {
+        return COUNT.get()[0];
+    }
+}
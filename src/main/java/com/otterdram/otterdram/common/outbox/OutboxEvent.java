@@ -0,0 +1,76 @@
+package com.otterdram.otterdram.common.outbox;
+
+import com.otterdram.otterdram.common.audit.superclass.timestamp.CreatableTimestamp;
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import java.time.Instant;
+
+/**
+ * <pre>
+ * Table outbox_events {
+ *   id bigint [pk, increment]
+ *   event_type OutboxEventType [not null]
+ *   aggregate_type RevisionEntityType [not null, note: "이벤트 대상 엔티티 종류"]
+ *   aggregate_id bigint [not null, note: "이벤트 대상 엔티티 ID"]
+ *   revision_id bigint [ref: > revisions.id]
+ *   attempts integer [not null, default: 0, note: "전달 실패 횟수"]
+ *   last_error varchar(500)
+ *   created_at timestamp [not null, default: `CURRENT_TIMESTAMP`]
+ *   published_at timestamp [note: "null 이면 미전달"]
+ *   indexes {
+ *     id [name: 'ix_outbox_events_unpublished', note: "WHERE published_at IS NULL (db/indexes.sql)"]
+ *   }
+ * }
+ * </pre>
+ */
+
+@Getter
+@SuperBuilder
+@Entity
+@Table(name = "outbox_events")
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent extends CreatableTimestamp {
+
+    @Id
+    @SequenceGenerator(name = "outbox_event_seq", sequenceName = "outbox_event_sequence", allocationSize = 50)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, columnDefinition = "varchar(50)")
+    private OutboxEventType eventType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate_type", nullable = false, columnDefinition = "varchar(50)")
+    private RevisionTargetEntity aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "revision_id")
+    private Long revisionId;
+
+    @Builder.Default
+    @Column(name = "attempts", nullable = false, columnDefinition = "integer default 0")
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "published_at", columnDefinition = "timestamptz(6)")
+    private Instant publishedAt;
+
+    public void markPublished() {
+        this.publishedAt = Instant.now();
+    }
+
+    public void markFailed(String error) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= 500 ? error : error.substring(0, 500);
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.otterdram.otterdram.common.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 미전달 이벤트를 id 순으로 잠그고 가져온다.
+     * SKIP LOCKED 로 여러 인스턴스의 릴레이가 같은 이벤트를 동시에 가져가지 않는다.
+     */
+    @Query(value = """
+            select *
+            from outbox_events
+            where published_at is null
+              and attempts < :maxAttempts
+            order by id
+            limit :batchSize
+            for update skip locked
+            """, nativeQuery = true)
+    List<OutboxEvent> lockUnpublished(@Param("maxAttempts") int maxAttempts, @Param("batchSize") int batchSize);
+}
@@ -0,0 +1,23 @@
+package com.otterdram.otterdram.common.outbox;
+
+public enum OutboxEventType {
+
+    /** 엔티티 생성 */
+    ENTITY_CREATED,
+
+    /** 리비전 제출 (검토 요청) */
+    REVISION_SUBMITTED,
+
+    /** 리비전 승인 (엔티티 반영) */
+    REVISION_APPROVED,
+
+    /** 리비전 반려 */
+    REVISION_REJECTED,
+
+    /** 엔티티 소프트 삭제 */
+    ENTITY_DELETED,
+
+    /** 소프트 삭제된 엔티티 복원 */
+    ENTITY_RESTORED,
+
+}
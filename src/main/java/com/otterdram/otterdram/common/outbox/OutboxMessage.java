@@ -0,0 +1,24 @@
+package com.otterdram.otterdram.common.outbox;
+
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+
+import java.time.Instant;
+
+/**
+ * 릴레이가 인프로세스 리스너(@EventListener)에 전달하는 이벤트.
+ * <p>
+ * 최소 1회(at-least-once) 전달이므로 리스너는 eventId 기준으로 멱등하게 처리해야 한다.
+ */
+public record OutboxMessage(
+    Long eventId,
+    OutboxEventType eventType,
+    RevisionTargetEntity aggregateType,
+    Long aggregateId,
+    Long revisionId,
+    Instant occurredAt
+) {
+    public static OutboxMessage of(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getEventType(), event.getAggregateType(),
+                event.getAggregateId(), event.getRevisionId(), event.getCreatedAt());
+    }
+}
@@ -0,0 +1,77 @@
+package com.otterdram.otterdram.common.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 아웃박스 릴레이.
+ * <p>
+ * 미전달 이벤트를 batchSize 개씩 잠그고 {@link OutboxMessage} 로 인프로세스 리스너에 전달한 뒤
+ * 잠근 트랜잭션에서 전달 완료로 표시한다. 이벤트마다 별도(REQUIRES_NEW) 트랜잭션에서 전달하므로
+ * 트랜잭션에 합류한 리스너가 실패해 롤백되더라도 배치 트랜잭션은 rollback-only 가 되지 않는다.
+ * (전달 중에는 배치 트랜잭션과 전달 트랜잭션이 커넥션을 하나씩 사용한다.)
+ * 리스너가 실패하면 배치 트랜잭션에 시도 횟수와 오류를 기록하고 다음 주기에 다시 전달하며,
+ * maxAttempts 회 실패한 이벤트는 더 이상 가져오지 않는다(수동 확인 대상).
+ * 전달 후 커밋 전에 중단되면 다시 전달되므로 전달 보장은 최소 1회이다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate publishTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       ApplicationEventPublisher applicationEventPublisher,
+                       TransactionTemplate transactionTemplate,
+                       @Value("${otterdram.outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${otterdram.outbox.relay.max-attempts:10}") int maxAttempts) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.publishTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager(), transactionTemplate);
+        this.publishTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Scheduled(fixedDelayString = "${otterdram.outbox.relay.fixed-delay:1000}")
+    public void relay() {
+        // 가득 찬 배치가 나오는 동안 연속으로 비운다
+        int drained;
+        do {
+            drained = drainBatch();
+        } while (drained == batchSize);
+    }
+
+    /**
+     * @return 이번 배치에서 가져온 이벤트 수
+     */
+    public int drainBatch() {
+        Integer drained = transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = outboxEventRepository.lockUnpublished(maxAttempts, batchSize);
+            for (OutboxEvent event : events) {
+                try {
+                    publishTemplate.executeWithoutResult(
+                            publishStatus -> applicationEventPublisher.publishEvent(OutboxMessage.of(event)));
+                    event.markPublished();
+                } catch (RuntimeException e) {
+                    event.markFailed(e.getClass().getSimpleName() + ": " + e.getMessage());
+                    log.warn("Outbox event {} delivery failed (attempt {})", event.getId(), event.getAttempts(), e);
+                }
+            }
+            return events.size();
+        });
+        return drained == null ? 0 : drained;
+    }
+}
@@ -0,0 +1,29 @@
+package com.otterdram.otterdram.common.outbox;
+
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 트랜잭셔널 아웃박스 기록.
+ * <p>
+ * 호출한 쪽의 트랜잭션에 참여하여(MANDATORY) 도메인 변경과 이벤트가 함께 커밋되거나 함께 롤백된다.
+ * 실제 전달은 {@link OutboxRelay} 가 비동기로 수행한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+    private final OutboxEventRepository outboxEventRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType eventType, RevisionTargetEntity aggregateType, Long aggregateId, Long revisionId) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(eventType)
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .revisionId(revisionId)
+                .build());
+    }
+}
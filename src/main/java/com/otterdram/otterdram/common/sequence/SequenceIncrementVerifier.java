@@ -0,0 +1,108 @@
+package com.otterdram.otterdram.common.sequence;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 엔티티 시퀀스의 allocationSize 와 DB 시퀀스 INCREMENT BY 일치 여부를 기동 시 검증한다.
+ * <p>
+ * pooled-lo 옵티마이저는 nextval 로 받은 값부터 allocationSize 개의 ID 를 메모리에서 할당하므로,
+ * DB 증가값이 더 작으면 다른 인스턴스와 ID 구간이 겹친다. 불일치가 있으면 다른 러너(일괄 등록 등)보다 먼저 기동을 중단하고(failOnMismatch),
+ * DB 에 없는 시퀀스는 경고만 남긴다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SequenceIncrementVerifier implements ApplicationRunner {
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean failOnMismatch;
+
+    public SequenceIncrementVerifier(EntityManagerFactory entityManagerFactory,
+                                     JdbcTemplate jdbcTemplate,
+                                     @Value("${otterdram.sequence.verify.fail-on-mismatch:true}") boolean failOnMismatch) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = jdbcTemplate;
+        this.failOnMismatch = failOnMismatch;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        verify(entitySequences(), databaseIncrements());
+    }
+
+    /**
+     * @param entitySequences    시퀀스 이름(소문자) → allocationSize
+     * @param databaseIncrements 시퀀스 이름(소문자) → DB INCREMENT BY
+     */
+    public void verify(Map<String, Integer> entitySequences, Map<String, Long> databaseIncrements) {
+        List<String> missing = new ArrayList<>();
+        List<String> mismatches = new ArrayList<>();
+        entitySequences.forEach((name, allocationSize) -> {
+            Long increment = databaseIncrements.get(name);
+            if (increment == null) {
+                missing.add(name);
+            } else if (increment != allocationSize.longValue()) {
+                mismatches.add(name + " (allocationSize=" + allocationSize + ", increment=" + increment + ")");
+            }
+        });
+
+        if (!missing.isEmpty()) {
+            log.warn("Sequences not found in the database: {}", String.join(", ", missing));
+        }
+        if (mismatches.isEmpty()) {
+            return;
+        }
+        String message = "Sequence increments do not match entity allocationSize: " + String.join(", ", mismatches);
+        if (failOnMismatch) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+
+    /**
+     * @return 시퀀스 이름(소문자) → allocationSize
+     */
+    private Map<String, Integer> entitySequences() {
+        Map<String, Integer> sequences = new TreeMap<>();
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel()
+                .forEachEntityDescriptor(persister -> {
+                    if (persister.getGenerator() instanceof SequenceStyleGenerator generator) {
+                        String name = generator.getDatabaseStructure().getPhysicalName().getObjectName().getText();
+                        sequences.put(name.toLowerCase(Locale.ROOT), generator.getDatabaseStructure().getIncrementSize());
+                    }
+                });
+        return sequences;
+    }
+
+    /**
+     * @return 시퀀스 이름(소문자) → INCREMENT BY
+     */
+    private Map<String, Long> databaseIncrements() {
+        Map<String, Long> increments = new HashMap<>();
+        jdbcTemplate.query("""
+                select sequence_name, increment
+                from information_schema.sequences
+                where sequence_schema = current_schema()
+                """, row -> {
+            increments.put(row.getString(1).toLowerCase(Locale.ROOT), Long.parseLong(row.getString(2)));
+        });
+        return increments;
+    }
+}
@@ -0,0 +1,71 @@
+package com.otterdram.otterdram.common.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Map;
+
+/**
+ * JSON Patch(RFC 6902) 형식의 구조적 diff.
+ * <p>
+ * 객체는 필드 단위로 재귀 비교하고, 배열과 스칼라 값은 통째로 replace 한다.
+ * null 값과 누락된 필드는 동일하게 "값 없음"으로 취급한다.
+ */
+public class JsonDiffUtils {
+
+    public static ArrayNode diff(JsonNode source, JsonNode target) {
+        ArrayNode operations = JsonNodeFactory.instance.arrayNode();
+        diff(operations, "", source, target);
+        return operations;
+    }
+
+    private static void diff(ArrayNode operations, String path, JsonNode source, JsonNode target) {
+        boolean sourceAbsent = isAbsent(source);
+        boolean targetAbsent = isAbsent(target);
+
+        if (sourceAbsent && targetAbsent) {
+            return;
+        }
+        if (sourceAbsent) {
+            operations.add(operation("add", path, target));
+        } else if (targetAbsent) {
+            operations.add(operation("remove", path, null));
+        } else if (source.isObject() && target.isObject()) {
+            diffObjects(operations, path, source, target);
+        } else if (!source.equals(target)) {
+            operations.add(operation("replace", path, target));
+        }
+    }
+
+    private static void diffObjects(ArrayNode operations, String path, JsonNode source, JsonNode target) {
+        for (Map.Entry<String, JsonNode> field : target.properties()) {
+            diff(operations, path + "/" + escape(field.getKey()), source.get(field.getKey()), field.getValue());
+        }
+
+        for (Map.Entry<String, JsonNode> field : source.properties()) {
+            if (!target.has(field.getKey()) && !isAbsent(field.getValue())) {
+                operations.add(operation("remove", path + "/" + escape(field.getKey()), null));
+            }
+        }
+    }
+
+    private static ObjectNode operation(String op, String path, JsonNode value) {
+        ObjectNode operation = JsonNodeFactory.instance.objectNode();
+        operation.put("op", op);
+        operation.put("path", path);
+        if (value != null) {
+            operation.set("value", value);
+        }
+        return operation;
+    }
+
+    private static boolean isAbsent(JsonNode node) {
+        return node == null || node.isNull() || node.isMissingNode();
+    }
+
+    private static String escape(String key) {
+        return key.replace("~", "~0").replace("/", "~1");
+    }
+}
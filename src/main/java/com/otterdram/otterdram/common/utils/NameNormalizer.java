@@ -0,0 +1,44 @@
+package com.otterdram.otterdram.common.utils;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 중복 판별용 이름 정규화.
+ * <p>
+ * NFKC 정규화(전각/반각, 합성 문자 통일) 후 앞뒤 공백을 제거하고 연속 공백을 하나로 줄인 뒤 소문자로 변환한다.
+ * 예) " Suntory ", "SUNTORY", "Ｓｕｎｔｏｒｙ" → "suntory"
+ * <p>
+ * 태그 키는 여기에 더해 하이픈/밑줄을 공백으로 본다. 예) "Sherry bomb", "sherry-bomb", "SHERRY_BOMB" → "sherry bomb"
+ */
+public class NameNormalizer {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern TAG_SEPARATORS = Pattern.compile("[-_]+");
+
+    public static String normalize(String name) {
+        if (name == null) {
+            return null;
+        }
+        String normalized = Normalizer.normalize(name, Normalizer.Form.NFKC);
+        normalized = WHITESPACE.matcher(normalized.strip()).replaceAll(" ");
+        return normalized.toLowerCase(Locale.ROOT);
+    }
+
+    public static String normalizeTag(String tag) {
+        if (tag == null) {
+            return null;
+        }
+        return normalize(TAG_SEPARATORS.matcher(Normalizer.normalize(tag, Normalizer.Form.NFKC)).replaceAll(" "));
+    }
+
+    /**
+     * 태그 입력 표기 정리. 앞뒤 공백을 제거하고 연속 공백을 하나로 줄이며, 대소문자와 표기는 보존한다.
+     */
+    public static String cleanTag(String tag) {
+        if (tag == null) {
+            return null;
+        }
+        return WHITESPACE.matcher(tag.strip()).replaceAll(" ");
+    }
+}
@@ -12,7 +12,9 @@ import com.otterdram.otterdram.domain.spirits.relation.DistilleryBrandRelation;
 import io.hypersistence.utils.hibernate.type.json.JsonType;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Type;
 
 import java.util.ArrayList;
@@ -37,19 +39,27 @@ import java.util.Map;
  *   deleted_by bigint [ref: > users.id]
  * }
  * </pre>
+ * <p>
+ * 조회 계획 {@value #GRAPH_DETAIL}: 회사를 함께 읽는다. 회사는 LAZY 이므로 다른 조회에서는 읽지 않는다.
  */
 
+@Getter
 @Entity
 @Table(name = "brands")
+@NamedEntityGraph(
+        name = Brand.GRAPH_DETAIL,
+        attributeNodes = @NamedAttributeNode("company")
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Brand extends SoftDeletable /*implements RevisableEntity*/ {
+    public static final String GRAPH_DETAIL = "Brand.detail";
 
     @Id
-    @SequenceGenerator(name = "brand_seq", sequenceName = "brand_sequence")
+    @SequenceGenerator(name = "brand_seq", sequenceName = "brand_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "brand_seq")
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id")
     private Company company;
 
@@ -72,9 +82,11 @@ public class Brand extends SoftDeletable /*implements RevisableEntity*/ {
     private DataStatus status = DataStatus.IN_REVIEW;
 
     // =========================== Relationships ===========================
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "brand", fetch = FetchType.LAZY)
     private List<DistilleryBrandRelation> distilleryBrandRelations = new ArrayList<>();
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "brand", fetch = FetchType.LAZY)
     private List<Collection> collections = new ArrayList<>();
 }
@@ -0,0 +1,19 @@
+package com.otterdram.otterdram.domain.spirits.brand.repository;
+
+import com.otterdram.otterdram.domain.spirits.brand.Brand;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface BrandRepository extends JpaRepository<Brand, Long> {
+
+    /**
+     * 상세 화면: 회사를 함께 읽는다 (문 1개).
+     */
+    @EntityGraph(Brand.GRAPH_DETAIL)
+    @Query("select b from Brand b where b.id = :id and b.deletedAt is null")
+    Optional<Brand> findDetailById(@Param("id") Long id);
+}
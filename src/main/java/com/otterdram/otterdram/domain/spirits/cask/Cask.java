@@ -9,7 +9,9 @@ import com.otterdram.otterdram.domain.spirits.relation.ReleaseCaskRelation;
 import io.hypersistence.utils.hibernate.type.json.JsonType;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Type;
 
 import java.util.ArrayList;
@@ -37,13 +39,14 @@ import java.util.Map;
  * </pre>
  */
 
+@Getter
 @Entity
 @Table(name = "casks")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Cask extends SoftDeletable /*implements RevisableEntity*/ {
 
     @Id
-    @SequenceGenerator(name = "cask_seq", sequenceName = "cask_sequence")
+    @SequenceGenerator(name = "cask_seq", sequenceName = "cask_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cask_seq")
     private Long id;
 
@@ -75,6 +78,7 @@ public class Cask extends SoftDeletable /*implements RevisableEntity*/ {
     private DataStatus status = DataStatus.IN_REVIEW;
 
     // =========================== Relationships ===========================
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "cask", fetch = FetchType.LAZY)
     private List<ReleaseCaskRelation> releaseCaskRelations = new ArrayList<>();
 }
@@ -38,7 +38,7 @@ import java.util.Map;
 public class CaskMaterial extends SoftDeletable /*implements RevisableEntity*/ {
 
     @Id
-    @SequenceGenerator(name = "cask_material_seq", sequenceName = "cask_material_sequence")
+    @SequenceGenerator(name = "cask_material_seq", sequenceName = "cask_material_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cask_material_seq")
     private Long id;
 
@@ -38,7 +38,7 @@ import java.util.Map;
 public class CaskType extends SoftDeletable /*implements RevisableEntity*/ {
 
     @Id
-    @SequenceGenerator(name = "cask_type_seq", sequenceName = "cask_type_sequence")
+    @SequenceGenerator(name = "cask_type_seq", sequenceName = "cask_type_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cask_type_seq")
     private Long id;
 
@@ -7,7 +7,9 @@ import com.otterdram.otterdram.domain.spirits.model.Model;
 import io.hypersistence.utils.hibernate.type.json.JsonType;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Type;
 
 import java.util.ArrayList;
@@ -31,17 +33,21 @@ import java.util.Map;
  *   updated_by bigint [ref: > users.id, not null]
  *   deleted_at timestamp
  *   deleted_by bigint [ref: > users.id]
+ *   indexes {
+ *     path [name: 'ix_categories_path', note: "text_pattern_ops, partial: WHERE deleted_at IS NULL (db/indexes.sql)"]
+ *   }
  * }
  * </pre>
  */
 
+@Getter
 @Entity
 @Table(name = "categories")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Category extends SoftDeletable {
 
     @Id
-    @SequenceGenerator(name = "category_seq", sequenceName = "category_sequence")
+    @SequenceGenerator(name = "category_seq", sequenceName = "category_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "category_seq")
     private Long id;
 
@@ -68,12 +74,15 @@ public class Category extends SoftDeletable {
 
     // =========================== Relationships ===========================
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "parentCategory", fetch = FetchType.LAZY)
     private List<Category> subCategories = new ArrayList<>();
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "category", fetch = FetchType.LAZY)
     private List<Cask> casks = new ArrayList<>();
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "category", fetch = FetchType.LAZY)
     private List<Model> models = new ArrayList<>();
 }
@@ -0,0 +1,21 @@
+package com.otterdram.otterdram.domain.spirits.category.dto;
+
+import com.otterdram.otterdram.common.enums.common.LanguageCode;
+
+import java.util.Map;
+
+/**
+ * 카테고리 트리 스냅샷을 만들 때 읽는 행.
+ *
+ * @param parentId 부모 카테고리 ID (루트는 null)
+ * @param path     materialized path (예: '1/2/3')
+ */
+public record CategoryTreeRow(
+    Long id,
+    Long parentId,
+    String name,
+    Map<LanguageCode, String> translations,
+    Short depth,
+    String path
+) {
+}
@@ -0,0 +1,12 @@
+package com.otterdram.otterdram.domain.spirits.category.dto;
+
+import java.time.Instant;
+
+/**
+ * 카테고리 테이블 변경 감지용 값. 삭제된 행도 세므로 추가, 수정, 소프트 삭제/복원, 물리 삭제 모두 값이 바뀐다.
+ *
+ * @param rowCount      전체 행 수
+ * @param lastUpdatedAt 가장 최근 updated_at (행이 없으면 null)
+ */
+public record CategoryTreeVersion(long rowCount, Instant lastUpdatedAt) {
+}
@@ -0,0 +1,31 @@
+package com.otterdram.otterdram.domain.spirits.category.repository;
+
+import com.otterdram.otterdram.domain.spirits.category.Category;
+import com.otterdram.otterdram.domain.spirits.category.dto.CategoryTreeRow;
+import com.otterdram.otterdram.domain.spirits.category.dto.CategoryTreeVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface CategoryRepository extends JpaRepository<Category, Long> {
+
+    /**
+     * 삭제되지 않은 카테고리 전체. 부모가 삭제된 카테고리도 parentId 를 그대로 담는다.
+     */
+    @Query("""
+            select new com.otterdram.otterdram.domain.spirits.category.dto.CategoryTreeRow(
+                c.id, p.id, c.name, c.translations, c.depth, c.path)
+            from Category c
+            left join c.parentCategory p
+            where c.deletedAt is null
+            """)
+    List<CategoryTreeRow> findTreeRows();
+
+    @Query("""
+            select new com.otterdram.otterdram.domain.spirits.category.dto.CategoryTreeVersion(
+                count(c), max(c.updatedAt))
+            from Category c
+            """)
+    CategoryTreeVersion findTreeVersion();
+}
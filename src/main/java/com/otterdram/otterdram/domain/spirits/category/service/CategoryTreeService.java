@@ -0,0 +1,82 @@
+package com.otterdram.otterdram.domain.spirits.category.service;
+
+import com.otterdram.otterdram.domain.spirits.category.dto.CategoryTreeVersion;
+import com.otterdram.otterdram.domain.spirits.category.repository.CategoryRepository;
+import com.otterdram.otterdram.domain.spirits.category.tree.CategoryNode;
+import com.otterdram.otterdram.domain.spirits.category.tree.CategoryTree;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 카테고리 트리 스냅샷 관리.
+ * <p>
+ * 첫 사용 시 전체 카테고리를 읽어 {@link CategoryTree} 로 만들고, 이후 조회는 DB 를 거치지 않는다.
+ * 주기적으로 테이블 버전(행 수, 최근 updated_at)만 확인해 바뀌었을 때 다시 읽으므로 다른 인스턴스의 변경도 반영된다.
+ * 카테고리를 바꾸는 쪽은 커밋 후 {@link #reload()} 를 호출하면 주기를 기다리지 않고 바로 반영된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CategoryTreeService {
+    private final CategoryRepository categoryRepository;
+
+    private volatile CategoryTree tree;
+
+    public CategoryTree tree() {
+        CategoryTree current = tree;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            return tree != null ? tree : reload();
+        }
+    }
+
+    public Optional<CategoryNode> find(Long categoryId) {
+        return tree().find(categoryId);
+    }
+
+    /**
+     * 루트부터 카테고리 자신까지의 경로 (DB 조회 없음).
+     */
+    public List<CategoryNode> breadcrumb(Long categoryId) {
+        return tree().breadcrumb(categoryId);
+    }
+
+    /**
+     * 카테고리 자신을 포함한 하위 트리의 ID (DB 조회 없음).
+     */
+    public List<Long> subtreeIds(Long categoryId) {
+        return tree().subtreeIds(categoryId);
+    }
+
+    /**
+     * 테이블 버전이 스냅샷과 다르면 다시 읽는다. 아직 한 번도 쓰이지 않았으면 첫 조회 때 읽으므로 건너뛴다.
+     */
+    @Scheduled(fixedDelayString = "${otterdram.category.tree.refresh-check-delay:30000}")
+    public void reloadIfChanged() {
+        CategoryTree current = tree;
+        if (current == null) {
+            return;
+        }
+        if (!categoryRepository.findTreeVersion().equals(current.version())) {
+            reload();
+        }
+    }
+
+    /**
+     * 스냅샷을 다시 만든다. 버전을 먼저 읽으므로 그 사이의 변경은 다음 확인에서 다시 반영된다.
+     */
+    public synchronized CategoryTree reload() {
+        CategoryTreeVersion version = categoryRepository.findTreeVersion();
+        CategoryTree loaded = CategoryTree.of(categoryRepository.findTreeRows(), version);
+        tree = loaded;
+        log.info("Loaded category tree of {} categories", loaded.size());
+        return loaded;
+    }
+}
@@ -0,0 +1,38 @@
+package com.otterdram.otterdram.domain.spirits.category.tree;
+
+import com.otterdram.otterdram.common.enums.common.LanguageCode;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리 트리 스냅샷의 노드 (불변).
+ *
+ * @param parentId 부모 카테고리 ID (루트는 null)
+ * @param path     materialized path (예: '1/2/3')
+ * @param childIds 자식 카테고리 ID (이름, ID 순)
+ */
+public record CategoryNode(
+    Long id,
+    Long parentId,
+    String name,
+    Map<LanguageCode, String> translations,
+    short depth,
+    String path,
+    List<Long> childIds
+) {
+    public CategoryNode {
+        translations = translations == null ? Map.of() : Map.copyOf(translations);
+        childIds = List.copyOf(childIds);
+    }
+
+    /**
+     * 요청 언어의 번역 이름, 없으면 원본 이름.
+     */
+    public String displayName(LanguageCode languageCode) {
+        if (languageCode == null) {
+            return name;
+        }
+        return translations.getOrDefault(languageCode, name);
+    }
+}
@@ -0,0 +1,116 @@
+package com.otterdram.otterdram.domain.spirits.category.tree;
+
+import com.otterdram.otterdram.domain.spirits.category.dto.CategoryTreeRow;
+import com.otterdram.otterdram.domain.spirits.category.dto.CategoryTreeVersion;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 카테고리 트리 스냅샷 (불변).
+ * <p>
+ * 카테고리는 수가 적고 거의 바뀌지 않으므로 한 번에 읽어 메모리에 두고, 빵부스러기와 하위 트리를 DB 조회 없이 계산한다.
+ * 부모가 삭제된 카테고리는 루트로 취급한다. 형제는 이름, ID 순으로 정렬한다.
+ */
+public final class CategoryTree {
+    private static final Comparator<CategoryTreeRow> SIBLING_ORDER =
+            Comparator.comparing(CategoryTreeRow::name).thenComparing(CategoryTreeRow::id);
+
+    private final Map<Long, CategoryNode> nodes;
+    private final List<Long> rootIds;
+    private final CategoryTreeVersion version;
+
+    private CategoryTree(Map<Long, CategoryNode> nodes, List<Long> rootIds, CategoryTreeVersion version) {
+        this.nodes = nodes;
+        this.rootIds = rootIds;
+        this.version = version;
+    }
+
+    public static CategoryTree of(List<CategoryTreeRow> rows, CategoryTreeVersion version) {
+        Map<Long, CategoryTreeRow> rowsById = new HashMap<>();
+        rows.forEach(row -> rowsById.put(row.id(), row));
+
+        Map<Long, List<Long>> childIds = new HashMap<>();
+        List<Long> rootIds = new ArrayList<>();
+        rows.stream().sorted(SIBLING_ORDER).forEach(row -> {
+            if (row.parentId() != null && rowsById.containsKey(row.parentId())) {
+                childIds.computeIfAbsent(row.parentId(), parentId -> new ArrayList<>()).add(row.id());
+            } else {
+                rootIds.add(row.id());
+            }
+        });
+
+        Map<Long, CategoryNode> nodes = new HashMap<>();
+        for (CategoryTreeRow row : rows) {
+            nodes.put(row.id(), new CategoryNode(
+                    row.id(), row.parentId(), row.name(), row.translations(), row.depth(), row.path(),
+                    childIds.getOrDefault(row.id(), List.of())));
+        }
+        return new CategoryTree(Map.copyOf(nodes), List.copyOf(rootIds), version);
+    }
+
+    public Optional<CategoryNode> find(Long id) {
+        return Optional.ofNullable(nodes.get(id));
+    }
+
+    public List<CategoryNode> roots() {
+        return rootIds.stream().map(nodes::get).toList();
+    }
+
+    public List<CategoryNode> children(Long id) {
+        CategoryNode node = nodes.get(id);
+        return node == null ? List.of() : node.childIds().stream().map(nodes::get).toList();
+    }
+
+    /**
+     * 루트부터 자신까지의 경로. 없는 카테고리는 빈 목록.
+     */
+    public List<CategoryNode> breadcrumb(Long id) {
+        Deque<CategoryNode> path = new ArrayDeque<>();
+        CategoryNode node = nodes.get(id);
+        // 부모 링크가 순환해도 노드 수를 넘겨 돌지 않는다
+        while (node != null && path.size() < nodes.size()) {
+            path.addFirst(node);
+            node = node.parentId() == null ? null : nodes.get(node.parentId());
+        }
+        return List.copyOf(path);
+    }
+
+    /**
+     * 자신을 포함한 하위 트리의 카테고리 ID (전위 순회). 없는 카테고리는 빈 목록.
+     */
+    public List<Long> subtreeIds(Long id) {
+        if (!nodes.containsKey(id)) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>();
+        Deque<Long> stack = new ArrayDeque<>();
+        stack.push(id);
+        while (!stack.isEmpty() && ids.size() < nodes.size()) {
+            Long current = stack.pop();
+            ids.add(current);
+            List<Long> children = nodes.get(current).childIds();
+            for (int i = children.size() - 1; i >= 0; i--) {
+                stack.push(children.get(i));
+            }
+        }
+        return List.copyOf(ids);
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * 스냅샷을 읽기 직전의 테이블 버전.
+     */
+    public CategoryTreeVersion version() {
+        return version;
+    }
+}
@@ -9,7 +9,9 @@ import com.otterdram.otterdram.domain.spirits.model.Model;
 import io.hypersistence.utils.hibernate.type.json.JsonType;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Type;
 
 import java.util.ArrayList;
@@ -34,15 +36,24 @@ import java.util.Map;
  *   deleted_by bigint [ref: > users.id]
  * }
  * </pre>
+ * <p>
+ * 조회 계획 {@value #GRAPH_DETAIL}: 브랜드 → 회사를 한 번에 읽는다.
  */
 
+@Getter
 @Entity
 @Table(name = "collections")
+@NamedEntityGraph(
+        name = Collection.GRAPH_DETAIL,
+        attributeNodes = @NamedAttributeNode(value = "brand", subgraph = "brand"),
+        subgraphs = @NamedSubgraph(name = "brand", attributeNodes = @NamedAttributeNode("company"))
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Collection extends SoftDeletable /*implements RevisableEntity*/ {
+    public static final String GRAPH_DETAIL = "Collection.detail";
 
     @Id
-    @SequenceGenerator(name = "collection_seq", sequenceName = "collection_seq")
+    @SequenceGenerator(name = "collection_seq", sequenceName = "collection_seq", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "collection_seq")
     private Long id;
 
@@ -66,6 +77,7 @@ public class Collection extends SoftDeletable /*implements RevisableEntity*/ {
     private DataStatus status = DataStatus.IN_REVIEW;
 
     // =========================== Relationships ===========================
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "collection", fetch = FetchType.LAZY)
     private List<Model> models = new ArrayList<>();
 }
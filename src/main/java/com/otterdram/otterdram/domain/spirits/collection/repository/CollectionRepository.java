@@ -0,0 +1,19 @@
+package com.otterdram.otterdram.domain.spirits.collection.repository;
+
+import com.otterdram.otterdram.domain.spirits.collection.Collection;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface CollectionRepository extends JpaRepository<Collection, Long> {
+
+    /**
+     * 상세 화면: 브랜드 → 회사를 한 번에 읽는다 (문 1개).
+     */
+    @EntityGraph(Collection.GRAPH_DETAIL)
+    @Query("select c from Collection c where c.id = :id and c.deletedAt is null")
+    Optional<Collection> findDetailById(@Param("id") Long id);
+}
@@ -3,6 +3,7 @@ package com.otterdram.otterdram.domain.spirits.company;
 import com.otterdram.otterdram.common.audit.superclass.SoftDeletable;
 import com.otterdram.otterdram.common.enums.common.DataStatus;
 import com.otterdram.otterdram.common.enums.common.LanguageCode;
+import com.otterdram.otterdram.common.utils.NameNormalizer;
 import com.otterdram.otterdram.domain.spirits.brand.Brand;
 import com.otterdram.otterdram.domain.spirits.revision.RevisableEntity;
 import com.otterdram.otterdram.domain.spirits.distillery.Distillery;
@@ -10,6 +11,8 @@ import io.hypersistence.utils.hibernate.type.json.JsonType;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.Type;
 
 import java.util.ArrayList;
@@ -23,16 +26,21 @@ import java.util.Map;
  *   parent_company_id bigint [ref: > companies.id]
  *   company_logo varchar(255)
  *   company_name varchar(100) [not null, unique]
+ *   normalized_company_name varchar(100) [not null, unique, note: "중복 판별용 정규화 이름 (NFKC, 공백 정리, 소문자)"]
  *   translations jsonb [note: "다국어 지원 이름"]
  *   descriptions jsonb [note: "다국어 지원"]
  *   independent_bottler boolean
  *   status DataStatus [not null, default: 'IN_REVIEW']
+ *   version bigint [not null, default: 0, note: "낙관적 락"]
  *   created_at timestamp [not null, default: `CURRENT_TIMESTAMP`]
  *   created_by bigint [ref: > users.id, not null]
  *   updated_at timestamp [not null, default: `CURRENT_TIMESTAMP`]
  *   updated_by bigint [ref: > users.id, not null]
  *   deleted_at timestamp
  *   deleted_by bigint [ref: > users.id]
+ *   indexes {
+ *     normalized_company_name [name: 'ix_companies_normalized_company_name_trgm', note: "gin_trgm_ops, 이름 부분 검색, partial: WHERE deleted_at IS NULL (db/indexes.sql)"]
+ *   }
  * }
  * </pre>
  */
@@ -40,13 +48,14 @@ import java.util.Map;
 @Getter
 @SuperBuilder(toBuilder = true)
 @Entity
+@DynamicUpdate
 @Table(name = "companies")
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Company extends SoftDeletable implements RevisableEntity {
 
     @Id
-    @SequenceGenerator(name = "company_seq", sequenceName = "company_sequence")
+    @SequenceGenerator(name = "company_seq", sequenceName = "company_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "company_seq")
     private Long id;
 
@@ -60,6 +69,9 @@ public class Company extends SoftDeletable implements RevisableEntity {
     @Column(name = "company_name", nullable = false, length = 100, unique = true)
     private String companyName;
 
+    @Column(name = "normalized_company_name", nullable = false, length = 100, unique = true)
+    private String normalizedCompanyName;
+
     @Type(JsonType.class)
     @Column(name = "translations", columnDefinition = "jsonb")
     private Map<LanguageCode, String> translations;
@@ -76,21 +88,45 @@ public class Company extends SoftDeletable implements RevisableEntity {
     @Column(name = "status", nullable = false, columnDefinition = "varchar(20) default 'IN_REVIEW'")
     private DataStatus status = DataStatus.DRAFT;
 
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     // =========================== Relationships ===========================
     @Builder.Default
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "parentCompany", fetch = FetchType.LAZY)
     private List<Company> childCompanies = new ArrayList<>();
 
     @Builder.Default
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "company", fetch = FetchType.LAZY)
     private List<Distillery> distilleries = new ArrayList<>();
 
     @Builder.Default
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "company", fetch = FetchType.LAZY)
     private List<Brand> brands = new ArrayList<>();
 
+    @PrePersist
+    void normalizeCompanyName() {
+        this.normalizedCompanyName = NameNormalizer.normalize(companyName);
+    }
+
     @Override
     public void updateStatus(DataStatus status) {
         this.status = status;
     }
+
+    public void updateBaseData(Company parentCompany, String companyLogo, String companyName,
+                               Map<LanguageCode, String> translations, Map<LanguageCode, String> descriptions,
+                               Boolean independentBottler) {
+        this.parentCompany = parentCompany;
+        this.companyLogo = companyLogo;
+        this.companyName = companyName;
+        this.normalizedCompanyName = NameNormalizer.normalize(companyName);
+        this.translations = translations;
+        this.descriptions = descriptions;
+        this.independentBottler = independentBottler;
+    }
 }
@@ -0,0 +1,15 @@
+package com.otterdram.otterdram.domain.spirits.company.dto;
+
+import com.otterdram.otterdram.common.enums.common.DataStatus;
+
+/**
+ * 회사 계층 재귀 조회 결과 행 (인터페이스 프로젝션).
+ * depth 는 조회 기준 회사로부터의 거리이며 기준 회사 자신은 0 이다.
+ */
+public interface CompanyHierarchyRow {
+    Long getId();
+    Long getParentCompanyId();
+    String getCompanyName();
+    DataStatus getStatus();
+    Integer getDepth();
+}
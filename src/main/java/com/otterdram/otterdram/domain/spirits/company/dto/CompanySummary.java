@@ -0,0 +1,21 @@
+package com.otterdram.otterdram.domain.spirits.company.dto;
+
+import com.otterdram.otterdram.common.enums.common.DataStatus;
+
+/**
+ * 회사 목록용 요약.
+ * <p>
+ * 목록 화면에 필요한 컬럼만 조회하며 jsonb(translations/descriptions) 와 연관 컬렉션은 로딩하지 않는다.
+ * 증류소/브랜드 수는 SQL 서브쿼리로 계산한다.
+ */
+public record CompanySummary(
+    Long id,
+    String companyName,
+    String companyLogo,
+    Long parentCompanyId,
+    Boolean independentBottler,
+    DataStatus status,
+    long distilleryCount,
+    long brandCount
+) {
+}
@@ -0,0 +1,24 @@
+package com.otterdram.otterdram.domain.spirits.company.dto;
+
+import com.otterdram.otterdram.common.enums.common.DataStatus;
+import com.otterdram.otterdram.common.utils.NameNormalizer;
+
+/**
+ * 회사 목록 조회 조건.
+ *
+ * @param status             데이터 상태 (null 이면 CONFIRMED)
+ * @param independentBottler 독립 병입자 여부 필터 (선택)
+ * @param q                  이름 부분 검색어 (선택, 정규화 이름 기준으로 비교)
+ */
+public record CompanySummaryCondition(
+    DataStatus status,
+    Boolean independentBottler,
+    String q
+) {
+    public CompanySummaryCondition {
+        if (status == null) {
+            status = DataStatus.CONFIRMED;
+        }
+        q = q == null || q.isBlank() ? null : NameNormalizer.normalize(q);
+    }
+}
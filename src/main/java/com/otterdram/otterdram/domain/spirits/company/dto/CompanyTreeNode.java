@@ -0,0 +1,45 @@
+package com.otterdram.otterdram.domain.spirits.company.dto;
+
+import com.otterdram.otterdram.common.enums.common.DataStatus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회사 그룹 트리 노드.
+ */
+public record CompanyTreeNode(
+    Long id,
+    String companyName,
+    DataStatus status,
+    Integer depth,
+    List<CompanyTreeNode> children
+) {
+
+    /**
+     * 재귀 조회 결과(루트 depth = 0)를 트리로 조립한다.
+     * 행은 부모가 자식보다 먼저 나오도록 depth 오름차순이어야 한다.
+     */
+    public static CompanyTreeNode assemble(List<? extends CompanyHierarchyRow> rows) {
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("Company hierarchy rows must not be empty.");
+        }
+        Map<Long, List<CompanyHierarchyRow>> childrenByParent = new LinkedHashMap<>();
+        for (CompanyHierarchyRow row : rows) {
+            if (row.getDepth() > 0) {
+                childrenByParent.computeIfAbsent(row.getParentCompanyId(), key -> new ArrayList<>()).add(row);
+            }
+        }
+        return toNode(rows.getFirst(), childrenByParent);
+    }
+
+    private static CompanyTreeNode toNode(CompanyHierarchyRow row, Map<Long, List<CompanyHierarchyRow>> childrenByParent) {
+        List<CompanyTreeNode> children = childrenByParent.getOrDefault(row.getId(), Collections.emptyList()).stream()
+                .map(child -> toNode(child, childrenByParent))
+                .toList();
+        return new CompanyTreeNode(row.getId(), row.getCompanyName(), row.getStatus(), row.getDepth(), children);
+    }
+}
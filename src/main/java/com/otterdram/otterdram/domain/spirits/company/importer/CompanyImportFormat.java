@@ -0,0 +1,27 @@
+package com.otterdram.otterdram.domain.spirits.company.importer;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * 회사 일괄 등록 파일 형식.
+ * <ul>
+ *   <li>CSV: 헤더 행 필수. 컬럼명은 CompanyBaseData 필드명과 같고 translations/descriptions 는 JSON 객체 문자열</li>
+ *   <li>JSON: CompanyBaseData 객체의 최상위 배열</li>
+ * </ul>
+ */
+public enum CompanyImportFormat {
+    CSV,
+    JSON;
+
+    public static CompanyImportFormat fromFileName(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".json")) {
+            return JSON;
+        }
+        throw new IllegalArgumentException("Cannot determine import format from file name: " + file);
+    }
+}
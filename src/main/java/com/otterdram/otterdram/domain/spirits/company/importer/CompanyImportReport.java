@@ -0,0 +1,22 @@
+package com.otterdram.otterdram.domain.spirits.company.importer;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 회사 일괄 등록 결과.
+ *
+ * @param totalRows    읽은 행 수
+ * @param imported     등록된 행 수
+ * @param rejected     거부된 행 수 (사유는 rejectedFile 에 기록)
+ * @param rejectedFile 거부 행 파일 (JSON Lines)
+ * @param elapsed      소요 시간
+ */
+public record CompanyImportReport(
+    long totalRows,
+    long imported,
+    long rejected,
+    Path rejectedFile,
+    Duration elapsed
+) {
+}
@@ -0,0 +1,44 @@
+package com.otterdram.otterdram.domain.spirits.company.importer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * 기동 인자로 회사 일괄 등록을 실행한다.
+ * <pre>
+ * --otterdram.import.company.file=companies.csv
+ * [--otterdram.import.company.format=CSV|JSON]          (기본: 확장자로 판별)
+ * [--otterdram.import.company.rejected-file=rejected.jsonl] (기본: {file}.rejected.jsonl)
+ * [--otterdram.import.company.chunk-size=1000]
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "otterdram.import.company", name = "file")
+public class CompanyImportRunner implements ApplicationRunner {
+    private final CompanyImportService companyImportService;
+
+    @Value("${otterdram.import.company.file}")
+    private Path file;
+
+    @Value("${otterdram.import.company.format:#{null}}")
+    private CompanyImportFormat format;
+
+    @Value("${otterdram.import.company.rejected-file:#{null}}")
+    private Path rejectedFile;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        companyImportService.importFile(
+                file,
+                format != null ? format : CompanyImportFormat.fromFileName(file),
+                rejectedFile != null ? rejectedFile : file.resolveSibling(file.getFileName() + ".rejected.jsonl")
+        );
+    }
+}
@@ -0,0 +1,305 @@
+package com.otterdram.otterdram.domain.spirits.company.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.otterdram.otterdram.common.utils.NameNormalizer;
+import com.otterdram.otterdram.domain.spirits.company.dto.CompanyBaseData;
+import com.otterdram.otterdram.domain.spirits.company.dto.CompanyCreateRequest;
+import com.otterdram.otterdram.domain.spirits.company.repository.CompanyRepository;
+import com.otterdram.otterdram.domain.spirits.company.service.CompanyService;
+import com.otterdram.otterdram.domain.spirits.revision.codec.RevisionPayloadCodec;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 회사 일괄 등록.
+ * <p>
+ * 파일을 스트리밍으로 chunkSize 행씩 읽어 다음 순서로 처리한다.
+ * <ol>
+ *   <li>행 단위 검증 (Bean Validation) 을 병렬로 수행</li>
+ *   <li>파일 내 정규화 이름 중복 제거</li>
+ *   <li>기존 회사 이름/부모 회사 존재 여부를 chunk 당 IN 쿼리 한 번씩으로 확인</li>
+ *   <li>{@link CompanyService#createAll} 로 chunk 단위 트랜잭션에서 JDBC 배치 INSERT</li>
+ * </ol>
+ * 거부된 행은 행 번호와 사유를 JSON Lines 형식으로 rejectedFile 에 기록한다.
+ * chunk INSERT 가 동시 등록 등으로 유니크 제약에 걸리면 해당 chunk 만 행 단위 등록으로 다시 처리한다.
+ */
+@Slf4j
+@Service
+public class CompanyImportService {
+    private static final int MAX_LOGO_LENGTH = 255;
+
+    private final CompanyService companyService;
+    private final CompanyRepository companyRepository;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = new CsvMapper();
+    private final int chunkSize;
+
+    public CompanyImportService(CompanyService companyService,
+                                CompanyRepository companyRepository,
+                                Validator validator,
+                                ObjectMapper objectMapper,
+                                @Value("${otterdram.import.company.chunk-size:1000}") int chunkSize) {
+        this.companyService = companyService;
+        this.companyRepository = companyRepository;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    public CompanyImportReport importFile(Path source, CompanyImportFormat format, Path rejectedFile) {
+        long startedAt = System.nanoTime();
+        Progress progress = new Progress();
+        Set<String> seenNames = new HashSet<>();
+
+        try (RowReader reader = openReader(source, format);
+             BufferedWriter rejectedWriter = Files.newBufferedWriter(rejectedFile)) {
+            List<SourceRow> chunk = new ArrayList<>(chunkSize);
+            SourceRow row;
+            while ((row = reader.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    processChunk(chunk, seenNames, rejectedWriter, progress);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(chunk, seenNames, rejectedWriter, progress);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Company import failed: " + source, e);
+        }
+
+        CompanyImportReport report = new CompanyImportReport(progress.total, progress.imported, progress.rejected,
+                rejectedFile, Duration.ofNanos(System.nanoTime() - startedAt));
+        log.info("Company import finished: {} rows, {} imported, {} rejected in {} ms (rejected rows: {})",
+                report.totalRows(), report.imported(), report.rejected(), report.elapsed().toMillis(), rejectedFile);
+        return report;
+    }
+
+    private void processChunk(List<SourceRow> chunk, Set<String> seenNames, BufferedWriter rejectedWriter,
+                              Progress progress) throws IOException {
+        progress.total += chunk.size();
+
+        // 1. 행 단위 검증 (병렬)
+        List<ValidatedRow> validated = chunk.parallelStream().map(this::validate).toList();
+
+        // 2. 파일 내 중복 제거
+        List<ValidatedRow> candidates = new ArrayList<>(validated.size());
+        for (ValidatedRow row : validated) {
+            if (row.error() != null) {
+                reject(rejectedWriter, progress, row.source(), row.error());
+            } else if (!seenNames.add(row.normalizedName())) {
+                reject(rejectedWriter, progress, row.source(), "Duplicate company name in import file.");
+            } else {
+                candidates.add(row);
+            }
+        }
+
+        // 3. 기존 데이터 대비 검증 (chunk 당 IN 쿼리 한 번씩)
+        Set<String> existingNames = candidates.isEmpty() ? Set.of() : Set.copyOf(
+                companyRepository.findNormalizedCompanyNamesIn(candidates.stream().map(ValidatedRow::normalizedName).toList()));
+        Set<Long> parentIds = candidates.stream()
+                .map(row -> row.request().companyBaseData().parentCompanyId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> existingParentIds = parentIds.isEmpty() ? Set.of() : Set.copyOf(companyRepository.findIdsByIdIn(parentIds));
+
+        List<ValidatedRow> accepted = new ArrayList<>(candidates.size());
+        for (ValidatedRow row : candidates) {
+            Long parentCompanyId = row.request().companyBaseData().parentCompanyId();
+            if (existingNames.contains(row.normalizedName())) {
+                reject(rejectedWriter, progress, row.source(),
+                        "Company with name '" + row.request().companyBaseData().companyName() + "' already exists.");
+            } else if (parentCompanyId != null && !existingParentIds.contains(parentCompanyId)) {
+                reject(rejectedWriter, progress, row.source(), "Parent company '" + parentCompanyId + "' not found.");
+            } else {
+                accepted.add(row);
+            }
+        }
+
+        // 4. chunk 단위 배치 INSERT
+        if (!accepted.isEmpty()) {
+            insert(accepted, rejectedWriter, progress);
+        }
+        log.info("Company import progress: {} rows read, {} imported, {} rejected",
+                progress.total, progress.imported, progress.rejected);
+    }
+
+    private void insert(List<ValidatedRow> accepted, BufferedWriter rejectedWriter, Progress progress) throws IOException {
+        try {
+            companyService.createAll(accepted.stream().map(ValidatedRow::request).toList());
+            progress.imported += accepted.size();
+        } catch (DataIntegrityViolationException e) {
+            // 검증 이후 다른 트랜잭션이 같은 이름을 등록한 경우: 해당 chunk 만 행 단위로 다시 처리
+            log.warn("Batch insert of {} companies failed, retrying row by row: {}", accepted.size(), e.getMostSpecificCause().getMessage());
+            for (ValidatedRow row : accepted) {
+                try {
+                    companyService.create(row.request());
+                    progress.imported++;
+                } catch (IllegalArgumentException | DataIntegrityViolationException rowFailure) {
+                    reject(rejectedWriter, progress, row.source(), rowFailure.getMessage());
+                }
+            }
+        }
+    }
+
+    private ValidatedRow validate(SourceRow row) {
+        if (row.error() != null) {
+            return ValidatedRow.invalid(row, row.error());
+        }
+        CompanyBaseData baseData = row.baseData();
+        Set<ConstraintViolation<CompanyBaseData>> violations = validator.validate(baseData);
+        if (!violations.isEmpty()) {
+            return ValidatedRow.invalid(row, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        if (baseData.companyLogo() != null && baseData.companyLogo().length() > MAX_LOGO_LENGTH) {
+            return ValidatedRow.invalid(row, "Company logo must be at most " + MAX_LOGO_LENGTH + " characters long");
+        }
+        return new ValidatedRow(row,
+                new CompanyCreateRequest(RevisionPayloadCodec.CURRENT_SCHEMA_VERSION, baseData),
+                NameNormalizer.normalize(baseData.companyName()),
+                null);
+    }
+
+    private void reject(BufferedWriter rejectedWriter, Progress progress, SourceRow row, String reason) throws IOException {
+        String companyName = row.baseData() != null ? row.baseData().companyName() : null;
+        rejectedWriter.write(objectMapper.writeValueAsString(new RejectedRow(row.rowNumber(), companyName, reason)));
+        rejectedWriter.newLine();
+        progress.rejected++;
+    }
+
+    private RowReader openReader(Path source, CompanyImportFormat format) throws IOException {
+        InputStream input = Files.newInputStream(source);
+        try {
+            return switch (format) {
+                case CSV -> new RowReader(
+                        csvMapper.readerFor(Map.class).with(CsvSchema.emptySchema().withHeader()).readValues(input),
+                        this::fromCsvRow);
+                case JSON -> new RowReader(
+                        objectMapper.readerFor(CompanyBaseData.class).readValues(input),
+                        CompanyBaseData.class::cast);
+            };
+        } catch (IOException | RuntimeException e) {
+            input.close();
+            throw e;
+        }
+    }
+
+    /**
+     * CSV 행을 CompanyBaseData 로 변환한다. 빈 칸은 null 로, translations/descriptions 는 JSON 객체로 해석한다.
+     */
+    private CompanyBaseData fromCsvRow(Object value) {
+        ObjectNode node = objectMapper.createObjectNode();
+        for (Map.Entry<?, ?> column : ((Map<?, ?>) value).entrySet()) {
+            String key = String.valueOf(column.getKey());
+            String cell = column.getValue() != null ? column.getValue().toString().strip() : "";
+            if (cell.isEmpty()) {
+                continue;
+            }
+            if (key.equals("translations") || key.equals("descriptions")) {
+                node.set(key, readJson(cell));
+            } else {
+                node.put(key, cell);
+            }
+        }
+        try {
+            return objectMapper.treeToValue(node, CompanyBaseData.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e.getOriginalMessage(), e);
+        }
+    }
+
+    private JsonNode readJson(String cell) {
+        try {
+            return objectMapper.readTree(cell);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid JSON object: " + cell, e);
+        }
+    }
+
+    private record SourceRow(long rowNumber, CompanyBaseData baseData, String error) {
+    }
+
+    private record ValidatedRow(SourceRow source, CompanyCreateRequest request, String normalizedName, String error) {
+        static ValidatedRow invalid(SourceRow source, String error) {
+            return new ValidatedRow(source, null, null, error);
+        }
+    }
+
+    private record RejectedRow(long row, String companyName, String reason) {
+    }
+
+    private static final class Progress {
+        long total;
+        long imported;
+        long rejected;
+    }
+
+    /**
+     * 파일을 한 행씩 읽는다. 행 변환 실패는 해당 행의 오류로 기록하고, 파일 구조 자체가 깨진 경우는 중단한다.
+     */
+    private static final class RowReader implements Closeable {
+        private final MappingIterator<?> iterator;
+        private final Function<Object, CompanyBaseData> converter;
+        private long rowNumber;
+
+        RowReader(MappingIterator<?> iterator, Function<Object, CompanyBaseData> converter) {
+            this.iterator = iterator;
+            this.converter = converter;
+        }
+
+        SourceRow next() throws IOException {
+            Object value;
+            try {
+                if (!iterator.hasNextValue()) {
+                    return null;
+                }
+                value = iterator.nextValue();
+            } catch (IOException | RuntimeException e) {
+                throw new IllegalArgumentException("Malformed import file after row " + rowNumber + ": " + e.getMessage(), e);
+            }
+            rowNumber++;
+            try {
+                return new SourceRow(rowNumber, converter.apply(value), null);
+            } catch (IllegalArgumentException e) {
+                return new SourceRow(rowNumber, null, e.getMessage());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            iterator.close();
+        }
+    }
+}
@@ -1,8 +1,165 @@
 package com.otterdram.otterdram.domain.spirits.company.repository;
 
+import com.otterdram.otterdram.common.enums.common.DataStatus;
 import com.otterdram.otterdram.domain.spirits.company.Company;
+import com.otterdram.otterdram.domain.spirits.company.dto.CompanyHierarchyRow;
+import com.otterdram.otterdram.domain.spirits.company.dto.CompanySummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface CompanyRepository extends JpaRepository<Company, Long> {
-    boolean existsByCompanyName(String companyName);
+    /**
+     * 정규화 이름으로 중복을 확인한다. ux_companies_normalized_company_name 유니크 인덱스 한 번의 탐색으로 끝난다.
+     */
+    boolean existsByNormalizedCompanyName(String normalizedCompanyName);
+
+    /**
+     * 자기 자신을 제외하고 정규화 이름 중복을 확인한다. 이름을 바꾸는 리비전의 제출/승인 시점 검증에 사용한다.
+     */
+    boolean existsByNormalizedCompanyNameAndIdNot(String normalizedCompanyName, Long id);
+
+    /**
+     * 주어진 정규화 이름 중 이미 등록된 이름. 일괄 등록 시 배치 단위 중복 검증에 사용한다.
+     */
+    @Query("select c.normalizedCompanyName from Company c where c.normalizedCompanyName in :names")
+    List<String> findNormalizedCompanyNamesIn(@Param("names") Collection<String> normalizedCompanyNames);
+
+    @Query("select c.id from Company c where c.id in :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 회사 목록 요약. 엔티티를 로딩하지 않고 목록에 필요한 컬럼과 증류소/브랜드 수만 조회한다.
+     * q 는 정규화된 뒤 LIKE 메타문자(\, %, _)가 escape 된 검색어여야 한다.
+     * 앞뒤 와일드카드라 B-tree 를 탈 수 없으므로 트라이그램 인덱스(ix_companies_normalized_company_name_trgm)를 쓴다.
+     */
+    @Query(value = """
+            select new com.otterdram.otterdram.domain.spirits.company.dto.CompanySummary(
+                c.id, c.companyName, c.companyLogo, c.parentCompany.id, c.independentBottler, c.status,
+                (select count(d) from Distillery d where d.company = c and d.deletedAt is null),
+                (select count(b) from Brand b where b.company = c and b.deletedAt is null))
+            from Company c
+            where c.deletedAt is null
+              and c.status = :status
+              and (:independentBottler is null or c.independentBottler = :independentBottler)
+              and (:q is null or c.normalizedCompanyName like concat('%', :q, '%') escape '\\')
+            order by c.companyName asc, c.id asc
+            """,
+            countQuery = """
+            select count(c)
+            from Company c
+            where c.deletedAt is null
+              and c.status = :status
+              and (:independentBottler is null or c.independentBottler = :independentBottler)
+              and (:q is null or c.normalizedCompanyName like concat('%', :q, '%') escape '\\')
+            """)
+    Page<CompanySummary> findSummaries(@Param("status") DataStatus status,
+                                       @Param("independentBottler") Boolean independentBottler,
+                                       @Param("q") String q,
+                                       Pageable pageable);
+
+    /**
+     * 회사와 모든 하위 회사를 재귀 CTE 한 번으로 조회한다. 기준 회사는 depth 0 이다.
+     * 방문 경로(path)에 이미 있는 회사는 다시 따라가지 않으므로 잘못된 순환 데이터가 있어도 종료된다.
+     */
+    @Query(value = """
+            with recursive subtree(id, parent_company_id, company_name, status, depth, path) as (
+                select c.id, c.parent_company_id, c.company_name, c.status, 0, array[c.id]
+                from companies c
+                where c.id = :companyId
+                  and c.deleted_at is null
+                union all
+                select c.id, c.parent_company_id, c.company_name, c.status, s.depth + 1, s.path || c.id
+                from companies c
+                join subtree s on c.parent_company_id = s.id
+                where c.deleted_at is null
+                  and c.id <> all(s.path)
+            )
+            select id, parent_company_id as parentCompanyId, company_name as companyName, status, depth
+            from subtree
+            order by depth, company_name
+            """, nativeQuery = true)
+    List<CompanyHierarchyRow> findSubtree(@Param("companyId") Long companyId);
+
+    /**
+     * 회사에서 최상위 회사까지의 상위 체인을 조회한다. 기준 회사는 depth 0, 부모는 depth 1 이다.
+     */
+    @Query(value = """
+            with recursive ancestors(id, parent_company_id, company_name, status, depth, path) as (
+                select c.id, c.parent_company_id, c.company_name, c.status, 0, array[c.id]
+                from companies c
+                where c.id = :companyId
+                  and c.deleted_at is null
+                union all
+                select c.id, c.parent_company_id, c.company_name, c.status, a.depth + 1, a.path || c.id
+                from companies c
+                join ancestors a on c.id = a.parent_company_id
+                where c.deleted_at is null
+                  and c.id <> all(a.path)
+            )
+            select id, parent_company_id as parentCompanyId, company_name as companyName, status, depth
+            from ancestors
+            order by depth
+            """, nativeQuery = true)
+    List<CompanyHierarchyRow> findAncestors(@Param("companyId") Long companyId);
+
+    /**
+     * 회사가 속한 그룹 전체를 조회한다.
+     * 상위 체인을 따라 최상위 회사를 찾고 그 회사의 하위 트리를 같은 쿼리에서 펼친다. 최상위 회사는 depth 0 이다.
+     */
+    @Query(value = """
+            with recursive ancestors(id, parent_company_id, path) as (
+                select c.id, c.parent_company_id, array[c.id]
+                from companies c
+                where c.id = :companyId
+                  and c.deleted_at is null
+                union all
+                select c.id, c.parent_company_id, a.path || c.id
+                from companies c
+                join ancestors a on c.id = a.parent_company_id
+                where c.deleted_at is null
+                  and c.id <> all(a.path)
+            ),
+            root as (
+                select id from ancestors order by cardinality(path) desc limit 1
+            ),
+            subtree(id, parent_company_id, company_name, status, depth, path) as (
+                select c.id, c.parent_company_id, c.company_name, c.status, 0, array[c.id]
+                from companies c
+                join root r on c.id = r.id
+                union all
+                select c.id, c.parent_company_id, c.company_name, c.status, s.depth + 1, s.path || c.id
+                from companies c
+                join subtree s on c.parent_company_id = s.id
+                where c.deleted_at is null
+                  and c.id <> all(s.path)
+            )
+            select id, parent_company_id as parentCompanyId, company_name as companyName, status, depth
+            from subtree
+            order by depth, company_name
+            """, nativeQuery = true)
+    List<CompanyHierarchyRow> findGroupTree(@Param("companyId") Long companyId);
+
+    /**
+     * candidateId 의 상위 체인(자신 포함)에 companyId 가 있는지 확인한다.
+     * true 이면 companyId 의 부모를 candidateId 로 지정할 때 순환이 생긴다.
+     */
+    @Query(value = """
+            with recursive ancestors(id, parent_company_id) as (
+                select c.id, c.parent_company_id
+                from companies c
+                where c.id = :candidateId
+                union
+                select c.id, c.parent_company_id
+                from companies c
+                join ancestors a on c.id = a.parent_company_id
+            )
+            select exists(select 1 from ancestors where id = :companyId)
+            """, nativeQuery = true)
+    boolean isAncestorOrSelf(@Param("companyId") Long companyId, @Param("candidateId") Long candidateId);
 }
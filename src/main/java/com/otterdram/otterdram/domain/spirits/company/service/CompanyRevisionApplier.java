@@ -0,0 +1,82 @@
+package com.otterdram.otterdram.domain.spirits.company.service;
+
+import com.otterdram.otterdram.common.enums.common.DataStatus;
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+import com.otterdram.otterdram.common.utils.NameNormalizer;
+import com.otterdram.otterdram.domain.spirits.company.Company;
+import com.otterdram.otterdram.domain.spirits.company.dto.CompanyBaseData;
+import com.otterdram.otterdram.domain.spirits.company.dto.CompanyRevisionPayload;
+import com.otterdram.otterdram.domain.spirits.company.repository.CompanyRepository;
+import com.otterdram.otterdram.domain.spirits.revision.EntityRevision;
+import com.otterdram.otterdram.domain.spirits.revision.applier.RevisionApplier;
+import com.otterdram.otterdram.domain.spirits.revision.codec.RevisionPayloadCodec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+public class CompanyRevisionApplier implements RevisionApplier<Company> {
+    private final CompanyRepository companyRepository;
+    private final RevisionPayloadCodec revisionPayloadCodec;
+
+    @Override
+    public RevisionTargetEntity targetEntity() {
+        return RevisionTargetEntity.COMPANY;
+    }
+
+    @Override
+    public List<Company> findTargets(Collection<Long> entityIds) {
+        return companyRepository.findAllById(entityIds);
+    }
+
+    @Override
+    public void approve(Company company, EntityRevision revision) {
+        CompanyBaseData baseData = revisionPayloadCodec.read(revision, CompanyRevisionPayload.class).companyBaseData();
+        checkNameAvailable(company, baseData.companyName());
+
+        company.updateBaseData(
+                resolveParentCompany(company, baseData.parentCompanyId()),
+                baseData.companyLogo(),
+                baseData.companyName(),
+                baseData.translations(),
+                baseData.descriptions(),
+                baseData.independentBottler()
+        );
+        company.updateStatus(DataStatus.CONFIRMED);
+    }
+
+    @Override
+    public void reject(Company company, EntityRevision revision) {
+        company.updateStatus(revisionPayloadCodec.read(revision, CompanyRevisionPayload.class).snapshotStatus());
+    }
+
+    private void checkNameAvailable(Company company, String companyName) {
+        String normalizedName = NameNormalizer.normalize(companyName);
+        if (Objects.equals(normalizedName, company.getNormalizedCompanyName())) {
+            return;
+        }
+        // 제출 이후 다른 회사가 같은 이름을 차지했을 수 있으므로 엔티티를 변경하기 전에 다시 검증
+        if (companyRepository.existsByNormalizedCompanyNameAndIdNot(normalizedName, company.getId())) {
+            throw new IllegalStateException("Company with name '" + companyName + "' already exists.");
+        }
+    }
+
+    private Company resolveParentCompany(Company company, Long parentCompanyId) {
+        if (parentCompanyId == null) {
+            return null;
+        }
+        Company current = company.getParentCompany();
+        if (current != null && Objects.equals(current.getId(), parentCompanyId)) {
+            return current;
+        }
+        // 제출 이후 계층이 바뀌었을 수 있으므로 승인 시점에 다시 검증
+        if (companyRepository.isAncestorOrSelf(company.getId(), parentCompanyId)) {
+            throw new IllegalStateException("Parent company '" + parentCompanyId + "' would create a cycle in the company hierarchy.");
+        }
+        return companyRepository.getReferenceById(parentCompanyId);
+    }
+}
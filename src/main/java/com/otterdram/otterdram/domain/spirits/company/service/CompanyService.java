@@ -1,24 +1,42 @@
 package com.otterdram.otterdram.domain.spirits.company.service;
 
 import com.otterdram.otterdram.common.enums.common.DataStatus;
+import com.otterdram.otterdram.common.outbox.OutboxService;
+import com.otterdram.otterdram.common.utils.NameNormalizer;
+import com.otterdram.otterdram.domain.spirits.company.dto.CompanyBaseData;
 import com.otterdram.otterdram.domain.spirits.company.dto.CompanyCreateRequest;
+import com.otterdram.otterdram.domain.spirits.company.dto.CompanyHierarchyRow;
+import com.otterdram.otterdram.domain.spirits.company.dto.CompanySummary;
+import com.otterdram.otterdram.domain.spirits.company.dto.CompanySummaryCondition;
+import com.otterdram.otterdram.domain.spirits.company.dto.CompanyTreeNode;
 import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
 import com.otterdram.otterdram.domain.spirits.company.Company;
 import com.otterdram.otterdram.domain.spirits.company.dto.CompanyResponse;
 import com.otterdram.otterdram.domain.spirits.company.dto.CompanyRevisionPayload;
 import com.otterdram.otterdram.domain.spirits.company.mapper.CompanyMapper;
 import com.otterdram.otterdram.domain.spirits.company.repository.CompanyRepository;
+import com.otterdram.otterdram.domain.spirits.revision.codec.RevisionPayloadCodec;
 import com.otterdram.otterdram.domain.spirits.revision.service.RevisableEntityService;
 import com.otterdram.otterdram.domain.spirits.revision.repository.RevisionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
 public class CompanyService extends RevisableEntityService<Company, Long, CompanyCreateRequest, CompanyResponse, CompanyRevisionPayload> {
     private final CompanyRepository companyRepository;
     private final RevisionRepository revisionRepository;
+    private final RevisionPayloadCodec revisionPayloadCodec;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxService outboxService;
 
     @Override protected JpaRepository<Company, Long> getRepository() {
         return companyRepository;
@@ -28,6 +46,18 @@ public class CompanyService extends RevisableEntityService<Company, Long, Compan
         return revisionRepository;
     }
 
+    @Override protected RevisionPayloadCodec getRevisionPayloadCodec() {
+        return revisionPayloadCodec;
+    }
+
+    @Override protected TransactionTemplate getTransactionTemplate() {
+        return transactionTemplate;
+    }
+
+    @Override protected OutboxService getOutboxService() {
+        return outboxService;
+    }
+
     @Override protected RevisionTargetEntity targetEntity() {
         return RevisionTargetEntity.COMPANY;
     }
@@ -35,11 +65,62 @@ public class CompanyService extends RevisableEntityService<Company, Long, Compan
     @Override
     protected void checkUniqueness(CompanyCreateRequest companyCreateRequest) {
         String name = companyCreateRequest.companyBaseData().companyName();
-        if (companyRepository.existsByCompanyName(name)) {
+        if (companyRepository.existsByNormalizedCompanyName(NameNormalizer.normalize(name))) {
             throw new IllegalArgumentException("Company with name '" + name + "' already exists.");
         }
     }
 
+    @Override
+    protected void validateRevision(Company existing, CompanyCreateRequest companyCreateRequest) {
+        Long parentCompanyId = companyCreateRequest.companyBaseData().parentCompanyId();
+        if (parentCompanyId != null && companyRepository.isAncestorOrSelf(existing.getId(), parentCompanyId)) {
+            throw new IllegalArgumentException("Parent company '" + parentCompanyId + "' would create a cycle in the company hierarchy.");
+        }
+        String name = companyCreateRequest.companyBaseData().companyName();
+        String normalizedName = NameNormalizer.normalize(name);
+        if (!Objects.equals(normalizedName, existing.getNormalizedCompanyName())
+                && companyRepository.existsByNormalizedCompanyNameAndIdNot(normalizedName, existing.getId())) {
+            throw new IllegalArgumentException("Company with name '" + name + "' already exists.");
+        }
+    }
+
+    /**
+     * 회사 목록을 프로젝션으로 조회한다. 엔티티 그래프를 로딩하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public Page<CompanySummary> getSummaries(CompanySummaryCondition condition, Pageable pageable) {
+        String q = condition.q() == null ? null : escapeLike(condition.q());
+        return companyRepository.findSummaries(condition.status(), condition.independentBottler(), q, pageable);
+    }
+
+    /**
+     * 회사가 속한 그룹 전체(최상위 회사 기준)를 트리로 조회한다. 쿼리는 한 번만 실행된다.
+     */
+    @Transactional(readOnly = true)
+    public CompanyTreeNode getGroupTree(Long companyId) {
+        List<CompanyHierarchyRow> rows = companyRepository.findGroupTree(companyId);
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("Entity with id '" + companyId + "' not found.");
+        }
+        return CompanyTreeNode.assemble(rows);
+    }
+
+    /**
+     * 회사와 모든 하위 회사를 depth 와 함께 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public List<CompanyHierarchyRow> getSubtree(Long companyId) {
+        return companyRepository.findSubtree(companyId);
+    }
+
+    /**
+     * 회사에서 최상위 회사까지의 상위 체인을 depth 와 함께 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public List<CompanyHierarchyRow> getAncestors(Long companyId) {
+        return companyRepository.findAncestors(companyId);
+    }
+
     @Override
     protected boolean hasAdditionalData(CompanyCreateRequest companyCreateRequest) {
         return companyCreateRequest.companyBaseData().parentCompanyId() != null ||
@@ -69,4 +150,23 @@ public class CompanyService extends RevisableEntityService<Company, Long, Compan
                 entity.getStatus()
         );
     }
+
+    @Override
+    protected CompanyRevisionPayload toSnapshotPayload(Company entity) {
+        return new CompanyRevisionPayload(
+                new CompanyBaseData(
+                        entity.getParentCompany() != null ? entity.getParentCompany().getId() : null,
+                        entity.getCompanyLogo(),
+                        entity.getCompanyName(),
+                        entity.getTranslations(),
+                        entity.getDescriptions(),
+                        entity.getIndependentBottler()
+                ),
+                entity.getStatus()
+        );
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
 }
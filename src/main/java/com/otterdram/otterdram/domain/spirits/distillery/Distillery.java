@@ -12,7 +12,9 @@ import com.otterdram.otterdram.domain.spirits.relation.DistilleryReleaseRelation
 import io.hypersistence.utils.hibernate.type.json.JsonType;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Type;
 
 import java.util.ArrayList;
@@ -44,13 +46,14 @@ import java.util.Map;
  * </pre>
  */
 
+@Getter
 @Entity
 @Table(name = "distilleries")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Distillery extends SoftDeletable /*implements RevisableEntity*/ {
 
     @Id
-    @SequenceGenerator(name = "distillery_seq", sequenceName = "distillery_sequence")
+    @SequenceGenerator(name = "distillery_seq", sequenceName = "distillery_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "distillery_seq")
     private Long id;
 
@@ -84,9 +87,11 @@ public class Distillery extends SoftDeletable /*implements RevisableEntity*/ {
     private DataStatus status = DataStatus.IN_REVIEW;
 
     // =========================== Relationships ===========================
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "distillery", fetch = FetchType.LAZY)
     private List<DistilleryBrandRelation> distilleryBrandRelations = new ArrayList<>();
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "distillery", fetch = FetchType.LAZY)
     private List<DistilleryReleaseRelation> distilleryReleaseRelations = new ArrayList<>();
 }
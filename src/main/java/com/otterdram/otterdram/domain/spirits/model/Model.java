@@ -10,7 +10,9 @@ import com.otterdram.otterdram.domain.spirits.release.Release;
 import io.hypersistence.utils.hibernate.type.json.JsonType;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Type;
 
 import java.util.ArrayList;
@@ -35,17 +37,35 @@ import java.util.Map;
  *   updated_by bigint [ref: > users.id, not null]
  *   deleted_at timestamp
  *   deleted_by bigint [ref: > users.id]
+ *   indexes {
+ *     category_id [name: 'ix_models_category_id', note: "partial: WHERE deleted_at IS NULL (db/indexes.sql)"]
+ *   }
  * }
  * </pre>
+ * <p>
+ * 조회 계획 {@value #GRAPH_DETAIL}: 컬렉션 → 브랜드 → 회사, 카테고리를 한 번에 읽는다.
  */
 
+@Getter
 @Entity
 @Table(name = "models")
+@NamedEntityGraph(
+        name = Model.GRAPH_DETAIL,
+        attributeNodes = {
+                @NamedAttributeNode(value = "collection", subgraph = "collection"),
+                @NamedAttributeNode("category")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "collection", attributeNodes = @NamedAttributeNode(value = "brand", subgraph = "brand")),
+                @NamedSubgraph(name = "brand", attributeNodes = @NamedAttributeNode("company"))
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Model extends SoftDeletable /*implements RevisableEntity*/ {
+    public static final String GRAPH_DETAIL = "Model.detail";
 
     @Id
-    @SequenceGenerator(name = "model_seq", sequenceName = "model_sequence")
+    @SequenceGenerator(name = "model_seq", sequenceName = "model_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "model_seq")
     private Long id;
 
@@ -76,6 +96,7 @@ public class Model extends SoftDeletable /*implements RevisableEntity*/ {
     private DataStatus status = DataStatus.IN_REVIEW;
 
     // =========================== Relationships ===========================
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "model", fetch = FetchType.LAZY)
     private List<Release> releases = new ArrayList<>();
 }
@@ -0,0 +1,19 @@
+package com.otterdram.otterdram.domain.spirits.model.repository;
+
+import com.otterdram.otterdram.domain.spirits.model.Model;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ModelRepository extends JpaRepository<Model, Long> {
+
+    /**
+     * 상세 화면: 컬렉션 → 브랜드 → 회사, 카테고리를 한 번에 읽는다 (문 1개).
+     */
+    @EntityGraph(Model.GRAPH_DETAIL)
+    @Query("select m from Model m where m.id = :id and m.deletedAt is null")
+    Optional<Model> findDetailById(@Param("id") Long id);
+}
@@ -5,6 +5,7 @@ import com.otterdram.otterdram.domain.spirits.brand.Brand;
 import com.otterdram.otterdram.domain.spirits.distillery.Distillery;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 /** Join Table for the many-to-many relationship between brands and distilleries
@@ -19,13 +20,14 @@ import lombok.NoArgsConstructor;
  * </pre>
  */
 
+@Getter
 @Entity
 @Table(name = "distillery_brand_relations",  uniqueConstraints = @UniqueConstraint(columnNames = {"distillery_id", "brand_id"}))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class DistilleryBrandRelation extends Creatable {
 
     @Id
-    @SequenceGenerator(name = "distillery_brand_relation_seq", sequenceName = "distillery_brand_relation_sequence")
+    @SequenceGenerator(name = "distillery_brand_relation_seq", sequenceName = "distillery_brand_relation_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "distillery_brand_relation_seq")
     private Long id;
 
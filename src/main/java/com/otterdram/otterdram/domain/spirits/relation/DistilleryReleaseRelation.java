@@ -5,6 +5,7 @@ import com.otterdram.otterdram.domain.spirits.distillery.Distillery;
 import com.otterdram.otterdram.domain.spirits.release.Release;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 /** Join Table for the many-to-many relationship between releases and distilleries
@@ -15,17 +16,21 @@ import lombok.NoArgsConstructor;
  *   distillery_id bigint [ref: > distilleries.id, not null]
  *   created_at timestamp [not null, default: `CURRENT_TIMESTAMP`]
  *   created_by bigint [ref: > users.id, not null]
+ *   indexes {
+ *     (distillery_id, release_id) [unique, name: 'ux_release_distillery_relations_distillery_release', note: "db/indexes.sql"]
+ *   }
  * }
  * </pre>
  */
 
+@Getter
 @Entity
-@Table(name = "distillery_release_relations",  uniqueConstraints = @UniqueConstraint(columnNames = {"distillery_id", "release_id"}))
+@Table(name = "release_distillery_relations",  uniqueConstraints = @UniqueConstraint(columnNames = {"distillery_id", "release_id"}))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class DistilleryReleaseRelation extends Creatable {
 
     @Id
-    @SequenceGenerator(name = "distillery_release_relation_seq", sequenceName = "distillery_release_sequence")
+    @SequenceGenerator(name = "distillery_release_relation_seq", sequenceName = "distillery_release_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "distillery_release_relation_seq")
     private Long id;
 
@@ -6,6 +6,7 @@ import com.otterdram.otterdram.domain.spirits.cask.Cask;
 import com.otterdram.otterdram.domain.spirits.release.Release;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 /** Join Table for the many-to-many relationship between releases and casks
@@ -19,17 +20,22 @@ import lombok.NoArgsConstructor;
  *   maturation_months smallint
  *   created_at timestamp [not null]
  *   created_by bigint [ref: > users.id, not null]
+ *   indexes {
+ *     (release_id, cask_id) [unique]
+ *     cask_id [name: 'ix_release_cask_relations_cask_id', note: "db/indexes.sql"]
+ *   }
  * }
  * </pre>
  */
 
+@Getter
 @Entity
 @Table(name = "release_cask_relations",  uniqueConstraints = @UniqueConstraint(columnNames = {"release_id", "cask_id"}))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ReleaseCaskRelation extends Creatable {
 
     @Id
-    @SequenceGenerator(name = "release_cask_relation_seq", sequenceName = "release_cask_relation_sequence")
+    @SequenceGenerator(name = "release_cask_relation_seq", sequenceName = "release_cask_relation_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "release_cask_relation_seq")
     private Long id;
 
@@ -39,13 +45,13 @@ public class ReleaseCaskRelation extends Creatable {
 
     @Enumerated(EnumType.STRING)
     @Column(name = "fill_number", nullable = false, columnDefinition = "varchar(20) default 'UNKNOWN'")
-    private FillNumber fillNumbger = FillNumber.UNKNOWN;
+    private FillNumber fillNumber = FillNumber.UNKNOWN;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "cask_id", nullable = false)
     private Cask cask;
 
-    @Column(name = "proportion", precision = 5, scale = 2)
+    @Column(name = "proportion", columnDefinition = "decimal(5,2)")
     private Double proportion;
 
     @Column(name = "maturation_months")
@@ -17,7 +17,9 @@ import com.otterdram.otterdram.domain.ugc.vial.Vial;
 import io.hypersistence.utils.hibernate.type.json.JsonType;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Type;
 
 import java.time.LocalDate;
@@ -53,17 +55,63 @@ import java.util.Map;
  *   updated_by bigint [ref: > users.id, not null]
  *   deleted_at timestamp
  *   deleted_by bigint [ref: > users.id]
+ *   indexes {
+ *     (status, release_name, id) [name: 'ix_releases_browse', note: "partial: WHERE deleted_at IS NULL (db/indexes.sql)"]
+ *     (model_id, release_name, id) [name: 'ix_releases_model_id', note: "partial: WHERE deleted_at IS NULL (db/indexes.sql)"]
+ *     (status, stated_age) [name: 'ix_releases_stated_age', note: "partial: WHERE deleted_at IS NULL AND stated_age IS NOT NULL (db/indexes.sql)"]
+ *     (status, peat_level, abv) [name: 'ix_releases_peat_abv', note: "partial: WHERE deleted_at IS NULL (db/indexes.sql)"]
+ *     (status, bottling_strength_type, abv) [name: 'ix_releases_strength_abv', note: "partial: WHERE deleted_at IS NULL (db/indexes.sql)"]
+ *     (status, release_name, id) [name: 'ix_releases_limited_edition', note: "partial: WHERE deleted_at IS NULL AND limited_edition (db/indexes.sql)"]
+ *     `lower(release_name)` [name: 'ix_releases_release_name_trgm', note: "gin_trgm_ops, 이름 부분 검색, partial: WHERE deleted_at IS NULL (db/indexes.sql)"]
+ *   }
  * }
  * </pre>
+ * <p>
+ * 조회 계획 (연관은 모두 LAZY 이므로 용도별로 한 번에 읽을 범위를 정한다)
+ * <ul>
+ *   <li>{@value #GRAPH_DETAIL}: 모델 → 컬렉션 → 브랜드 → 회사, 증류소를 함께 읽고 캐스크는 배치로 읽는다</li>
+ *   <li>{@value #GRAPH_LIST}: 모델만 함께 읽고 증류소는 페이지 단위 배치로 읽는다</li>
+ *   <li>{@value #GRAPH_ADMIN_EDIT}: 모델, 캐스크 구성을 함께 읽고 증류소는 배치로 읽는다</li>
+ * </ul>
+ * 두 {@code List} 컬렉션을 한 번에 fetch join 하면 MultipleBagFetchException 이 나므로 계획마다 하나만 조인한다.
  */
 
+@Getter
 @Entity
-@Table(name = "release")
+@Table(name = "releases")
+@NamedEntityGraph(
+        name = Release.GRAPH_DETAIL,
+        attributeNodes = {
+                @NamedAttributeNode(value = "model", subgraph = "model"),
+                @NamedAttributeNode(value = "distilleryReleaseRelations", subgraph = "distilleryReleaseRelation")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "model", attributeNodes = @NamedAttributeNode(value = "collection", subgraph = "collection")),
+                @NamedSubgraph(name = "collection", attributeNodes = @NamedAttributeNode(value = "brand", subgraph = "brand")),
+                @NamedSubgraph(name = "brand", attributeNodes = @NamedAttributeNode("company")),
+                @NamedSubgraph(name = "distilleryReleaseRelation", attributeNodes = @NamedAttributeNode("distillery"))
+        }
+)
+@NamedEntityGraph(
+        name = Release.GRAPH_LIST,
+        attributeNodes = @NamedAttributeNode("model")
+)
+@NamedEntityGraph(
+        name = Release.GRAPH_ADMIN_EDIT,
+        attributeNodes = {
+                @NamedAttributeNode("model"),
+                @NamedAttributeNode(value = "releaseCaskRelations", subgraph = "releaseCaskRelation")
+        },
+        subgraphs = @NamedSubgraph(name = "releaseCaskRelation", attributeNodes = @NamedAttributeNode("cask"))
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Release extends SoftDeletable /*implements RevisableEntity*/ {
+    public static final String GRAPH_DETAIL = "Release.detail";
+    public static final String GRAPH_LIST = "Release.list";
+    public static final String GRAPH_ADMIN_EDIT = "Release.adminEdit";
 
     @Id
-    @SequenceGenerator(name = "release_seq", sequenceName = "release_sequence")
+    @SequenceGenerator(name = "release_seq", sequenceName = "release_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "release_seq")
     private Long id;
 
@@ -104,7 +152,7 @@ public class Release extends SoftDeletable /*implements RevisableEntity*/ {
     @Column(name = "bottling_strength_type", nullable = false, columnDefinition = "varchar(20) default 'STANDARD'")
     private BottlingStrengthType bottlingStrengthType = BottlingStrengthType.STANDARD;
 
-    @Column(name = "abv", nullable = false, precision = 5, scale = 2)
+    @Column(name = "abv", nullable = false, columnDefinition = "decimal(5,2)")
     private Double abv;
 
     // =========================== Release Characteristics ===========================
@@ -136,9 +184,11 @@ public class Release extends SoftDeletable /*implements RevisableEntity*/ {
     private DataStatus status = DataStatus.IN_REVIEW;
 
     // =========================== Relationships ===========================
-    @OneToMany(mappedBy = "model", fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
+    @OneToMany(mappedBy = "release", fetch = FetchType.LAZY)
     private List<DistilleryReleaseRelation> distilleryReleaseRelations = new ArrayList<>();
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "release", fetch = FetchType.LAZY)
     private List<ReleaseCaskRelation> releaseCaskRelations = new ArrayList<>();
 
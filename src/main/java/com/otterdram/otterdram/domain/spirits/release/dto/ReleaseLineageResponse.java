@@ -0,0 +1,28 @@
+package com.otterdram.otterdram.domain.spirits.release.dto;
+
+import com.otterdram.otterdram.domain.spirits.release.lineage.ReleaseLineage;
+import com.otterdram.otterdram.domain.spirits.release.lineage.ReleaseLineageCask;
+import com.otterdram.otterdram.domain.spirits.release.lineage.ReleaseLineageDistillery;
+import com.otterdram.otterdram.domain.spirits.release.lineage.ReleaseLineageNode;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 릴리스 상세 화면의 계보 영역.
+ *
+ * @param ancestry    회사 → 브랜드 → 컬렉션 → 모델 순 (브랜드에 회사가 없으면 브랜드부터)
+ * @param refreshedAt 원본에서 마지막으로 계산한 시각
+ */
+public record ReleaseLineageResponse(
+    Long releaseId,
+    List<ReleaseLineageNode> ancestry,
+    List<ReleaseLineageDistillery> distilleries,
+    List<ReleaseLineageCask> casks,
+    Instant refreshedAt
+) {
+    public static ReleaseLineageResponse of(ReleaseLineage lineage) {
+        return new ReleaseLineageResponse(lineage.getReleaseId(), lineage.getAncestry(),
+                lineage.getDistilleries(), lineage.getCasks(), lineage.getRefreshedAt());
+    }
+}
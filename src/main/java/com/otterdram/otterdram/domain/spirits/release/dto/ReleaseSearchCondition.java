@@ -0,0 +1,71 @@
+package com.otterdram.otterdram.domain.spirits.release.dto;
+
+import com.otterdram.otterdram.common.enums.common.DataStatus;
+import com.otterdram.otterdram.common.enums.common.TriState;
+import com.otterdram.otterdram.common.enums.spirits.AgeStatementType;
+import com.otterdram.otterdram.common.enums.spirits.BottlingStrengthType;
+import com.otterdram.otterdram.common.enums.spirits.PeatLevel;
+
+import java.util.Locale;
+
+/**
+ * 릴리스 카탈로그 검색 조건. null 인 필터는 적용하지 않는다.
+ *
+ * @param modelId              모델 ID
+ * @param distilleryId         증류소 ID (release_distillery_relations 조인)
+ * @param categoryId           카테고리 ID (모델의 카테고리, 하위 카테고리 포함)
+ * @param ageStatementType     숙성 연수 표기 유형
+ * @param statedAgeGte         숙성 연수 하한 (포함)
+ * @param statedAgeLte         숙성 연수 상한 (포함)
+ * @param abvGte               도수 하한 (포함, 0–100)
+ * @param abvLte               도수 상한 (포함, 0–100)
+ * @param bottlingStrengthType 병입 도수 유형
+ * @param limitedEdition       한정판 여부 (UNKNOWN 은 값이 없는 릴리스)
+ * @param peatLevel            피트 수준
+ * @param status               데이터 상태 (null 이면 CONFIRMED)
+ * @param q                    이름 부분 검색어 (앞뒤 공백 제거 후 소문자로 바꿔 lower(release_name) 과 비교)
+ * @param cursor               이전 페이지의 nextCursor (null 이면 첫 페이지)
+ * @param size                 페이지 크기 (null 이면 50, 1–200)
+ */
+public record ReleaseSearchCondition(
+    Long modelId,
+    Long distilleryId,
+    Long categoryId,
+    AgeStatementType ageStatementType,
+    Short statedAgeGte,
+    Short statedAgeLte,
+    Double abvGte,
+    Double abvLte,
+    BottlingStrengthType bottlingStrengthType,
+    TriState limitedEdition,
+    PeatLevel peatLevel,
+    DataStatus status,
+    String q,
+    String cursor,
+    Integer size
+) {
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 200;
+
+    public ReleaseSearchCondition {
+        if (statedAgeGte != null && statedAgeLte != null && statedAgeGte > statedAgeLte) {
+            throw new IllegalArgumentException("statedAge[gte] must not be greater than statedAge[lte]");
+        }
+        if (abvGte != null && (abvGte < 0 || abvGte > 100) || abvLte != null && (abvLte < 0 || abvLte > 100)) {
+            throw new IllegalArgumentException("abv must be between 0 and 100");
+        }
+        if (abvGte != null && abvLte != null && abvGte > abvLte) {
+            throw new IllegalArgumentException("abv[gte] must not be greater than abv[lte]");
+        }
+        if (status == null) {
+            status = DataStatus.CONFIRMED;
+        }
+        q = q == null || q.isBlank() ? null : q.strip().toLowerCase(Locale.ROOT);
+        if (size == null) {
+            size = DEFAULT_SIZE;
+        }
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_SIZE + ": " + size);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.otterdram.otterdram.domain.spirits.release.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 릴리스 검색 keyset 페이지네이션 커서.
+ * <p>
+ * 마지막으로 반환된 항목의 (release_name, id) 를 담으며, 클라이언트에는 불투명한 base64url 문자열로 전달한다.
+ */
+public record ReleaseSearchCursor(String releaseName, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public static ReleaseSearchCursor of(ReleaseSummary summary) {
+        return new ReleaseSearchCursor(summary.releaseName(), summary.id());
+    }
+
+    public String encode() {
+        String raw = releaseName + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ReleaseSearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // 이름에 구분자가 있을 수 있으므로 마지막 구분자로 나눈다
+            int index = raw.lastIndexOf(DELIMITER);
+            if (index < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return new ReleaseSearchCursor(raw.substring(0, index), Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException 포함
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.otterdram.otterdram.domain.spirits.release.dto;
+
+import java.util.List;
+
+/**
+ * 릴리스 검색 페이지.
+ *
+ * @param items      release_name, id 오름차순 항목
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ */
+public record ReleaseSearchPage(
+    List<ReleaseSummary> items,
+    String nextCursor
+) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,26 @@
+package com.otterdram.otterdram.domain.spirits.release.dto;
+
+import com.otterdram.otterdram.common.enums.common.DataStatus;
+import com.otterdram.otterdram.common.enums.spirits.AgeStatementType;
+import com.otterdram.otterdram.common.enums.spirits.BottlingStrengthType;
+import com.otterdram.otterdram.common.enums.spirits.PeatLevel;
+
+/**
+ * 릴리스 카탈로그 목록용 요약.
+ * <p>
+ * 목록 화면에 필요한 컬럼만 조회하며 jsonb(translations/descriptions) 와 연관 컬렉션은 로딩하지 않는다.
+ */
+public record ReleaseSummary(
+    Long id,
+    Long modelId,
+    String releaseName,
+    String releaseImage,
+    AgeStatementType ageStatementType,
+    Short statedAge,
+    BottlingStrengthType bottlingStrengthType,
+    Double abv,
+    Boolean limitedEdition,
+    PeatLevel peatLevel,
+    DataStatus status
+) {
+}
@@ -0,0 +1,74 @@
+package com.otterdram.otterdram.domain.spirits.release.lineage;
+
+import io.hypersistence.utils.hibernate.type.json.JsonType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Type;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 릴리스 상세 화면용 계보 읽기 테이블. 릴리스 한 건의 상위 계층(회사 → 브랜드 → 컬렉션 → 모델), 증류소, 캐스크 요약을
+ * 한 행에 비정규화해 두어 상세 조회가 단건 조회로 끝난다. 릴리스나 상위 엔티티의 아웃박스 이벤트마다 영향받는 릴리스만
+ * 원본에서 다시 계산한다 (ReleaseLineageRefresher). 삭제된 릴리스는 행이 없다.
+ * <pre>
+ * Table release_lineages {
+ *   release_id bigint [pk, ref: - releases.id]
+ *   model_id bigint [not null, note: "갱신 대상 조회용"]
+ *   collection_id bigint [not null, note: "갱신 대상 조회용"]
+ *   brand_id bigint [not null, note: "갱신 대상 조회용"]
+ *   company_id bigint [note: "갱신 대상 조회용, 브랜드에 회사가 없으면 null"]
+ *   ancestry jsonb [not null, note: "[{entityType, id, name, translations}] 회사 → 브랜드 → 컬렉션 → 모델 순"]
+ *   distilleries jsonb [not null, note: "[{id, name, translations}] 삭제되지 않은 증류소, 이름 순"]
+ *   casks jsonb [not null, note: "[{id, name, translations, fillNumber, proportion, maturationMonths}] 삭제되지 않은 캐스크, 비율 큰 순"]
+ *   refreshed_at timestamptz(6) [not null]
+ *   indexes {
+ *     model_id [name: 'ix_release_lineages_model_id', note: "db/indexes.sql"]
+ *     collection_id [name: 'ix_release_lineages_collection_id', note: "db/indexes.sql"]
+ *     brand_id [name: 'ix_release_lineages_brand_id', note: "db/indexes.sql"]
+ *     company_id [name: 'ix_release_lineages_company_id', note: "db/indexes.sql"]
+ *   }
+ * }
+ * </pre>
+ */
+
+@Getter
+@Builder
+@Entity
+@Table(name = "release_lineages")
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReleaseLineage {
+
+    @Id
+    @Column(name = "release_id")
+    private Long releaseId;
+
+    @Column(name = "model_id", nullable = false)
+    private Long modelId;
+
+    @Column(name = "collection_id", nullable = false)
+    private Long collectionId;
+
+    @Column(name = "brand_id", nullable = false)
+    private Long brandId;
+
+    @Column(name = "company_id")
+    private Long companyId;
+
+    @Type(JsonType.class)
+    @Column(name = "ancestry", nullable = false, columnDefinition = "jsonb")
+    private List<ReleaseLineageNode> ancestry;
+
+    @Type(JsonType.class)
+    @Column(name = "distilleries", nullable = false, columnDefinition = "jsonb")
+    private List<ReleaseLineageDistillery> distilleries;
+
+    @Type(JsonType.class)
+    @Column(name = "casks", nullable = false, columnDefinition = "jsonb")
+    private List<ReleaseLineageCask> casks;
+
+    @Column(name = "refreshed_at", nullable = false, columnDefinition = "timestamptz(6)")
+    private Instant refreshedAt;
+}
@@ -0,0 +1,21 @@
+package com.otterdram.otterdram.domain.spirits.release.lineage;
+
+import com.otterdram.otterdram.common.enums.common.LanguageCode;
+import com.otterdram.otterdram.common.enums.spirits.FillNumber;
+
+import java.util.Map;
+
+/**
+ * 릴리스 숙성 캐스크 요약 (release_cask_relations + casks).
+ *
+ * @param proportion 비율(%), 모르면 null
+ */
+public record ReleaseLineageCask(
+    Long id,
+    String name,
+    Map<LanguageCode, String> translations,
+    FillNumber fillNumber,
+    Double proportion,
+    Short maturationMonths
+) {
+}
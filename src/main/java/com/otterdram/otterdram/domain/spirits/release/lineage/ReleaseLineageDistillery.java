@@ -0,0 +1,15 @@
+package com.otterdram.otterdram.domain.spirits.release.lineage;
+
+import com.otterdram.otterdram.common.enums.common.LanguageCode;
+
+import java.util.Map;
+
+/**
+ * 릴리스를 증류한 증류소 (release_distillery_relations).
+ */
+public record ReleaseLineageDistillery(
+    Long id,
+    String name,
+    Map<LanguageCode, String> translations
+) {
+}
@@ -0,0 +1,17 @@
+package com.otterdram.otterdram.domain.spirits.release.lineage;
+
+import com.otterdram.otterdram.common.enums.common.LanguageCode;
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+
+import java.util.Map;
+
+/**
+ * 릴리스 상위 계층 한 단계 (회사, 브랜드, 컬렉션, 모델).
+ */
+public record ReleaseLineageNode(
+    RevisionTargetEntity entityType,
+    Long id,
+    String name,
+    Map<LanguageCode, String> translations
+) {
+}
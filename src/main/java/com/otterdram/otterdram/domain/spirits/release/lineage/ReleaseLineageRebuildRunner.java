@@ -0,0 +1,26 @@
+package com.otterdram.otterdram.domain.spirits.release.lineage;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 인자로 릴리스 계보를 처음부터 다시 만든다 (최초 도입, 관계 테이블 일괄 변경 후).
+ * <pre>
+ * --otterdram.release.lineage.rebuild=true
+ * [--otterdram.release.lineage.batch-size=500]
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "otterdram.release.lineage", name = "rebuild", havingValue = "true")
+public class ReleaseLineageRebuildRunner implements ApplicationRunner {
+    private final ReleaseLineageRefresher releaseLineageRefresher;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        releaseLineageRefresher.rebuild();
+    }
+}
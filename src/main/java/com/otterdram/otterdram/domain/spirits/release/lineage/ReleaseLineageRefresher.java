@@ -0,0 +1,103 @@
+package com.otterdram.otterdram.domain.spirits.release.lineage;
+
+import com.otterdram.otterdram.common.outbox.OutboxMessage;
+import com.otterdram.otterdram.domain.spirits.release.repository.ReleaseLineageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 릴리스 계보 갱신.
+ * <p>
+ * 릴리스나 상위 엔티티(모델, 컬렉션, 브랜드, 회사), 증류소, 캐스크의 아웃박스 이벤트를 받으면 영향받는 릴리스만 골라
+ * 원본에서 다시 계산한다. 상위 엔티티의 영향 범위는 계보 행의 ID 컬럼으로, 증류소/캐스크는 관계 테이블로 찾는다.
+ * 원본의 현재 상태를 반영하므로 중복 전달에도 결과가 같다 (멱등).
+ * <p>
+ * 관계 테이블(release_distillery_relations, release_cask_relations)은 아웃박스 이벤트를 남기지 않으므로
+ * 관계를 바꾸는 쪽이 같은 트랜잭션에서 {@link #refresh} 를 호출해야 한다.
+ */
+@Slf4j
+@Component
+public class ReleaseLineageRefresher {
+    private final ReleaseLineageRepository releaseLineageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public ReleaseLineageRefresher(ReleaseLineageRepository releaseLineageRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${otterdram.release.lineage.batch-size:500}") int batchSize) {
+        this.releaseLineageRepository = releaseLineageRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 릴레이의 전달 트랜잭션이나 같은 이벤트의 다른 리스너와 분리된 트랜잭션에서 갱신한다.
+     * 계보 SQL 이 실패해도 이 트랜잭션만 롤백되고, 예외는 릴레이로 전파되어 재전달 대상이 된다.
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void on(OutboxMessage message) {
+        Long id = message.aggregateId();
+        List<Long> releaseIds = switch (message.aggregateType()) {
+            case RELEASE -> List.of(id);
+            case MODEL -> releaseLineageRepository.findReleaseIdsByModelId(id);
+            case COLLECTION -> releaseLineageRepository.findReleaseIdsByCollectionId(id);
+            case BRAND -> releaseLineageRepository.findReleaseIdsByBrandId(id);
+            case COMPANY -> releaseLineageRepository.findReleaseIdsByCompanyId(id);
+            case DISTILLERY -> releaseLineageRepository.findReleaseIdsByDistilleryId(id);
+            case CASK -> releaseLineageRepository.findReleaseIdsByCaskId(id);
+            // 재질/유형은 캐스크 요약에 담지 않는다
+            case CASK_MATERIAL, CASK_TYPE -> List.of();
+        };
+        refresh(releaseIds);
+    }
+
+    /**
+     * 릴리스 계보를 batchSize 개씩 다시 계산한다. 삭제되었거나 없는 릴리스의 계보는 지운다.
+     */
+    @Transactional
+    public void refresh(Collection<Long> releaseIds) {
+        List<Long> ids = releaseIds.stream().distinct().sorted().toList();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            Long[] batch = ids.subList(from, Math.min(from + batchSize, ids.size())).toArray(Long[]::new);
+            releaseLineageRepository.upsertFromSource(batch);
+            releaseLineageRepository.deleteMissingFromSource(batch);
+        }
+    }
+
+    /**
+     * 전체 릴리스 계보를 ID 순으로 다시 계산한다. 배치마다 별도 트랜잭션으로 커밋한다.
+     *
+     * @return 처리한 릴리스 수
+     */
+    public long rebuild() {
+        long afterId = 0;
+        long processed = 0;
+        while (true) {
+            long from = afterId;
+            List<Long> releaseIds = transactionTemplate.execute(status -> {
+                List<Long> ids = releaseLineageRepository.findReleaseIdsAfter(from, batchSize);
+                refresh(ids);
+                return ids;
+            });
+            if (releaseIds == null || releaseIds.isEmpty()) {
+                break;
+            }
+            processed += releaseIds.size();
+            afterId = releaseIds.getLast();
+            if (releaseIds.size() < batchSize) {
+                break;
+            }
+        }
+        log.info("Rebuilt release lineages of {} releases", processed);
+        return processed;
+    }
+}
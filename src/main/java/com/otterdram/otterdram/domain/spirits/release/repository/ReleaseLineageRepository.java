@@ -0,0 +1,111 @@
+package com.otterdram.otterdram.domain.spirits.release.repository;
+
+import com.otterdram.otterdram.domain.spirits.release.lineage.ReleaseLineage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ReleaseLineageRepository extends JpaRepository<ReleaseLineage, Long> {
+
+    /**
+     * 삭제되지 않은 릴리스의 계보를 원본에서 다시 계산해 넣거나 갱신한다.
+     * 상위 계층은 삭제 여부와 무관하게 담고, 증류소/캐스크는 삭제되지 않은 것만 담는다.
+     */
+    @Modifying
+    @Query(value = """
+            insert into release_lineages (release_id, model_id, collection_id, brand_id, company_id,
+                                          ancestry, distilleries, casks, refreshed_at)
+            select r.id, m.id, col.id, b.id, c.id,
+                   (select jsonb_agg(a.node order by a.depth)
+                    from (values
+                        (0, case when c.id is not null then jsonb_build_object(
+                            'entityType', 'COMPANY', 'id', c.id, 'name', c.company_name, 'translations', c.translations) end),
+                        (1, jsonb_build_object(
+                            'entityType', 'BRAND', 'id', b.id, 'name', b.brand_name, 'translations', b.translations)),
+                        (2, jsonb_build_object(
+                            'entityType', 'COLLECTION', 'id', col.id, 'name', col.collection_name, 'translations', col.translations)),
+                        (3, jsonb_build_object(
+                            'entityType', 'MODEL', 'id', m.id, 'name', m.model_name, 'translations', m.translations))
+                    ) as a(depth, node)
+                    where a.node is not null),
+                   coalesce((select jsonb_agg(jsonb_build_object(
+                                 'id', d.id, 'name', d.distillery_name, 'translations', d.translations)
+                                 order by d.distillery_name, d.id)
+                             from release_distillery_relations rd
+                             join distilleries d on d.id = rd.distillery_id and d.deleted_at is null
+                             where rd.release_id = r.id), cast('[]' as jsonb)),
+                   coalesce((select jsonb_agg(jsonb_build_object(
+                                 'id', k.id, 'name', k.name, 'translations', k.translations,
+                                 'fillNumber', rc.fill_number, 'proportion', rc.proportion,
+                                 'maturationMonths', rc.maturation_months)
+                                 order by rc.proportion desc nulls last, k.id)
+                             from release_cask_relations rc
+                             join casks k on k.id = rc.cask_id and k.deleted_at is null
+                             where rc.release_id = r.id), cast('[]' as jsonb)),
+                   now()
+            from releases r
+            join models m on m.id = r.model_id
+            join collections col on col.id = m.collection_id
+            join brands b on b.id = col.brand_id
+            left join companies c on c.id = b.company_id
+            where r.id = any(cast(:releaseIds as bigint[]))
+              and r.deleted_at is null
+            on conflict (release_id)
+            do update set model_id = excluded.model_id,
+                          collection_id = excluded.collection_id,
+                          brand_id = excluded.brand_id,
+                          company_id = excluded.company_id,
+                          ancestry = excluded.ancestry,
+                          distilleries = excluded.distilleries,
+                          casks = excluded.casks,
+                          refreshed_at = excluded.refreshed_at
+            """, nativeQuery = true)
+    int upsertFromSource(@Param("releaseIds") Long[] releaseIds);
+
+    /**
+     * 없거나 소프트 삭제된 릴리스의 계보를 지운다.
+     */
+    @Modifying
+    @Query(value = """
+            delete from release_lineages l
+            where l.release_id = any(cast(:releaseIds as bigint[]))
+              and not exists (select 1
+                              from releases r
+                              where r.id = l.release_id
+                                and r.deleted_at is null)
+            """, nativeQuery = true)
+    int deleteMissingFromSource(@Param("releaseIds") Long[] releaseIds);
+
+    // ============================ 갱신 대상 릴리스 ============================
+
+    @Query("select l.releaseId from ReleaseLineage l where l.modelId = :modelId")
+    List<Long> findReleaseIdsByModelId(@Param("modelId") Long modelId);
+
+    @Query("select l.releaseId from ReleaseLineage l where l.collectionId = :collectionId")
+    List<Long> findReleaseIdsByCollectionId(@Param("collectionId") Long collectionId);
+
+    @Query("select l.releaseId from ReleaseLineage l where l.brandId = :brandId")
+    List<Long> findReleaseIdsByBrandId(@Param("brandId") Long brandId);
+
+    @Query("select l.releaseId from ReleaseLineage l where l.companyId = :companyId")
+    List<Long> findReleaseIdsByCompanyId(@Param("companyId") Long companyId);
+
+    /**
+     * 증류소와 캐스크는 계보 행에 ID 컬럼이 없으므로 관계 테이블에서 찾는다
+     * (ux_release_distillery_relations_distillery_release, ix_release_cask_relations_cask_id).
+     */
+    @Query(value = "select rd.release_id from release_distillery_relations rd where rd.distillery_id = :distilleryId", nativeQuery = true)
+    List<Long> findReleaseIdsByDistilleryId(@Param("distilleryId") Long distilleryId);
+
+    @Query(value = "select rc.release_id from release_cask_relations rc where rc.cask_id = :caskId", nativeQuery = true)
+    List<Long> findReleaseIdsByCaskId(@Param("caskId") Long caskId);
+
+    /**
+     * 재계산용으로 릴리스 ID 를 삭제 여부와 무관하게 afterId 다음부터 ID 순으로 읽는다.
+     */
+    @Query(value = "select r.id from releases r where r.id > :afterId order by r.id limit :limit", nativeQuery = true)
+    List<Long> findReleaseIdsAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+}
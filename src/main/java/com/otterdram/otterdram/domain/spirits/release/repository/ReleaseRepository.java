@@ -0,0 +1,37 @@
+package com.otterdram.otterdram.domain.spirits.release.repository;
+
+import com.otterdram.otterdram.domain.spirits.release.Release;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ReleaseRepository extends JpaRepository<Release, Long>, JpaSpecificationExecutor<Release>, ReleaseSummaryRepository {
+
+    /**
+     * 상세 화면: 계보와 증류소를 한 번에, 캐스크 구성은 배치로 읽는다 (문 3개).
+     */
+    @EntityGraph(Release.GRAPH_DETAIL)
+    @Query("select r from Release r where r.id = :id and r.deletedAt is null")
+    Optional<Release> findDetailById(@Param("id") Long id);
+
+    /**
+     * 목록 화면: 한 페이지 분량 릴리스를 모델과 함께 읽는다. 증류소는 페이지 전체를 배치로 읽는다 (문 3개).
+     * 순서는 보장하지 않으므로 호출하는 쪽이 ID 순서대로 다시 정렬한다.
+     */
+    @EntityGraph(Release.GRAPH_LIST)
+    @Query("select r from Release r where r.id in :ids and r.deletedAt is null")
+    List<Release> findListByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 관리자 수정 화면: 삭제된 릴리스도 읽는다. 모델과 캐스크 구성을 한 번에, 증류소는 배치로 읽는다 (문 3개).
+     */
+    @EntityGraph(Release.GRAPH_ADMIN_EDIT)
+    @Query("select r from Release r where r.id = :id")
+    Optional<Release> findForEditById(@Param("id") Long id);
+}
@@ -0,0 +1,183 @@
+package com.otterdram.otterdram.domain.spirits.release.repository;
+
+import com.otterdram.otterdram.common.enums.common.DataStatus;
+import com.otterdram.otterdram.common.enums.common.TriState;
+import com.otterdram.otterdram.common.enums.spirits.AgeStatementType;
+import com.otterdram.otterdram.common.enums.spirits.BottlingStrengthType;
+import com.otterdram.otterdram.common.enums.spirits.PeatLevel;
+import com.otterdram.otterdram.domain.spirits.relation.DistilleryReleaseRelation;
+import com.otterdram.otterdram.domain.spirits.release.Release;
+import com.otterdram.otterdram.domain.spirits.release.dto.ReleaseSearchCondition;
+import com.otterdram.otterdram.domain.spirits.release.dto.ReleaseSearchCursor;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 릴리스 검색 조건별 Specification. 값이 null 인 조건은 null 을 반환하며 조합 시 무시된다.
+ */
+public final class ReleaseSpecifications {
+
+    private ReleaseSpecifications() {
+    }
+
+    /**
+     * 검색 조건 전체를 하나의 Specification 으로 조합한다. 삭제된 릴리스는 항상 제외한다.
+     *
+     * @param categoryPath condition.categoryId() 의 materialized path (카테고리 필터가 없으면 null)
+     */
+    public static Specification<Release> of(ReleaseSearchCondition condition, String categoryPath) {
+        List<Specification<Release>> specifications = new ArrayList<>();
+        specifications.add(notDeleted());
+        specifications.add(status(condition.status()));
+        specifications.add(modelId(condition.modelId()));
+        specifications.add(distilleryId(condition.distilleryId()));
+        specifications.add(categorySubtree(categoryPath));
+        specifications.add(ageStatementType(condition.ageStatementType()));
+        specifications.add(statedAgeBetween(condition.statedAgeGte(), condition.statedAgeLte()));
+        specifications.add(abvBetween(condition.abvGte(), condition.abvLte()));
+        specifications.add(bottlingStrengthType(condition.bottlingStrengthType()));
+        specifications.add(limitedEdition(condition.limitedEdition()));
+        specifications.add(peatLevel(condition.peatLevel()));
+        specifications.add(nameContains(condition.q()));
+        if (condition.cursor() != null) {
+            specifications.add(after(ReleaseSearchCursor.decode(condition.cursor())));
+        }
+        return Specification.allOf(specifications);
+    }
+
+    public static Specification<Release> notDeleted() {
+        return (root, query, cb) -> cb.isNull(root.get("deletedAt"));
+    }
+
+    public static Specification<Release> status(DataStatus status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Release> modelId(Long modelId) {
+        return modelId == null ? null : (root, query, cb) -> cb.equal(root.get("model").get("id"), modelId);
+    }
+
+    /**
+     * 증류소와 연결된 릴리스. 릴리스당 관계 행이 여러 개일 수 있으므로 조인 대신 exists 로 중복 행을 만들지 않는다.
+     */
+    public static Specification<Release> distilleryId(Long distilleryId) {
+        return distilleryId == null ? null : (root, query, cb) -> {
+            Subquery<Long> relation = query.subquery(Long.class);
+            Root<DistilleryReleaseRelation> r = relation.from(DistilleryReleaseRelation.class);
+            relation.select(r.get("id"))
+                    .where(cb.equal(r.get("distillery").get("id"), distilleryId),
+                           cb.equal(r.get("release"), root));
+            return cb.exists(relation);
+        };
+    }
+
+    /**
+     * 카테고리 하위 트리 (자신 포함) 에 속한 모델의 릴리스.
+     * 부모를 따라 재귀하지 않고 path = ? or path LIKE '?/%' 한 번으로 찾는다 (ix_categories_path).
+     */
+    public static Specification<Release> categorySubtree(String categoryPath) {
+        if (categoryPath == null) {
+            return null;
+        }
+        String descendants = escapeLike(categoryPath) + "/%";
+        return (root, query, cb) -> {
+            Path<Object> category = root.get("model").get("category");
+            Path<String> path = category.get("path");
+            return cb.and(cb.isNull(category.get("deletedAt")),
+                          cb.or(cb.equal(path, categoryPath), cb.like(path, descendants, '\\')));
+        };
+    }
+
+    public static Specification<Release> ageStatementType(AgeStatementType ageStatementType) {
+        return ageStatementType == null ? null : (root, query, cb) -> cb.equal(root.get("ageStatementType"), ageStatementType);
+    }
+
+    /**
+     * 숙성 연수 범위 (양 끝 포함). stated_age 는 AGE_STATED 인 릴리스만 값이 있으므로 나머지는 자연히 제외된다.
+     */
+    public static Specification<Release> statedAgeBetween(Short gte, Short lte) {
+        if (gte == null && lte == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (lte == null) {
+                return cb.greaterThanOrEqualTo(root.get("statedAge"), gte);
+            }
+            if (gte == null) {
+                return cb.lessThanOrEqualTo(root.get("statedAge"), lte);
+            }
+            return cb.between(root.get("statedAge"), gte, lte);
+        };
+    }
+
+    public static Specification<Release> abvBetween(Double gte, Double lte) {
+        if (gte == null && lte == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (lte == null) {
+                return cb.greaterThanOrEqualTo(root.get("abv"), gte);
+            }
+            if (gte == null) {
+                return cb.lessThanOrEqualTo(root.get("abv"), lte);
+            }
+            return cb.between(root.get("abv"), gte, lte);
+        };
+    }
+
+    public static Specification<Release> bottlingStrengthType(BottlingStrengthType bottlingStrengthType) {
+        return bottlingStrengthType == null ? null : (root, query, cb) -> cb.equal(root.get("bottlingStrengthType"), bottlingStrengthType);
+    }
+
+    public static Specification<Release> limitedEdition(TriState limitedEdition) {
+        if (limitedEdition == null) {
+            return null;
+        }
+        return (root, query, cb) -> switch (limitedEdition) {
+            case TRUE -> cb.isTrue(root.get("limitedEdition"));
+            case FALSE -> cb.isFalse(root.get("limitedEdition"));
+            case UNKNOWN -> cb.isNull(root.get("limitedEdition"));
+        };
+    }
+
+    public static Specification<Release> peatLevel(PeatLevel peatLevel) {
+        return peatLevel == null ? null : (root, query, cb) -> cb.equal(root.get("peatLevel"), peatLevel);
+    }
+
+    /**
+     * 이름 부분 검색 (대소문자 무시). lowerQuery 는 소문자로 바꾼 검색어여야 한다.
+     * 인덱스 식과 같은 lower(release_name) 과 비교하므로, 검색어에 NFKC 같은 추가 정규화를 하면 원본 이름과 어긋난다.
+     * 앞뒤 와일드카드라 B-tree 를 탈 수 없으므로 lower(release_name) 트라이그램 인덱스(ix_releases_release_name_trgm)를 쓴다.
+     * 세 글자 미만 검색어는 트라이그램이 없어 다른 조건의 인덱스 결과를 걸러내는 필터로만 동작한다.
+     */
+    public static Specification<Release> nameContains(String lowerQuery) {
+        if (lowerQuery == null) {
+            return null;
+        }
+        String pattern = "%" + escapeLike(lowerQuery) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("releaseName")), pattern, '\\');
+    }
+
+    /**
+     * (release_name, id) 오름차순 keyset 의 다음 페이지.
+     * OR 형태만으로는 인덱스 탐색 시작점을 잡지 못하므로, 중복이지만 release_name >= ? 조건을 함께 걸어
+     * (status, release_name, id) 인덱스에서 커서 위치부터 범위 스캔하게 한다.
+     */
+    public static Specification<Release> after(ReleaseSearchCursor cursor) {
+        return (root, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(root.get("releaseName"), cursor.releaseName()),
+                cb.or(
+                        cb.greaterThan(root.get("releaseName"), cursor.releaseName()),
+                        cb.and(cb.equal(root.get("releaseName"), cursor.releaseName()),
+                               cb.greaterThan(root.get("id"), cursor.id()))));
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,19 @@
+package com.otterdram.otterdram.domain.spirits.release.repository;
+
+import com.otterdram.otterdram.domain.spirits.release.Release;
+import com.otterdram.otterdram.domain.spirits.release.dto.ReleaseSummary;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Specification 으로 거른 릴리스를 엔티티 대신 {@link ReleaseSummary} 로 조회한다.
+ */
+public interface ReleaseSummaryRepository {
+
+    /**
+     * release_name, id 오름차순으로 limit 건을 조회한다.
+     */
+    List<ReleaseSummary> findSummaries(Specification<Release> specification, Limit limit);
+}
@@ -0,0 +1,50 @@
+package com.otterdram.otterdram.domain.spirits.release.repository;
+
+import com.otterdram.otterdram.domain.spirits.release.Release;
+import com.otterdram.otterdram.domain.spirits.release.dto.ReleaseSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+class ReleaseSummaryRepositoryImpl implements ReleaseSummaryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ReleaseSummary> findSummaries(Specification<Release> specification, Limit limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ReleaseSummary> query = cb.createQuery(ReleaseSummary.class);
+        Root<Release> root = query.from(Release.class);
+
+        // model.id 는 FK 컬럼을 그대로 읽으므로 models 를 조인하지 않는다
+        query.select(cb.construct(ReleaseSummary.class,
+                root.get("id"),
+                root.get("model").get("id"),
+                root.get("releaseName"),
+                root.get("releaseImage"),
+                root.get("ageStatementType"),
+                root.get("statedAge"),
+                root.get("bottlingStrengthType"),
+                root.get("abv"),
+                root.get("limitedEdition"),
+                root.get("peatLevel"),
+                root.get("status")));
+        Predicate predicate = specification == null ? null : specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(root.get("releaseName")), cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit.max())
+                .getResultList();
+    }
+}
@@ -0,0 +1,35 @@
+package com.otterdram.otterdram.domain.spirits.release.service;
+
+import com.otterdram.otterdram.domain.spirits.release.dto.ReleaseLineageResponse;
+import com.otterdram.otterdram.domain.spirits.release.lineage.ReleaseLineageRefresher;
+import com.otterdram.otterdram.domain.spirits.release.repository.ReleaseLineageRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 릴리스 계보 조회. release_lineages 단건 조회로 상위 계층, 증류소, 캐스크 요약을 한 번에 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReleaseLineageService {
+    private final ReleaseLineageRepository releaseLineageRepository;
+    private final ReleaseLineageRefresher releaseLineageRefresher;
+
+    /**
+     * 아직 계보가 계산되지 않은 릴리스(생성 직후 아웃박스 전달 전)는 이 자리에서 계산한 뒤 읽는다.
+     */
+    @Transactional
+    public ReleaseLineageResponse getLineage(Long releaseId) {
+        return releaseLineageRepository.findById(releaseId)
+                .or(() -> {
+                    releaseLineageRefresher.refresh(List.of(releaseId));
+                    return releaseLineageRepository.findById(releaseId);
+                })
+                .map(ReleaseLineageResponse::of)
+                .orElseThrow(() -> new EntityNotFoundException("Release not found with id: " + releaseId));
+    }
+}
@@ -0,0 +1,51 @@
+package com.otterdram.otterdram.domain.spirits.release.service;
+
+import com.otterdram.otterdram.domain.spirits.category.service.CategoryTreeService;
+import com.otterdram.otterdram.domain.spirits.category.tree.CategoryNode;
+import com.otterdram.otterdram.domain.spirits.release.dto.ReleaseSearchCondition;
+import com.otterdram.otterdram.domain.spirits.release.dto.ReleaseSearchCursor;
+import com.otterdram.otterdram.domain.spirits.release.dto.ReleaseSearchPage;
+import com.otterdram.otterdram.domain.spirits.release.dto.ReleaseSummary;
+import com.otterdram.otterdram.domain.spirits.release.repository.ReleaseRepository;
+import com.otterdram.otterdram.domain.spirits.release.repository.ReleaseSpecifications;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 릴리스 카탈로그 검색.
+ * <p>
+ * 조건별 Specification 을 조합해 {@link ReleaseSummary} 프로젝션으로 조회하고, (release_name, id) keyset 으로 페이지를 나눈다.
+ * 전체 건수는 세지 않으며, 다음 페이지 존재 여부는 size + 1 건을 읽어 판단한다.
+ * 카테고리 필터는 트리 스냅샷에서 path 를 얻어 하위 트리 LIKE 조건으로 바꾼다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReleaseSearchService {
+    private final ReleaseRepository releaseRepository;
+    private final CategoryTreeService categoryTreeService;
+
+    @Transactional(readOnly = true)
+    public ReleaseSearchPage search(ReleaseSearchCondition condition) {
+        String categoryPath = null;
+        if (condition.categoryId() != null) {
+            Optional<CategoryNode> category = categoryTreeService.find(condition.categoryId());
+            if (category.isEmpty()) {
+                return new ReleaseSearchPage(List.of(), null);
+            }
+            categoryPath = category.get().path();
+        }
+
+        List<ReleaseSummary> rows = releaseRepository.findSummaries(
+                ReleaseSpecifications.of(condition, categoryPath), Limit.of(condition.size() + 1));
+
+        boolean hasNext = rows.size() > condition.size();
+        List<ReleaseSummary> items = hasNext ? rows.subList(0, condition.size()) : rows;
+        String nextCursor = hasNext ? ReleaseSearchCursor.of(items.getLast()).encode() : null;
+        return new ReleaseSearchPage(List.copyOf(items), nextCursor);
+    }
+}
@@ -1,5 +1,6 @@
 package com.otterdram.otterdram.domain.spirits.revision;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.otterdram.otterdram.common.audit.superclass.Reviewable;
 import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
 import io.hypersistence.utils.hibernate.type.json.JsonType;
@@ -20,11 +21,19 @@ import java.util.Map;
  *   revision_data jsonb [not null]
  *   diff_data jsonb
  *   is_latest boolean [not null, default: true, note: "생성 시 이전 버전 값 false로 변경"]
+ *   is_checkpoint boolean [not null, default: false, note: "압축(compaction)으로 이전 승인 리비전을 흡수한 스냅샷"]
  *   status RevisionStatus [not null, default: 'IN_REVIEW']
+ *   version bigint [not null, default: 0, note: "낙관적 락"]
  *   created_at timestamp [not null, default: `CURRENT_TIMESTAMP`]
  *   created_by bigint [ref: > users.id, not null]
  *   reviewed_at timestamp
  *   reviewed_by bigint [ref: > users.id]
+ *   indexes {
+ *     (entity_type, entity_id) [unique, name: 'ux_revisions_pending_entity', note: "WHERE status = 'IN_REVIEW' (db/indexes.sql)"]
+ *     (status, created_at, id) [name: 'ix_revisions_status_created_at_id', note: "모더레이션 큐 keyset (db/indexes.sql)"]
+ *     (entity_type, entity_id) [unique, name: 'ux_revisions_latest_entity', note: "WHERE is_latest (db/indexes.sql)"]
+ *     (entity_type, entity_id, created_at, id) [name: 'ix_revisions_entity_timeline', note: "엔티티별 타임라인 (db/indexes.sql)"]
+ *   }
  * }
  * </pre>
  */
@@ -38,7 +47,7 @@ import java.util.Map;
 public class EntityRevision extends Reviewable {
 
     @Id
-    @SequenceGenerator(name = "revision_seq", sequenceName = "revision_sequence")
+    @SequenceGenerator(name = "revision_seq", sequenceName = "revision_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "revision_seq")
     private Long id;
 
@@ -55,10 +64,27 @@ public class EntityRevision extends Reviewable {
 
     @Type(JsonType.class)
     @Column(name = "revision_data", nullable = false, columnDefinition = "jsonb")
-    private Object revisionData;
+    private JsonNode revisionData;
 
     @Type(JsonType.class)
     @Column(name = "diff_data", columnDefinition = "jsonb")
-    private Object diffData;
+    private JsonNode diffData;
+
+    @Builder.Default
+    @Column(name = "is_latest", nullable = false, columnDefinition = "boolean default true")
+    private Boolean isLatest = true;
+
+    @Builder.Default
+    @Column(name = "is_checkpoint", nullable = false, columnDefinition = "boolean default false")
+    private Boolean isCheckpoint = false;
+
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
+    public void markCheckpoint(JsonNode baselineDiff) {
+        this.isCheckpoint = true;
+        this.diffData = baselineDiff;
+    }
 
 }
@@ -5,5 +5,6 @@ import com.otterdram.otterdram.common.enums.common.DataStatus;
 public interface RevisableEntity {
     Long getId();
     DataStatus getStatus();
+    Long getVersion();
     void updateStatus(DataStatus status);
 }
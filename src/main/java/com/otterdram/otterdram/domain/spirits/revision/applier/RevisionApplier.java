@@ -0,0 +1,30 @@
+package com.otterdram.otterdram.domain.spirits.revision.applier;
+
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+import com.otterdram.otterdram.domain.spirits.revision.EntityRevision;
+import com.otterdram.otterdram.domain.spirits.revision.RevisableEntity;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 엔티티 타입별 리비전 반영 전략.
+ * <p>
+ * 구현체는 스프링 빈으로 등록하면 {@link RevisionApplierRegistry} 가 기동 시 수집한다.
+ * approve/reject 는 영속 상태의 엔티티를 직접 변경하여 dirty checking 으로 변경된 컬럼만 UPDATE 되도록 한다.
+ *
+ * @param <E> 리비전 대상 엔티티 타입
+ */
+public interface RevisionApplier<E extends RevisableEntity> {
+
+    RevisionTargetEntity targetEntity();
+
+    /** 대상 엔티티를 IN 쿼리 한 번으로 조회한다. */
+    List<E> findTargets(Collection<Long> entityIds);
+
+    /** 리비전 데이터를 엔티티에 반영하고 CONFIRMED 로 전환한다. */
+    void approve(E entity, EntityRevision revision);
+
+    /** 엔티티 데이터는 그대로 두고 리비전 생성 전 상태로 되돌린다. */
+    void reject(E entity, EntityRevision revision);
+}
@@ -0,0 +1,31 @@
+package com.otterdram.otterdram.domain.spirits.revision.applier;
+
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class RevisionApplierRegistry {
+    private final Map<RevisionTargetEntity, RevisionApplier<?>> appliers = new EnumMap<>(RevisionTargetEntity.class);
+
+    public RevisionApplierRegistry(List<RevisionApplier<?>> appliers) {
+        for (RevisionApplier<?> applier : appliers) {
+            RevisionApplier<?> duplicate = this.appliers.put(applier.targetEntity(), applier);
+            if (duplicate != null) {
+                throw new IllegalStateException("Duplicate revision applier for " + applier.targetEntity() + ": "
+                        + duplicate.getClass().getSimpleName() + ", " + applier.getClass().getSimpleName());
+            }
+        }
+    }
+
+    public RevisionApplier<?> get(RevisionTargetEntity entityType) {
+        RevisionApplier<?> applier = appliers.get(entityType);
+        if (applier == null) {
+            throw new UnsupportedOperationException("Unsupported entity type for processing: " + entityType);
+        }
+        return applier;
+    }
+}
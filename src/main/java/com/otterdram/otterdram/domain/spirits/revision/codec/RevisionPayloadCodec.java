@@ -0,0 +1,81 @@
+package com.otterdram.otterdram.domain.spirits.revision.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+import com.otterdram.otterdram.domain.spirits.company.dto.CompanyRevisionPayload;
+import com.otterdram.otterdram.domain.spirits.revision.EntityRevision;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Revision payload codec.
+ * <p>
+ * (entityType, schemaVersion) 별로 미리 만들어 둔 ObjectReader/ObjectWriter 를 재사용하여
+ * jsonb 리비전 데이터를 타입이 지정된 payload record 로 직접 변환한다.
+ * 요청마다 ObjectMapper 를 생성하거나 convertValue 로 serializer/deserializer 캐시를 다시 만드는 비용을 없앤다.
+ */
+
+@Component
+public class RevisionPayloadCodec {
+    public static final String CURRENT_SCHEMA_VERSION = "1.0.0";
+
+    private final ObjectMapper objectMapper;
+    private final Map<Key, Entry> registry = new HashMap<>();
+
+    public RevisionPayloadCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        register(RevisionTargetEntity.COMPANY, CURRENT_SCHEMA_VERSION, CompanyRevisionPayload.class);
+    }
+
+    private void register(RevisionTargetEntity entityType, String schemaVersion, Class<?> payloadType) {
+        registry.put(
+                new Key(entityType, schemaVersion),
+                new Entry(payloadType, objectMapper.readerFor(payloadType), objectMapper.writerFor(payloadType))
+        );
+    }
+
+    public JsonNode write(RevisionTargetEntity entityType, String schemaVersion, Object payload) {
+        Entry entry = entryFor(entityType, schemaVersion);
+        if (!entry.payloadType().isInstance(payload)) {
+            throw new IllegalArgumentException("Payload type " + payload.getClass().getSimpleName() + " does not match " + entityType + " revision schema.");
+        }
+        try (TokenBuffer buffer = new TokenBuffer(objectMapper, false)) {
+            entry.writer().writeValue(buffer, payload);
+            return entry.reader().readTree(buffer.asParser());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to write " + entityType + " revision payload.", e);
+        }
+    }
+
+    public <T> T read(EntityRevision revision, Class<T> payloadType) {
+        Entry entry = entryFor(revision.getEntityType(), revision.getSchemaVersion());
+        if (entry.payloadType() != payloadType) {
+            throw new IllegalArgumentException("Payload type " + payloadType.getSimpleName() + " does not match " + revision.getEntityType() + " revision schema.");
+        }
+        try {
+            return entry.reader().readValue(revision.getRevisionData());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to read revision payload for revision id " + revision.getId(), e);
+        }
+    }
+
+    private Entry entryFor(RevisionTargetEntity entityType, String schemaVersion) {
+        String version = schemaVersion != null ? schemaVersion : CURRENT_SCHEMA_VERSION;
+        Entry entry = registry.get(new Key(entityType, version));
+        if (entry == null) {
+            throw new IllegalArgumentException("Unsupported revision schema: " + entityType + " v" + version);
+        }
+        return entry;
+    }
+
+    private record Key(RevisionTargetEntity entityType, String schemaVersion) {}
+
+    private record Entry(Class<?> payloadType, ObjectReader reader, ObjectWriter writer) {}
+}
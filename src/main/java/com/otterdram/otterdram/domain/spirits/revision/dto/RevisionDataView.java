@@ -0,0 +1,11 @@
+package com.otterdram.otterdram.domain.spirits.revision.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * revision_data 만 읽는 인터페이스 프로젝션.
+ */
+public interface RevisionDataView {
+    Long getId();
+    JsonNode getRevisionData();
+}
@@ -0,0 +1,9 @@
+package com.otterdram.otterdram.domain.spirits.revision.dto;
+
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+
+public record RevisionEntityKey(
+    RevisionTargetEntity entityType,
+    Long entityId
+) {
+}
@@ -0,0 +1,18 @@
+package com.otterdram.otterdram.domain.spirits.revision.dto;
+
+import com.otterdram.otterdram.common.enums.common.RevisionStatus;
+
+public record RevisionProcessResult(
+    Long revisionId,
+    RevisionStatus status,
+    boolean success,
+    String failureReason
+) {
+    public static RevisionProcessResult success(Long revisionId, RevisionStatus status) {
+        return new RevisionProcessResult(revisionId, status, true, null);
+    }
+
+    public static RevisionProcessResult failure(Long revisionId, RevisionStatus status, String failureReason) {
+        return new RevisionProcessResult(revisionId, status, false, failureReason);
+    }
+}
@@ -0,0 +1,38 @@
+package com.otterdram.otterdram.domain.spirits.revision.dto;
+
+import com.otterdram.otterdram.common.enums.common.RevisionStatus;
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+
+/**
+ * 모더레이션 큐 조회 조건.
+ *
+ * @param status              리비전 상태 (null 이면 IN_REVIEW)
+ * @param entityType          대상 엔티티 타입 필터 (선택)
+ * @param createdBy           작성자 필터 (선택)
+ * @param cursor              이전 페이지의 nextCursor (null 이면 첫 페이지)
+ * @param size                페이지 크기 (null 이면 50, 1–200)
+ * @param includeRevisionData true 인 경우에만 revision_data 를 함께 조회
+ */
+public record RevisionQueueCondition(
+    RevisionStatus status,
+    RevisionTargetEntity entityType,
+    Long createdBy,
+    String cursor,
+    Integer size,
+    boolean includeRevisionData
+) {
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 200;
+
+    public RevisionQueueCondition {
+        if (status == null) {
+            status = RevisionStatus.IN_REVIEW;
+        }
+        if (size == null) {
+            size = DEFAULT_SIZE;
+        }
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_SIZE + ": " + size);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.otterdram.otterdram.domain.spirits.revision.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 모더레이션 큐 keyset 페이지네이션 커서.
+ * <p>
+ * 마지막으로 반환된 항목의 (created_at, id) 를 담으며, 클라이언트에는 불투명한 base64url 문자열로 전달한다.
+ */
+public record RevisionQueueCursor(Instant createdAt, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public static RevisionQueueCursor of(RevisionSummary summary) {
+        return new RevisionQueueCursor(summary.createdAt(), summary.id());
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static RevisionQueueCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            if (index < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return new RevisionQueueCursor(Instant.parse(raw.substring(0, index)), Long.parseLong(raw.substring(index + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException 포함
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.otterdram.otterdram.domain.spirits.revision.dto;
+
+import java.util.List;
+
+/**
+ * 모더레이션 큐 페이지.
+ *
+ * @param items      created_at, id 오름차순 항목
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ */
+public record RevisionQueuePage(
+    List<RevisionSummary> items,
+    String nextCursor
+) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
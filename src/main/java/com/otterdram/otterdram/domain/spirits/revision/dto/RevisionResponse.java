@@ -10,6 +10,7 @@ public record RevisionResponse(
     String schemaVersion,
     Object revisionData,
     Object diffData,
+    Boolean isLatest,
     RevisionStatus status
 //    String createdAt,
 //    Long createdBy,
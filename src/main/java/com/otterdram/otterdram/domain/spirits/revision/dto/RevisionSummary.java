@@ -0,0 +1,37 @@
+package com.otterdram.otterdram.domain.spirits.revision.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.otterdram.otterdram.common.enums.common.RevisionStatus;
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+
+import java.time.Instant;
+
+/**
+ * 모더레이션 큐 목록용 리비전 요약.
+ * <p>
+ * revision_data / diff_data 는 기본적으로 조회하지 않으며(revisionData = null),
+ * 요청 시에만 {@link #withRevisionData(JsonNode)} 로 채운다.
+ */
+public record RevisionSummary(
+    Long id,
+    RevisionTargetEntity entityType,
+    Long entityId,
+    String schemaVersion,
+    RevisionStatus status,
+    Instant createdAt,
+    Long createdBy,
+    Instant reviewedAt,
+    Long reviewedBy,
+    JsonNode revisionData
+) {
+    public RevisionSummary(Long id, RevisionTargetEntity entityType, Long entityId, String schemaVersion,
+                           RevisionStatus status, Instant createdAt, Long createdBy,
+                           Instant reviewedAt, Long reviewedBy) {
+        this(id, entityType, entityId, schemaVersion, status, createdAt, createdBy, reviewedAt, reviewedBy, null);
+    }
+
+    public RevisionSummary withRevisionData(JsonNode revisionData) {
+        return new RevisionSummary(id, entityType, entityId, schemaVersion, status,
+                createdAt, createdBy, reviewedAt, reviewedBy, revisionData);
+    }
+}
@@ -0,0 +1,26 @@
+package com.otterdram.otterdram.domain.spirits.revision.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.otterdram.otterdram.common.enums.common.RevisionStatus;
+
+import java.time.Instant;
+
+/**
+ * 엔티티 리비전 타임라인 항목.
+ * <p>
+ * 전체 revision_data 대신 변경분(diff_data)만 담는다. 체크포인트 항목의 diff_data 는
+ * 빈 문서 기준의 변경분(전체 상태)이므로 타임라인을 역순으로 재생하는 기준점이 된다.
+ */
+public record RevisionTimelineEntry(
+    Long id,
+    String schemaVersion,
+    RevisionStatus status,
+    Boolean isLatest,
+    Boolean isCheckpoint,
+    JsonNode diffData,
+    Instant createdAt,
+    Long createdBy,
+    Instant reviewedAt,
+    Long reviewedBy
+) {
+}
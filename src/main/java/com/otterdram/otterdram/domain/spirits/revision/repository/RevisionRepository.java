@@ -3,10 +3,134 @@ package com.otterdram.otterdram.domain.spirits.revision.repository;
 import com.otterdram.otterdram.common.enums.common.RevisionStatus;
 import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
 import com.otterdram.otterdram.domain.spirits.revision.EntityRevision;
+import com.otterdram.otterdram.domain.spirits.revision.dto.RevisionDataView;
+import com.otterdram.otterdram.domain.spirits.revision.dto.RevisionEntityKey;
+import com.otterdram.otterdram.domain.spirits.revision.dto.RevisionSummary;
+import com.otterdram.otterdram.domain.spirits.revision.dto.RevisionTimelineEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface RevisionRepository extends JpaRepository<EntityRevision, Long> {
-    Optional<EntityRevision> findByEntityTypeAndEntityIdAndStatus(RevisionTargetEntity entityType, Long entityId, RevisionStatus status);
+
+    /**
+     * 대상 엔티티에 검토 대기(IN_REVIEW) 리비전이 있는지 확인한다.
+     * revision_data 를 읽지 않고 ux_revisions_pending_entity 부분 인덱스만 탐색한다.
+     */
+    @Query("""
+            select case when count(r) > 0 then true else false end
+            from EntityRevision r
+            where r.entityType = :entityType
+              and r.entityId = :entityId
+              and r.status = com.otterdram.otterdram.common.enums.common.RevisionStatus.IN_REVIEW
+            """)
+    boolean existsPendingRevision(@Param("entityType") RevisionTargetEntity entityType, @Param("entityId") Long entityId);
+
+    /**
+     * 모더레이션 큐 첫 페이지.
+     * ix_revisions_status_created_at_id 인덱스를 (status, created_at, id) 순서로 읽으며 jsonb 컬럼은 조회하지 않는다.
+     */
+    @Query("""
+            select new com.otterdram.otterdram.domain.spirits.revision.dto.RevisionSummary(
+                r.id, r.entityType, r.entityId, r.schemaVersion, r.status,
+                r.createdAt, r.createdBy, r.reviewedAt, r.reviewedBy)
+            from EntityRevision r
+            where r.status = :status
+              and (:entityType is null or r.entityType = :entityType)
+              and (:createdBy is null or r.createdBy = :createdBy)
+            order by r.createdAt asc, r.id asc
+            """)
+    List<RevisionSummary> findQueue(@Param("status") RevisionStatus status,
+                                    @Param("entityType") RevisionTargetEntity entityType,
+                                    @Param("createdBy") Long createdBy,
+                                    Limit limit);
+
+    /**
+     * 모더레이션 큐 다음 페이지.
+     * OFFSET 대신 (created_at, id) 행 값 비교로 커서 이후부터 인덱스를 탐색한다.
+     */
+    @Query("""
+            select new com.otterdram.otterdram.domain.spirits.revision.dto.RevisionSummary(
+                r.id, r.entityType, r.entityId, r.schemaVersion, r.status,
+                r.createdAt, r.createdBy, r.reviewedAt, r.reviewedBy)
+            from EntityRevision r
+            where r.status = :status
+              and (:entityType is null or r.entityType = :entityType)
+              and (:createdBy is null or r.createdBy = :createdBy)
+              and (r.createdAt, r.id) > (:cursorCreatedAt, :cursorId)
+            order by r.createdAt asc, r.id asc
+            """)
+    List<RevisionSummary> findQueueAfter(@Param("status") RevisionStatus status,
+                                         @Param("entityType") RevisionTargetEntity entityType,
+                                         @Param("createdBy") Long createdBy,
+                                         @Param("cursorCreatedAt") Instant cursorCreatedAt,
+                                         @Param("cursorId") Long cursorId,
+                                         Limit limit);
+
+    @Query("select r.id as id, r.revisionData as revisionData from EntityRevision r where r.id in :ids")
+    List<RevisionDataView> findRevisionDataByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 대상 엔티티의 기존 최신 리비전 플래그를 해제한다.
+     * 새 리비전 INSERT 와 같은 트랜잭션에서 호출하며, ux_revisions_latest_entity 부분 유니크 인덱스가
+     * 동시 INSERT 로 최신 리비전이 둘이 되는 것을 막는다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update EntityRevision r
+            set r.isLatest = false
+            where r.entityType = :entityType
+              and r.entityId = :entityId
+              and r.isLatest = true
+            """)
+    int clearLatest(@Param("entityType") RevisionTargetEntity entityType, @Param("entityId") Long entityId);
+
+    /**
+     * 엔티티 리비전 타임라인을 최신순으로 스트리밍한다. 트랜잭션 안에서 소비하고 닫아야 한다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
+    @Query("""
+            select new com.otterdram.otterdram.domain.spirits.revision.dto.RevisionTimelineEntry(
+                r.id, r.schemaVersion, r.status, r.isLatest, r.isCheckpoint, r.diffData,
+                r.createdAt, r.createdBy, r.reviewedAt, r.reviewedBy)
+            from EntityRevision r
+            where r.entityType = :entityType
+              and r.entityId = :entityId
+            order by r.createdAt desc, r.id desc
+            """)
+    Stream<RevisionTimelineEntry> streamTimeline(@Param("entityType") RevisionTargetEntity entityType,
+                                                 @Param("entityId") Long entityId);
+
+    /**
+     * 승인 리비전이 threshold 개를 초과하여 압축 대상인 엔티티.
+     */
+    @Query("""
+            select new com.otterdram.otterdram.domain.spirits.revision.dto.RevisionEntityKey(r.entityType, r.entityId)
+            from EntityRevision r
+            where r.status = com.otterdram.otterdram.common.enums.common.RevisionStatus.APPROVED
+            group by r.entityType, r.entityId
+            having count(r) > :threshold
+            """)
+    List<RevisionEntityKey> findCompactionCandidates(@Param("threshold") long threshold, Limit limit);
+
+    @Query("""
+            select r.id
+            from EntityRevision r
+            where r.entityType = :entityType
+              and r.entityId = :entityId
+              and r.status = com.otterdram.otterdram.common.enums.common.RevisionStatus.APPROVED
+            order by r.createdAt desc, r.id desc
+            """)
+    List<Long> findApprovedRevisionIds(@Param("entityType") RevisionTargetEntity entityType,
+                                       @Param("entityId") Long entityId);
 }
@@ -1,17 +1,33 @@
 package com.otterdram.otterdram.domain.spirits.revision.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.otterdram.otterdram.common.audit.service.SoftDeletableService;
 import com.otterdram.otterdram.common.audit.superclass.SoftDeletable;
 import com.otterdram.otterdram.common.enums.common.DataStatus;
 import com.otterdram.otterdram.common.enums.common.RevisionStatus;
 import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+import com.otterdram.otterdram.common.outbox.OutboxEventType;
+import com.otterdram.otterdram.common.outbox.OutboxService;
+import com.otterdram.otterdram.common.utils.JsonDiffUtils;
 import com.otterdram.otterdram.domain.spirits.revision.EntityRevision;
 import com.otterdram.otterdram.domain.spirits.revision.RevisableEntity;
+import com.otterdram.otterdram.domain.spirits.revision.codec.RevisionPayloadCodec;
 import com.otterdram.otterdram.domain.spirits.revision.dto.RevisionResponse;
 import com.otterdram.otterdram.domain.spirits.revision.mapper.RevisionMapper;
 import com.otterdram.otterdram.domain.spirits.revision.repository.RevisionRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 public abstract class RevisableEntityService<
     E extends SoftDeletable & RevisableEntity,
@@ -20,15 +36,39 @@ public abstract class RevisableEntityService<
     RESP,
     PAYLOAD> extends SoftDeletableService<E, ID> {
 
+    private static final int MAX_REVISION_ATTEMPTS = 3;
+    private static final Set<String> REVISION_CONFLICT_CONSTRAINTS =
+            Set.of("ux_revisions_pending_entity", "ux_revisions_latest_entity");
+
     @Override
     protected abstract JpaRepository<E, ID> getRepository();
     protected abstract RevisionRepository getRevisionRepository();
+    protected abstract RevisionPayloadCodec getRevisionPayloadCodec();
+    protected abstract TransactionTemplate getTransactionTemplate();
+    protected abstract OutboxService getOutboxService();
     protected abstract RevisionTargetEntity targetEntity();
     protected abstract void checkUniqueness(REQ req);
     protected abstract boolean hasAdditionalData(REQ req);
     protected abstract E toEntity(REQ req, DataStatus status);
     protected abstract RESP toResponse(E entity);
     protected abstract PAYLOAD toRevisionPayload(E entity, REQ req);
+    protected abstract PAYLOAD toSnapshotPayload(E entity);
+
+    /**
+     * 리비전 제출 전 엔티티별 추가 검증. 기본 구현은 검증하지 않는다.
+     */
+    protected void validateRevision(E existing, REQ request) {
+    }
+
+    @Override
+    protected void afterSoftDelete(E entity) {
+        getOutboxService().append(OutboxEventType.ENTITY_DELETED, targetEntity(), entity.getId(), null);
+    }
+
+    @Override
+    protected void afterRestore(E entity) {
+        getOutboxService().append(OutboxEventType.ENTITY_RESTORED, targetEntity(), entity.getId(), null);
+    }
 
 
     @Transactional
@@ -38,21 +78,97 @@ public abstract class RevisableEntityService<
         DataStatus status = hasAdditionalData(request) ? DataStatus.IN_REVIEW : DataStatus.DRAFT;
         E entity = toEntity(request, status);
         E saved = getRepository().save(entity);
+        getOutboxService().append(OutboxEventType.ENTITY_CREATED, targetEntity(), saved.getId(), null);
 
         if (hasAdditionalData(request)) {
-            createAndSaveRevision(saved, request);
+            EntityRevision revision = createAndSaveRevision(saved, request);
+            getOutboxService().append(OutboxEventType.REVISION_SUBMITTED, targetEntity(), saved.getId(), revision.getId());
         }
         return toResponse(saved);
     }
 
+    /**
+     * 일괄 생성.
+     * <p>
+     * 이름 중복 검증은 호출자가 배치 단위로 미리 수행한 것으로 보고 건너뛴다. 엔티티, 리비전, 아웃박스 이벤트는
+     * 커밋 시 hibernate.jdbc.batch_size 단위의 JDBC 배치 INSERT 로 반영되고, ID 는 시퀀스에서 allocationSize 단위로
+     * 미리 할당받은 값을 사용한다. 새 엔티티이므로 기존 최신 리비전 해제(clearLatest)는 실행하지 않는다.
+     */
     @Transactional
+    public List<RESP> createAll(List<REQ> requests) {
+        List<E> entities = requests.stream()
+            .map(request -> toEntity(request, hasAdditionalData(request) ? DataStatus.IN_REVIEW : DataStatus.DRAFT))
+            .toList();
+        List<E> saved = getRepository().saveAll(entities);
+
+        List<EntityRevision> revisions = new ArrayList<>();
+        for (int i = 0; i < saved.size(); i++) {
+            E entity = saved.get(i);
+            getOutboxService().append(OutboxEventType.ENTITY_CREATED, targetEntity(), entity.getId(), null);
+            if (hasAdditionalData(requests.get(i))) {
+                revisions.add(buildRevision(entity, requests.get(i)));
+            }
+        }
+        for (EntityRevision revision : getRevisionRepository().saveAll(revisions)) {
+            getOutboxService().append(OutboxEventType.REVISION_SUBMITTED, targetEntity(), revision.getEntityId(), revision.getId());
+        }
+        return saved.stream().map(this::toResponse).toList();
+    }
+
+    /**
+     * 리비전 제출.
+     * <p>
+     * 시도마다 별도 트랜잭션을 열고 커밋하므로 바깥 트랜잭션 안에서 호출할 수 없다
+     * (호출자의 롤백으로 제출을 되돌릴 수 없고, 첫 충돌로 rollback-only 가 된 트랜잭션에 이후 시도가 합류하게 된다).
+     * 동시 제출로 인한 버전 충돌(@Version)이나 검토 대기/최신 리비전 부분 유니크 인덱스 위반이 발생하면
+     * 최대 {@value #MAX_REVISION_ATTEMPTS}회까지 다시 시도하고, 재시도 시에는 커밋된 상태를 기준으로 다시 검증하므로
+     * 일반적인 상태 오류로 귀결된다. 끝까지 충돌하면 비관적 락을 기다리지 않고 즉시 실패한다.
+     * 그 밖의 무결성 위반(NOT NULL, FK, 길이, 이름 유니크 등)은 재시도해도 해결되지 않으므로 그대로 던진다.
+     *
+     * @throws IllegalStateException 트랜잭션 안에서 호출했거나 충돌이 계속된 경우
+     */
     public RevisionResponse createRevision(ID id, REQ request) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Revision submission must not run inside an active transaction: each attempt commits on its own.");
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return getTransactionTemplate().execute(status -> submitRevision(id, request));
+            } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+                if (!isRevisionConflict(e)) {
+                    throw e;
+                }
+                if (attempt >= MAX_REVISION_ATTEMPTS) {
+                    throw new IllegalStateException("Revision submission conflicted with a concurrent update for entity id '" + id + "'. Please retry.", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 재시도로 해결되는 충돌인지 판별한다. 낙관적 락 실패이거나 리비전 부분 유니크 인덱스 위반인 경우만 해당한다.
+     */
+    private static boolean isRevisionConflict(DataAccessException e) {
+        if (e instanceof OptimisticLockingFailureException) {
+            return true;
+        }
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String constraintName = violation.getConstraintName();
+                return constraintName != null
+                        && REVISION_CONFLICT_CONSTRAINTS.contains(constraintName.toLowerCase(Locale.ROOT));
+            }
+        }
+        return false;
+    }
+
+    private RevisionResponse submitRevision(ID id, REQ request) {
         E existing = getRepository().findById(id)
             .orElseThrow(() -> new IllegalArgumentException("Entity with id '" + id + "' not found."));
 
-        getRevisionRepository()
-                .findByEntityTypeAndEntityIdAndStatus(targetEntity(), existing.getId(), RevisionStatus.IN_REVIEW)
-                .ifPresent(revision -> { throw new IllegalStateException("There is already a pending revision for this company. Revision ID: " + existing.getId()); });
+        if (getRevisionRepository().existsPendingRevision(targetEntity(), existing.getId())) {
+            throw new IllegalStateException("There is already a pending revision for this company. Revision ID: " + existing.getId());
+        }
 
         if (existing.getStatus() == DataStatus.SUPPRESSED) {
             throw new IllegalStateException("Cannot create revision for a suppressed entity.");
@@ -60,23 +176,34 @@ public abstract class RevisableEntityService<
         if (existing.getStatus() == DataStatus.IN_REVIEW) {
             throw new IllegalStateException("Cannot create a new revision for a company that is already under review.");
         }
+        validateRevision(existing, request);
 
         existing.updateStatus(DataStatus.IN_REVIEW);
         getRepository().save(existing);
 
         EntityRevision savedRevision = createAndSaveRevision(existing, request);
+        getOutboxService().append(OutboxEventType.REVISION_SUBMITTED, targetEntity(), existing.getId(), savedRevision.getId());
         return RevisionMapper.INSTANCE.toResponse(savedRevision);
     }
 
     private EntityRevision createAndSaveRevision(E entity, REQ request) {
-        PAYLOAD payload = toRevisionPayload(entity, request);
-        EntityRevision revision = EntityRevision.builder()
+        EntityRevision revision = buildRevision(entity, request);
+        getRevisionRepository().clearLatest(targetEntity(), entity.getId());
+        return getRevisionRepository().save(revision);
+    }
+
+    private EntityRevision buildRevision(E entity, REQ request) {
+        RevisionPayloadCodec codec = getRevisionPayloadCodec();
+        JsonNode revisionData = codec.write(targetEntity(), RevisionPayloadCodec.CURRENT_SCHEMA_VERSION, toRevisionPayload(entity, request));
+        JsonNode snapshotData = codec.write(targetEntity(), RevisionPayloadCodec.CURRENT_SCHEMA_VERSION, toSnapshotPayload(entity));
+
+        return EntityRevision.builder()
             .entityType(targetEntity())
             .entityId(entity.getId())
+            .schemaVersion(RevisionPayloadCodec.CURRENT_SCHEMA_VERSION)
             .status(RevisionStatus.IN_REVIEW)
-            .revisionData(payload)
-            .diffData(null)
+            .revisionData(revisionData)
+            .diffData(JsonDiffUtils.diff(snapshotData, revisionData))
             .build();
-        return getRevisionRepository().save(revision);
     }
 }
@@ -0,0 +1,29 @@
+package com.otterdram.otterdram.domain.spirits.revision.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주기적인 리비전 이력 압축.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevisionCompactionJob {
+    private final RevisionHistoryService revisionHistoryService;
+
+    @Value("${otterdram.revision.compaction.retain-approved:20}")
+    private int retainApproved;
+
+    @Value("${otterdram.revision.compaction.max-entities:500}")
+    private int maxEntities;
+
+    @Scheduled(cron = "${otterdram.revision.compaction.cron:0 30 4 * * *}")
+    public void compact() {
+        int compacted = revisionHistoryService.compact(retainApproved, maxEntities);
+        log.info("Compacted revision history of {} entities (retainApproved={})", compacted, retainApproved);
+    }
+}
@@ -0,0 +1,91 @@
+package com.otterdram.otterdram.domain.spirits.revision.service;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+import com.otterdram.otterdram.common.utils.JsonDiffUtils;
+import com.otterdram.otterdram.domain.spirits.revision.EntityRevision;
+import com.otterdram.otterdram.domain.spirits.revision.dto.RevisionEntityKey;
+import com.otterdram.otterdram.domain.spirits.revision.dto.RevisionTimelineEntry;
+import com.otterdram.otterdram.domain.spirits.revision.repository.RevisionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 리비전 이력 조회 및 압축.
+ * <p>
+ * 압축은 엔티티별로 최근 승인 리비전 retainApproved 개를 남기고, 그 직전 승인 리비전을 체크포인트로 지정한 뒤
+ * 더 오래된 승인 리비전을 삭제한다. revision_data 는 항상 전체 상태이므로 체크포인트 하나로 이전 이력을 대체할 수 있으며,
+ * 체크포인트의 diff_data 는 빈 문서 기준의 변경분(전체 add)으로 다시 계산한다.
+ * 검토 대기/반려 리비전은 압축 대상이 아니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RevisionHistoryService {
+    private final RevisionRepository revisionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 엔티티의 리비전 타임라인을 최신순으로 consumer 에 전달한다.
+     * 전체 목록을 메모리에 올리지 않고 커서로 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public void streamTimeline(RevisionTargetEntity entityType, Long entityId, Consumer<RevisionTimelineEntry> consumer) {
+        try (Stream<RevisionTimelineEntry> timeline = revisionRepository.streamTimeline(entityType, entityId)) {
+            timeline.forEach(consumer);
+        }
+    }
+
+    /**
+     * 승인 리비전이 retainApproved + 1 개를 초과하는 엔티티를 최대 maxEntities 개까지 압축한다.
+     * 엔티티마다 별도 트랜잭션으로 처리하므로 한 엔티티의 실패가 다른 엔티티의 압축을 되돌리지 않으며,
+     * 실패한 엔티티는 로그를 남기고 건너뛴다.
+     *
+     * @return 압축된 엔티티 수
+     */
+    public int compact(int retainApproved, int maxEntities) {
+        if (retainApproved < 1) {
+            throw new IllegalArgumentException("retainApproved must be at least 1: " + retainApproved);
+        }
+        List<RevisionEntityKey> candidates = revisionRepository.findCompactionCandidates(retainApproved + 1L, Limit.of(maxEntities));
+
+        int compacted = 0;
+        for (RevisionEntityKey key : candidates) {
+            try {
+                Boolean result = transactionTemplate.execute(status -> compactEntity(key, retainApproved));
+                if (Boolean.TRUE.equals(result)) {
+                    compacted++;
+                }
+            } catch (RuntimeException e) {
+                // 실패한 엔티티는 건너뛰고 나머지 후보를 계속 압축
+                log.warn("Revision compaction failed for {} {}", key.entityType(), key.entityId(), e);
+            }
+        }
+        return compacted;
+    }
+
+    private boolean compactEntity(RevisionEntityKey key, int retainApproved) {
+        // 1. 승인 리비전 ID 최신순 조회
+        List<Long> approvedIds = revisionRepository.findApprovedRevisionIds(key.entityType(), key.entityId());
+        if (approvedIds.size() <= retainApproved + 1) {
+            return false;
+        }
+
+        // 2. 보존 구간 바로 다음 리비전을 체크포인트로 지정
+        EntityRevision checkpoint = revisionRepository.findById(approvedIds.get(retainApproved))
+                .orElseThrow(() -> new IllegalStateException("Checkpoint revision not found: " + approvedIds.get(retainApproved)));
+        checkpoint.markCheckpoint(JsonDiffUtils.diff(JsonNodeFactory.instance.objectNode(), checkpoint.getRevisionData()));
+
+        // 3. 체크포인트 이전 승인 리비전 삭제
+        revisionRepository.deleteAllByIdInBatch(approvedIds.subList(retainApproved + 1, approvedIds.size()));
+        return true;
+    }
+}
@@ -1,24 +1,44 @@
 package com.otterdram.otterdram.domain.spirits.revision.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.otterdram.otterdram.common.audit.service.ReviewableService;
 import com.otterdram.otterdram.common.enums.common.DataStatus;
 import com.otterdram.otterdram.common.enums.common.RevisionStatus;
-import com.otterdram.otterdram.domain.spirits.company.Company;
-import com.otterdram.otterdram.domain.spirits.company.dto.CompanyRevisionPayload;
-import com.otterdram.otterdram.domain.spirits.company.repository.CompanyRepository;
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+import com.otterdram.otterdram.common.outbox.OutboxEventType;
+import com.otterdram.otterdram.common.outbox.OutboxService;
 import com.otterdram.otterdram.domain.spirits.revision.EntityRevision;
+import com.otterdram.otterdram.domain.spirits.revision.RevisableEntity;
+import com.otterdram.otterdram.domain.spirits.revision.applier.RevisionApplier;
+import com.otterdram.otterdram.domain.spirits.revision.applier.RevisionApplierRegistry;
+import com.otterdram.otterdram.domain.spirits.revision.dto.RevisionDataView;
+import com.otterdram.otterdram.domain.spirits.revision.dto.RevisionProcessResult;
+import com.otterdram.otterdram.domain.spirits.revision.dto.RevisionQueueCondition;
+import com.otterdram.otterdram.domain.spirits.revision.dto.RevisionQueueCursor;
+import com.otterdram.otterdram.domain.spirits.revision.dto.RevisionQueuePage;
+import com.otterdram.otterdram.domain.spirits.revision.dto.RevisionSummary;
 import com.otterdram.otterdram.domain.spirits.revision.repository.RevisionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class RevisionService extends ReviewableService<EntityRevision, Long> {
     private final RevisionRepository revisionRepository;
-    private final CompanyRepository companyRepository;
+    private final RevisionApplierRegistry revisionApplierRegistry;
+    private final OutboxService outboxService;
 
     @Override
     protected JpaRepository<EntityRevision, Long> getRepository() {
@@ -35,56 +55,156 @@ public class RevisionService extends ReviewableService<EntityRevision, Long> {
         processRevision(revisionId, RevisionStatus.REJECTED);
     }
 
+    /**
+     * 여러 리비전을 하나의 트랜잭션에서 일괄 승인/반려한다.
+     * <p>
+     * 리비전과 대상 엔티티는 엔티티 타입별 IN 쿼리 한 번으로 조회하고, 변경분은 dirty checking 으로
+     * 커밋 시점에 JDBC 배치로 반영된다.
+     * 개별 항목의 실패는 전체 트랜잭션을 롤백하지 않고 결과 목록에 실패 사유로 기록된다.
+     *
+     * @param revisionIds 처리할 리비전 ID 목록 (중복은 한 번만 처리)
+     * @param status APPROVED 또는 REJECTED
+     * @return 요청 순서대로의 항목별 처리 결과
+     */
+    @Transactional
+    public List<RevisionProcessResult> processRevisions(List<Long> revisionIds, RevisionStatus status) {
+        if (status == RevisionStatus.IN_REVIEW) {
+            throw new IllegalArgumentException("Revisions can only be processed as APPROVED or REJECTED.");
+        }
+        Set<Long> ids = new LinkedHashSet<>(revisionIds);
+
+        // 1. 리비전 일괄 조회
+        Map<Long, EntityRevision> revisions = revisionRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(EntityRevision::getId, Function.identity()));
+
+        // 2. 엔티티 타입별 대상 엔티티 일괄 조회
+        Map<RevisionTargetEntity, Map<Long, RevisableEntity>> targets = new EnumMap<>(RevisionTargetEntity.class);
+        revisions.values().stream()
+                .collect(Collectors.groupingBy(EntityRevision::getEntityType,
+                        Collectors.mapping(EntityRevision::getEntityId, Collectors.toSet())))
+                .forEach((entityType, entityIds) -> targets.put(entityType, findTargets(entityType, entityIds)));
+
+        // 3. 항목별 처리
+        List<RevisionProcessResult> results = new ArrayList<>(ids.size());
+        for (Long revisionId : ids) {
+            EntityRevision revision = revisions.get(revisionId);
+            if (revision == null) {
+                results.add(RevisionProcessResult.failure(revisionId, status, "Revision not found"));
+                continue;
+            }
+            try {
+                RevisionApplier<?> applier = revisionApplierRegistry.get(revision.getEntityType());
+                RevisableEntity target = targets.get(revision.getEntityType()).get(revision.getEntityId());
+                if (target == null) {
+                    throw new IllegalArgumentException(targetNotFoundMessage(revision));
+                }
+                applyRevision(applier, target, revision, status);
+                revision.review(getCurrentUserId(), status);
+                appendReviewedEvent(revision, status);
+                results.add(RevisionProcessResult.success(revisionId, status));
+            } catch (IllegalArgumentException | IllegalStateException | UnsupportedOperationException e) {
+                results.add(RevisionProcessResult.failure(revisionId, status, e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 모더레이션 큐를 (created_at, id) 오름차순으로 keyset 페이지네이션 조회한다.
+     * <p>
+     * 다음 페이지 존재 여부는 size + 1 건을 조회하여 판단하므로 count 쿼리를 실행하지 않는다.
+     * revision_data 는 includeRevisionData 인 경우에만 해당 페이지의 ID 로 한 번 더 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public RevisionQueuePage getModerationQueue(RevisionQueueCondition condition) {
+        Limit limit = Limit.of(condition.size() + 1);
+        List<RevisionSummary> rows;
+        if (condition.cursor() == null) {
+            rows = revisionRepository.findQueue(
+                    condition.status(), condition.entityType(), condition.createdBy(), limit);
+        } else {
+            RevisionQueueCursor cursor = RevisionQueueCursor.decode(condition.cursor());
+            rows = revisionRepository.findQueueAfter(
+                    condition.status(), condition.entityType(), condition.createdBy(),
+                    cursor.createdAt(), cursor.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > condition.size();
+        List<RevisionSummary> items = hasNext ? rows.subList(0, condition.size()) : rows;
+        if (condition.includeRevisionData() && !items.isEmpty()) {
+            items = withRevisionData(items);
+        }
+        String nextCursor = hasNext ? RevisionQueueCursor.of(items.getLast()).encode() : null;
+        return new RevisionQueuePage(List.copyOf(items), nextCursor);
+    }
+
+    private List<RevisionSummary> withRevisionData(List<RevisionSummary> items) {
+        Map<Long, RevisionDataView> revisionData = revisionRepository
+                .findRevisionDataByIdIn(items.stream().map(RevisionSummary::id).toList()).stream()
+                .collect(Collectors.toMap(RevisionDataView::getId, Function.identity()));
+        return items.stream()
+                .map(item -> {
+                    RevisionDataView view = revisionData.get(item.id());
+                    return view == null ? item : item.withRevisionData(view.getRevisionData());
+                })
+                .toList();
+    }
+
     private void processRevision(Long revisionId, RevisionStatus status) {
         // 1. 리비전 조회
         EntityRevision revision = revisionRepository.findById(revisionId)
                 .orElseThrow(() -> new IllegalArgumentException("Revision not found"));
 
         // 2. 엔티티 타입별 처리
-        processEntityByStatus(revision, status);
+        RevisionApplier<?> applier = revisionApplierRegistry.get(revision.getEntityType());
+        RevisableEntity target = applier.findTargets(List.of(revision.getEntityId())).stream()
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(targetNotFoundMessage(revision)));
+        applyRevision(applier, target, revision, status);
 
         // 3. 리비전 상태 업데이트
         this.review(revision.getId(), status);
+        appendReviewedEvent(revision, status);
     }
 
-    private void processEntityByStatus(EntityRevision revision, RevisionStatus status) {
-        switch (revision.getEntityType()) {
-            case COMPANY -> processCompanyRevision(revision, status);
-            // 다른 엔티티 타입에 대한 처리 로직 추가 가능
-            default -> throw new UnsupportedOperationException("Unsupported entity type for processing");
-        }
+    private void appendReviewedEvent(EntityRevision revision, RevisionStatus status) {
+        OutboxEventType eventType = status == RevisionStatus.APPROVED
+                ? OutboxEventType.REVISION_APPROVED
+                : OutboxEventType.REVISION_REJECTED;
+        outboxService.append(eventType, revision.getEntityType(), revision.getEntityId(), revision.getId());
     }
 
-    private void processCompanyRevision(EntityRevision revision, RevisionStatus status) {
-        // 1. 컴퍼니 조회
-        Company company = companyRepository.findById(revision.getEntityId())
-                .orElseThrow(() -> new IllegalArgumentException("Company not found for revision entityId " + revision.getEntityId()));
-
-        // 2. 컴퍼니 상태 확인
-        if (company.getStatus() != DataStatus.IN_REVIEW) {
-            throw new IllegalStateException("Company is not in review status");
+    private Map<Long, RevisableEntity> findTargets(RevisionTargetEntity entityType, Set<Long> entityIds) {
+        try {
+            Map<Long, RevisableEntity> found = new HashMap<>();
+            revisionApplierRegistry.get(entityType).findTargets(entityIds)
+                    .forEach(entity -> found.put(entity.getId(), entity));
+            return found;
+        } catch (UnsupportedOperationException e) {
+            // 미지원 타입은 항목별 처리 단계에서 실패로 기록
+            return Map.of();
         }
+    }
 
-        // 3. 리비전 데이터로 컴퍼니 정보 업데이트
-        ObjectMapper objectMapper = new ObjectMapper();
-        CompanyRevisionPayload revisionData = objectMapper.convertValue(revision.getRevisionData(), CompanyRevisionPayload.class);
-
-        if (status == RevisionStatus.APPROVED) {
-            Company updatedCompany = company.toBuilder()
-                    .parentCompany(revisionData.companyBaseData().parentCompanyId() != null ? companyRepository.getReferenceById(revisionData.companyBaseData().parentCompanyId()) : null)
-                    .companyLogo(revisionData.companyBaseData().companyLogo())
-                    .companyName(revisionData.companyBaseData().companyName())
-                    .translations(revisionData.companyBaseData().translations())
-                    .descriptions(revisionData.companyBaseData().descriptions())
-                    .independentBottler(revisionData.companyBaseData().independentBottler())
-                    .status(DataStatus.CONFIRMED)
-                    .build();
-            companyRepository.save(updatedCompany);
-        } else if (status == RevisionStatus.REJECTED) {
-            Company updatedCompany = company.toBuilder()
-                    .status(revisionData.snapshotStatus())
-                    .build();
-            companyRepository.save(updatedCompany);
+    @SuppressWarnings("unchecked")
+    private <E extends RevisableEntity> void applyRevision(RevisionApplier<E> applier, RevisableEntity target,
+                                                           EntityRevision revision, RevisionStatus status) {
+        // 대상 엔티티를 변경하기 전에 리비전 상태부터 검증 (반영 후 review() 실패 시 변경분이 커밋되는 것을 방지)
+        if (revision.isReviewed() || !revision.isPendingReview()) {
+            throw new IllegalStateException("Cannot review an already reviewed or non-pending item.");
+        }
+        if (target.getStatus() != DataStatus.IN_REVIEW) {
+            throw new IllegalStateException(revision.getEntityType() + " is not in review status");
+        }
+        E entity = (E) target;
+        switch (status) {
+            case APPROVED -> applier.approve(entity, revision);
+            case REJECTED -> applier.reject(entity, revision);
+            default -> throw new IllegalArgumentException("Unsupported revision status: " + status);
         }
     }
+
+    private String targetNotFoundMessage(EntityRevision revision) {
+        return revision.getEntityType() + " not found for revision entityId " + revision.getEntityId();
+    }
 }
@@ -0,0 +1,72 @@
+package com.otterdram.otterdram.domain.spirits.search;
+
+import com.otterdram.otterdram.common.enums.common.DataStatus;
+import com.otterdram.otterdram.common.enums.common.LanguageCode;
+import io.hypersistence.utils.hibernate.type.json.JsonType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Type;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 통합 카탈로그 검색 항목. 회사/증류소/브랜드/컬렉션/모델/릴리스의 이름과 모든 언어 번역을 한 행으로 모은 읽기 전용 색인이며,
+ * 원본 엔티티의 아웃박스 이벤트마다 원본 테이블에서 다시 계산한다 (CatalogSearchIndexer). 삭제된 엔티티는 행이 없다.
+ * <pre>
+ * Table catalog_search_entries {
+ *   entity_type RevisionEntityType [not null, note: "원본 엔티티 종류"]
+ *   entity_id bigint [not null, note: "원본 엔티티 ID"]
+ *   name varchar(100) [not null, note: "원본 이름"]
+ *   translations jsonb [note: "원본 다국어 이름"]
+ *   search_text text [not null, note: "이름 + 모든 번역의 정규화 텍스트 (NFKC, 공백 정리, 소문자)"]
+ *   search_vector tsvector [note: "generated: to_tsvector('simple', search_text) (db/indexes.sql)"]
+ *   status DataStatus [not null, note: "원본 상태"]
+ *   indexed_at timestamptz(6) [not null]
+ *   indexes {
+ *     (entity_type, entity_id) [pk]
+ *     search_vector [name: 'ix_catalog_search_entries_vector', note: "gin (db/indexes.sql)"]
+ *     search_text [name: 'ix_catalog_search_entries_trgm', note: "gin_trgm_ops (db/indexes.sql)"]
+ *   }
+ * }
+ * </pre>
+ */
+
+@Getter
+@Builder
+@Entity
+@Table(name = "catalog_search_entries")
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CatalogSearchEntry {
+
+    @EmbeddedId
+    private CatalogSearchEntryId id;
+
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    @Type(JsonType.class)
+    @Column(name = "translations", columnDefinition = "jsonb")
+    private Map<LanguageCode, String> translations;
+
+    @Column(name = "search_text", nullable = false, columnDefinition = "text")
+    private String searchText;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, columnDefinition = "varchar(20)")
+    private DataStatus status;
+
+    @Column(name = "indexed_at", nullable = false, columnDefinition = "timestamptz(6)")
+    private Instant indexedAt;
+
+    /**
+     * 언어별 표시 이름. 해당 언어 번역이 없으면 원본 이름.
+     */
+    public String displayName(LanguageCode languageCode) {
+        if (translations == null || languageCode == null) {
+            return name;
+        }
+        return translations.getOrDefault(languageCode, name);
+    }
+}
@@ -0,0 +1,28 @@
+package com.otterdram.otterdram.domain.spirits.search;
+
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 통합 검색 항목 키 (entity_type, entity_id)
+ */
+@Getter
+@Embeddable
+@EqualsAndHashCode
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CatalogSearchEntryId implements Serializable {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, columnDefinition = "varchar(50)")
+    private RevisionTargetEntity entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+}
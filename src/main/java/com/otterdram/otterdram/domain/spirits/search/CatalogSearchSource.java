@@ -0,0 +1,42 @@
+package com.otterdram.otterdram.domain.spirits.search;
+
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+import lombok.Getter;
+
+import java.util.Optional;
+
+/**
+ * 통합 검색에 색인되는 원본 테이블과 이름 컬럼.
+ * 네이티브 SQL 에 그대로 들어가므로 값은 상수로만 둔다.
+ */
+@Getter
+public enum CatalogSearchSource {
+    COMPANY(RevisionTargetEntity.COMPANY, "companies", "company_name"),
+    DISTILLERY(RevisionTargetEntity.DISTILLERY, "distilleries", "distillery_name"),
+    BRAND(RevisionTargetEntity.BRAND, "brands", "brand_name"),
+    COLLECTION(RevisionTargetEntity.COLLECTION, "collections", "collection_name"),
+    MODEL(RevisionTargetEntity.MODEL, "models", "model_name"),
+    RELEASE(RevisionTargetEntity.RELEASE, "releases", "release_name");
+
+    private final RevisionTargetEntity entityType;
+    private final String tableName;
+    private final String nameColumn;
+
+    CatalogSearchSource(RevisionTargetEntity entityType, String tableName, String nameColumn) {
+        this.entityType = entityType;
+        this.tableName = tableName;
+        this.nameColumn = nameColumn;
+    }
+
+    /**
+     * @return 색인 대상이 아닌 엔티티 종류(캐스크 등)면 empty
+     */
+    public static Optional<CatalogSearchSource> of(RevisionTargetEntity entityType) {
+        for (CatalogSearchSource source : values()) {
+            if (source.entityType == entityType) {
+                return Optional.of(source);
+            }
+        }
+        return Optional.empty();
+    }
+}
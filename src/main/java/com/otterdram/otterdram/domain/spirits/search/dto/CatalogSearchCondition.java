@@ -0,0 +1,47 @@
+package com.otterdram.otterdram.domain.spirits.search.dto;
+
+import com.otterdram.otterdram.common.enums.common.LanguageCode;
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+import com.otterdram.otterdram.common.utils.NameNormalizer;
+import com.otterdram.otterdram.domain.spirits.search.CatalogSearchSource;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * 통합 카탈로그 검색 조건.
+ *
+ * @param q            검색어 (NameNormalizer 로 정규화, 2–100자)
+ * @param entityTypes  대상 엔티티 종류 (null 이거나 비어 있으면 색인 대상 전체)
+ * @param languageCode 표시 이름 언어 (null 이면 원본 이름)
+ * @param size         결과 수 (null 이면 20, 1–50)
+ */
+public record CatalogSearchCondition(
+    String q,
+    Set<RevisionTargetEntity> entityTypes,
+    LanguageCode languageCode,
+    Integer size
+) {
+    public static final int MIN_QUERY_LENGTH = 2;
+    public static final int MAX_QUERY_LENGTH = 100;
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 50;
+
+    public CatalogSearchCondition {
+        q = NameNormalizer.normalize(q);
+        if (q == null || q.length() < MIN_QUERY_LENGTH || q.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("q must be between " + MIN_QUERY_LENGTH + " and " + MAX_QUERY_LENGTH + " characters");
+        }
+        if (entityTypes == null || entityTypes.isEmpty()) {
+            entityTypes = Set.copyOf(Arrays.stream(CatalogSearchSource.values()).map(CatalogSearchSource::getEntityType).toList());
+        } else if (entityTypes.stream().anyMatch(type -> CatalogSearchSource.of(type).isEmpty())) {
+            throw new IllegalArgumentException("entityTypes must be searchable catalog entities: " + entityTypes);
+        }
+        if (size == null) {
+            size = DEFAULT_SIZE;
+        }
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_SIZE + ": " + size);
+        }
+    }
+}
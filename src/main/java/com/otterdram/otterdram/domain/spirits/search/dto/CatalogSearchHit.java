@@ -0,0 +1,18 @@
+package com.otterdram.otterdram.domain.spirits.search.dto;
+
+import com.otterdram.otterdram.common.enums.common.DataStatus;
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+
+/**
+ * 통합 검색 결과 항목 (관련도 순).
+ *
+ * @param displayName 요청 언어의 번역 이름, 없으면 원본 이름
+ */
+public record CatalogSearchHit(
+    RevisionTargetEntity entityType,
+    Long entityId,
+    String name,
+    String displayName,
+    DataStatus status
+) {
+}
@@ -0,0 +1,80 @@
+package com.otterdram.otterdram.domain.spirits.search.indexer;
+
+import com.otterdram.otterdram.common.outbox.OutboxMessage;
+import com.otterdram.otterdram.domain.spirits.search.CatalogSearchSource;
+import com.otterdram.otterdram.domain.spirits.search.repository.CatalogSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 통합 검색 색인 갱신.
+ * <p>
+ * 아웃박스 이벤트(생성, 리비전 제출/승인/반려, 삭제/복원)를 받으면 해당 엔티티의 검색 항목을 원본 테이블에서 다시 계산한다.
+ * 이벤트 내용과 무관하게 원본의 현재 상태를 반영하므로 중복 전달이나 순서 뒤바뀜에도 결과가 같다 (멱등).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogSearchIndexer {
+    private final CatalogSearchRepository catalogSearchRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 릴레이의 전달 트랜잭션이나 같은 이벤트의 다른 리스너와 분리된 트랜잭션에서 색인한다.
+     * 색인 SQL 이 실패해도 이 트랜잭션만 롤백되고, 예외는 릴레이로 전파되어 재전달 대상이 된다.
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void on(OutboxMessage message) {
+        CatalogSearchSource.of(message.aggregateType())
+                .ifPresent(source -> reindex(source, List.of(message.aggregateId())));
+    }
+
+    /**
+     * 삭제되지 않은 엔티티는 항목을 넣거나 갱신하고, 없거나 삭제된 엔티티는 항목을 지운다.
+     */
+    @Transactional
+    public void reindex(CatalogSearchSource source, Collection<Long> entityIds) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        catalogSearchRepository.upsertFromSource(source, entityIds);
+        catalogSearchRepository.deleteMissingFromSource(source, entityIds);
+    }
+
+    /**
+     * 원본 테이블 전체를 ID 순으로 batchSize 개씩 다시 색인한다. 배치마다 별도 트랜잭션으로 커밋한다.
+     *
+     * @return 처리한 원본 행 수
+     */
+    public long rebuild(CatalogSearchSource source, int batchSize) {
+        long afterId = 0;
+        long processed = 0;
+        while (true) {
+            long from = afterId;
+            List<Long> entityIds = transactionTemplate.execute(status -> {
+                List<Long> ids = catalogSearchRepository.findSourceIds(source, from, batchSize);
+                reindex(source, ids);
+                return ids;
+            });
+            if (entityIds == null || entityIds.isEmpty()) {
+                break;
+            }
+            processed += entityIds.size();
+            afterId = entityIds.getLast();
+            if (entityIds.size() < batchSize) {
+                break;
+            }
+        }
+        log.info("Rebuilt catalog search entries of {} {} rows", processed, source);
+        return processed;
+    }
+}
@@ -0,0 +1,33 @@
+package com.otterdram.otterdram.domain.spirits.search.indexer;
+
+import com.otterdram.otterdram.domain.spirits.search.CatalogSearchSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 인자로 통합 검색 색인을 처음부터 다시 만든다 (최초 도입, 아웃박스를 거치지 않은 일괄 변경 후).
+ * <pre>
+ * --otterdram.search.rebuild=true
+ * [--otterdram.search.rebuild-batch-size=1000]
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "otterdram.search", name = "rebuild", havingValue = "true")
+public class CatalogSearchRebuildRunner implements ApplicationRunner {
+    private final CatalogSearchIndexer catalogSearchIndexer;
+
+    @Value("${otterdram.search.rebuild-batch-size:1000}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        for (CatalogSearchSource source : CatalogSearchSource.values()) {
+            catalogSearchIndexer.rebuild(source, batchSize);
+        }
+    }
+}
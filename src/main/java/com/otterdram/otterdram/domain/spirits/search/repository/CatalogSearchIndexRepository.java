@@ -0,0 +1,31 @@
+package com.otterdram.otterdram.domain.spirits.search.repository;
+
+import com.otterdram.otterdram.domain.spirits.search.CatalogSearchSource;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 원본 테이블에서 검색 항목을 다시 계산한다. 원본 테이블 이름이 종류마다 달라 네이티브 SQL 을 직접 조립한다.
+ */
+public interface CatalogSearchIndexRepository {
+
+    /**
+     * 삭제되지 않은 원본 행의 검색 항목을 넣거나 갱신한다.
+     *
+     * @return 갱신한 항목 수
+     */
+    int upsertFromSource(CatalogSearchSource source, Collection<Long> entityIds);
+
+    /**
+     * 원본이 없거나 소프트 삭제된 엔티티의 검색 항목을 지운다.
+     *
+     * @return 지운 항목 수
+     */
+    int deleteMissingFromSource(CatalogSearchSource source, Collection<Long> entityIds);
+
+    /**
+     * 재색인용으로 원본 ID 를 삭제 여부와 무관하게 afterId 다음부터 ID 순으로 읽는다.
+     */
+    List<Long> findSourceIds(CatalogSearchSource source, long afterId, int limit);
+}
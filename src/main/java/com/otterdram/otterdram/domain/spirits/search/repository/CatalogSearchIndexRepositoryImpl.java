@@ -0,0 +1,78 @@
+package com.otterdram.otterdram.domain.spirits.search.repository;
+
+import com.otterdram.otterdram.domain.spirits.search.CatalogSearchSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.util.Collection;
+import java.util.List;
+
+class CatalogSearchIndexRepositoryImpl implements CatalogSearchIndexRepository {
+
+    // 이름과 번역을 이어 붙인 뒤 NameNormalizer 와 같은 규칙(NFKC, 공백 정리, 소문자)으로 정규화한다
+    private static final String UPSERT = """
+            insert into catalog_search_entries (entity_type, entity_id, name, translations, search_text, status, indexed_at)
+            select :entityType, s.id, s.%2$s, s.translations,
+                   lower(regexp_replace(regexp_replace(normalize(
+                       concat_ws(' ', s.%2$s, (select string_agg(t.value, ' ' order by t.key)
+                                               from jsonb_each_text(s.translations) as t)), NFKC),
+                       '^\\s+|\\s+$', '', 'g'), '\\s+', ' ', 'g')),
+                   s.status, now()
+            from %1$s s
+            where s.id = any(cast(:entityIds as bigint[]))
+              and s.deleted_at is null
+            on conflict (entity_type, entity_id)
+            do update set name = excluded.name,
+                          translations = excluded.translations,
+                          search_text = excluded.search_text,
+                          status = excluded.status,
+                          indexed_at = excluded.indexed_at
+            """;
+
+    private static final String DELETE_MISSING = """
+            delete from catalog_search_entries e
+            where e.entity_type = :entityType
+              and e.entity_id = any(cast(:entityIds as bigint[]))
+              and not exists (select 1
+                              from %1$s s
+                              where s.id = e.entity_id
+                                and s.deleted_at is null)
+            """;
+
+    private static final String SOURCE_IDS = """
+            select s.id
+            from %1$s s
+            where s.id > :afterId
+            order by s.id
+            limit :limit
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int upsertFromSource(CatalogSearchSource source, Collection<Long> entityIds) {
+        return entityManager.createNativeQuery(UPSERT.formatted(source.getTableName(), source.getNameColumn()))
+                .setParameter("entityType", source.getEntityType().name())
+                .setParameter("entityIds", entityIds.toArray(Long[]::new))
+                .executeUpdate();
+    }
+
+    @Override
+    public int deleteMissingFromSource(CatalogSearchSource source, Collection<Long> entityIds) {
+        return entityManager.createNativeQuery(DELETE_MISSING.formatted(source.getTableName()))
+                .setParameter("entityType", source.getEntityType().name())
+                .setParameter("entityIds", entityIds.toArray(Long[]::new))
+                .executeUpdate();
+    }
+
+    @Override
+    public List<Long> findSourceIds(CatalogSearchSource source, long afterId, int limit) {
+        return entityManager.unwrap(Session.class)
+                .createNativeQuery(SOURCE_IDS.formatted(source.getTableName()), Long.class)
+                .setParameter("afterId", afterId)
+                .setParameter("limit", limit)
+                .getResultList();
+    }
+}
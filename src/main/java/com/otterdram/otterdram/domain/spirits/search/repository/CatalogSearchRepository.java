@@ -0,0 +1,36 @@
+package com.otterdram.otterdram.domain.spirits.search.repository;
+
+import com.otterdram.otterdram.domain.spirits.search.CatalogSearchEntry;
+import com.otterdram.otterdram.domain.spirits.search.CatalogSearchEntryId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface CatalogSearchRepository extends JpaRepository<CatalogSearchEntry, CatalogSearchEntryId>, CatalogSearchIndexRepository {
+
+    /**
+     * 이름/번역 통합 검색.
+     * <p>
+     * 단어 단위 일치(search_vector @@ tsquery, ix_catalog_search_entries_vector)와
+     * 오타/접두어 허용 유사 일치(q <% search_text, pg_trgm.word_similarity_threshold 기본 0.6, ix_catalog_search_entries_trgm)를
+     * 합쳐서 찾는다. 단어 일치를 먼저, 그 안에서는 단어 유사도가 높은 순으로 정렬한다.
+     * q 는 NameNormalizer 로 정규화된 값이어야 한다.
+     */
+    @Query(value = """
+            select e.*
+            from catalog_search_entries e
+            where e.entity_type in (:entityTypes)
+              and e.status in (:statuses)
+              and (e.search_vector @@ plainto_tsquery('simple', :q) or :q <% e.search_text)
+            order by (e.search_vector @@ plainto_tsquery('simple', :q)) desc,
+                     word_similarity(:q, e.search_text) desc,
+                     e.entity_type, e.entity_id
+            limit :limit
+            """, nativeQuery = true)
+    List<CatalogSearchEntry> search(@Param("q") String q,
+                                    @Param("entityTypes") List<String> entityTypes,
+                                    @Param("statuses") List<String> statuses,
+                                    @Param("limit") int limit);
+}
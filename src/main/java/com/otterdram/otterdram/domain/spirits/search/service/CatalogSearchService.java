@@ -0,0 +1,38 @@
+package com.otterdram.otterdram.domain.spirits.search.service;
+
+import com.otterdram.otterdram.common.enums.common.DataStatus;
+import com.otterdram.otterdram.domain.spirits.search.dto.CatalogSearchCondition;
+import com.otterdram.otterdram.domain.spirits.search.dto.CatalogSearchHit;
+import com.otterdram.otterdram.domain.spirits.search.repository.CatalogSearchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 통합 카탈로그 검색.
+ * <p>
+ * 여섯 개 원본 테이블을 각각 LIKE 로 훑는 대신 catalog_search_entries 하나를 전문/트라이그램 인덱스로 조회한다.
+ * 노출 가능한 상태(CONFIRMED, IN_REVIEW)만 찾는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogSearchService {
+    static final List<String> VISIBLE_STATUSES = List.of(DataStatus.CONFIRMED.name(), DataStatus.IN_REVIEW.name());
+
+    private final CatalogSearchRepository catalogSearchRepository;
+
+    @Transactional(readOnly = true)
+    public List<CatalogSearchHit> search(CatalogSearchCondition condition) {
+        List<String> entityTypes = condition.entityTypes().stream().map(Enum::name).sorted().toList();
+        return catalogSearchRepository.search(condition.q(), entityTypes, VISIBLE_STATUSES, condition.size()).stream()
+                .map(entry -> new CatalogSearchHit(
+                        entry.getId().getEntityType(),
+                        entry.getId().getEntityId(),
+                        entry.getName(),
+                        entry.displayName(condition.languageCode()),
+                        entry.getStatus()))
+                .toList();
+    }
+}
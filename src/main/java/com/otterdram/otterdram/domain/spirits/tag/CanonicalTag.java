@@ -0,0 +1,72 @@
+package com.otterdram.otterdram.domain.spirits.tag;
+
+import com.otterdram.otterdram.common.audit.superclass.Creatable;
+import com.otterdram.otterdram.common.enums.common.LanguageCode;
+import io.hypersistence.utils.hibernate.type.json.JsonType;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Type;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 태그 사전. 표기만 다른 태그("Sherry bomb", "sherry-bomb", "SHERRY BOMB")는 정규화 키 하나로 모인다.
+ * <pre>
+ * Table canonical_tags {
+ *   id bigint [pk, increment]
+ *   tag_key varchar(50) [not null, unique, note: "정규화 키 (NFKC, 하이픈/밑줄/공백 정리, 소문자)"]
+ *   name varchar(50) [not null, note: "대표 표기 (처음 등록된 표기)"]
+ *   translations jsonb [note: "언어별 표시 이름"]
+ *   created_at timestamp [not null, default: `CURRENT_TIMESTAMP`]
+ *   created_by bigint [ref: > users.id, not null]
+ * }
+ * </pre>
+ */
+
+@Getter
+@SuperBuilder
+@Entity
+@Table(name = "canonical_tags")
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CanonicalTag extends Creatable {
+
+    @Id
+    @SequenceGenerator(name = "canonical_tag_seq", sequenceName = "canonical_tag_sequence", allocationSize = 50)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "canonical_tag_seq")
+    private Long id;
+
+    @Column(name = "tag_key", nullable = false, unique = true, length = 50)
+    private String tagKey;
+
+    @Column(name = "name", nullable = false, length = 50)
+    private String name;
+
+    @Type(JsonType.class)
+    @Column(name = "translations", columnDefinition = "jsonb")
+    private Map<LanguageCode, String> translations;
+
+    /**
+     * 언어별 표시 이름. 해당 언어 번역이 없으면 대표 표기.
+     */
+    public String displayName(LanguageCode languageCode) {
+        if (translations == null || languageCode == null) {
+            return name;
+        }
+        return translations.getOrDefault(languageCode, name);
+    }
+
+    public void addTranslationIfAbsent(LanguageCode languageCode, String translation) {
+        if (translations == null) {
+            translations = new HashMap<>();
+        } else if (translations.containsKey(languageCode)) {
+            return;
+        }
+        // JsonType 은 값 비교로 변경을 감지하므로 새 맵으로 교체한다
+        Map<LanguageCode, String> updated = new HashMap<>(translations);
+        updated.put(languageCode, translation);
+        translations = updated;
+    }
+}
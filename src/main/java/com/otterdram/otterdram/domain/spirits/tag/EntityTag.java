@@ -1,11 +1,10 @@
 package com.otterdram.otterdram.domain.spirits.tag;
 
 import com.otterdram.otterdram.common.audit.superclass.Creatable;
-import com.otterdram.otterdram.common.enums.common.LanguageCode;
 import com.otterdram.otterdram.common.enums.target.TagTargetEntity;
 import jakarta.persistence.*;
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
 
 /**
  * Tag Entity
@@ -14,21 +13,29 @@ import lombok.NoArgsConstructor;
  *   id bigint [pk, increment]
  *   entity_type TagEntityType [not null, note: "태그 대상 엔티티 종류"]
  *   entity_id bigint [not null, note: "태그 대상 엔티티 ID"]
- *   language_code LanguageCode [not null]
- *   tag varchar(50) [not null]
+ *   tag_id bigint [ref: > canonical_tags.id, not null, note: "사전 태그 ID"]
  *   created_at timestamp [not null, default: `CURRENT_TIMESTAMP`]
  *   created_by bigint [ref: > users.id, not null]
+ *   indexes {
+ *     (entity_type, entity_id, tag_id) [unique, name: 'ux_entity_tags_entity_tag', note: "db/indexes.sql"]
+ *     (entity_type, id) [name: 'ix_entity_tags_entity_type_id', note: "keyset 페이지 (db/indexes.sql)"]
+ *     (tag_id, id) [name: 'ix_entity_tags_tag_id', note: "keyset 페이지 (db/indexes.sql)"]
+ *     (entity_type, tag_id, entity_id) [name: 'ix_entity_tags_type_tag_entity', note: "태그 필터 posting list (db/indexes.sql)"]
+ *   }
  * }
  * </pre>
  */
 
+@Getter
+@SuperBuilder
 @Entity
 @Table(name = "entity_tags")
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class EntityTag extends Creatable {
 
     @Id
-    @SequenceGenerator(name = "tag_seq", sequenceName = "tag_sequence")
+    @SequenceGenerator(name = "tag_seq", sequenceName = "tag_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tag_seq")
     private Long id;
 
@@ -39,10 +46,7 @@ public class EntityTag extends Creatable {
     @Column(name = "entity_id", nullable = false)
     private Long entityId;
 
-    @Enumerated(EnumType.STRING)
-    @Column(name = "language_code", nullable = false, columnDefinition = "varchar(10) default 'EN'")
-    private LanguageCode languageCode = LanguageCode.EN;
-
-    @Column(name = "tag", nullable = false, length = 50)
-    private String tag;
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "tag_id", nullable = false)
+    private CanonicalTag tag;
 }
@@ -0,0 +1,34 @@
+package com.otterdram.otterdram.domain.spirits.tag;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 엔티티 종류별 태그 사용 수. 태그 부착/해제 시 같은 트랜잭션에서 증감한다.
+ * <pre>
+ * Table entity_tag_counts {
+ *   entity_type TagEntityType [not null, note: "태그 대상 엔티티 종류"]
+ *   tag_id bigint [ref: > canonical_tags.id, not null]
+ *   tag_count bigint [not null, default: 0, note: "해당 태그가 부착된 엔티티 수"]
+ *   indexes {
+ *     (entity_type, tag_id) [pk]
+ *     (entity_type, tag_count) [name: 'ix_entity_tag_counts_top', note: "tag_count DESC (db/indexes.sql)"]
+ *   }
+ * }
+ * </pre>
+ */
+
+@Getter
+@Entity
+@Table(name = "entity_tag_counts")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EntityTagCount {
+
+    @EmbeddedId
+    private EntityTagCountId id;
+
+    @Column(name = "tag_count", nullable = false, columnDefinition = "bigint default 0")
+    private Long tagCount;
+}
@@ -0,0 +1,28 @@
+package com.otterdram.otterdram.domain.spirits.tag;
+
+import com.otterdram.otterdram.common.enums.target.TagTargetEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 태그 사용 수 집계 키 (entity_type, tag_id)
+ */
+@Getter
+@Embeddable
+@EqualsAndHashCode
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EntityTagCountId implements Serializable {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, columnDefinition = "varchar(50)")
+    private TagTargetEntity entityType;
+
+    @Column(name = "tag_id", nullable = false)
+    private Long tagId;
+}
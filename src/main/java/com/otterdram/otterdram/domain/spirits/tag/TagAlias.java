@@ -0,0 +1,59 @@
+package com.otterdram.otterdram.domain.spirits.tag;
+
+import com.otterdram.otterdram.common.audit.superclass.Creatable;
+import com.otterdram.otterdram.common.enums.common.LanguageCode;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 언어별 태그 별칭. 입력된 태그는 (language_code, alias_key) 로 사전 태그를 찾는다.
+ * 다른 언어의 별칭을 같은 사전 태그에 연결하면 언어가 달라도 같은 태그로 집계된다.
+ * <pre>
+ * Table tag_aliases {
+ *   id bigint [pk, increment]
+ *   tag_id bigint [ref: > canonical_tags.id, not null]
+ *   language_code LanguageCode [not null]
+ *   alias varchar(50) [not null, note: "입력 표기"]
+ *   alias_key varchar(50) [not null, note: "정규화 키"]
+ *   created_at timestamp [not null, default: `CURRENT_TIMESTAMP`]
+ *   created_by bigint [ref: > users.id, not null]
+ *   indexes {
+ *     (language_code, alias_key) [unique, name: 'ux_tag_aliases_language_alias_key']
+ *     (language_code, alias_key) [name: 'ix_tag_aliases_prefix', note: "text_pattern_ops, 접두어 자동완성 (db/indexes.sql)"]
+ *     tag_id [name: 'ix_tag_aliases_tag_id', note: "db/indexes.sql"]
+ *   }
+ * }
+ * </pre>
+ */
+
+@Getter
+@SuperBuilder
+@Entity
+@Table(
+    name = "tag_aliases",
+    uniqueConstraints = @UniqueConstraint(name = "ux_tag_aliases_language_alias_key", columnNames = {"language_code", "alias_key"})
+)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TagAlias extends Creatable {
+
+    @Id
+    @SequenceGenerator(name = "tag_alias_seq", sequenceName = "tag_alias_sequence", allocationSize = 50)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tag_alias_seq")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "tag_id", nullable = false)
+    private CanonicalTag tag;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "language_code", nullable = false, columnDefinition = "varchar(10)")
+    private LanguageCode languageCode;
+
+    @Column(name = "alias", nullable = false, length = 50)
+    private String alias;
+
+    @Column(name = "alias_key", nullable = false, length = 50)
+    private String aliasKey;
+}
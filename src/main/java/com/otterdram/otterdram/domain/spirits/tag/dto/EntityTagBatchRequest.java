@@ -0,0 +1,25 @@
+package com.otterdram.otterdram.domain.spirits.tag.dto;
+
+import com.otterdram.otterdram.common.enums.common.LanguageCode;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 한 엔티티에 여러 태그를 한 번에 부착/해제하는 요청.
+ *
+ * @param languageCode 태그 언어
+ * @param tags         태그 목록 (앞뒤 공백 제거, 연속 공백 축약 후 중복 제거)
+ */
+public record EntityTagBatchRequest(
+    @NotNull(message = "Language code must not be null")
+    LanguageCode languageCode,
+
+    @NotEmpty(message = "Tags must not be empty")
+    @Size(max = 50, message = "Tags must not exceed 50 items")
+    List<@NotBlank(message = "Tag must not be blank") @Size(max = 50, message = "Tag must not exceed 50 characters") String> tags
+) {
+}
@@ -0,0 +1,18 @@
+package com.otterdram.otterdram.domain.spirits.tag.dto;
+
+import java.util.List;
+
+/**
+ * id keyset 태그 페이지.
+ *
+ * @param items       id 오름차순 항목
+ * @param nextAfterId 다음 페이지 조회에 넘길 afterId (마지막 페이지면 null)
+ */
+public record EntityTagPage(
+    List<EntityTagResponse> items,
+    Long nextAfterId
+) {
+    public boolean hasNext() {
+        return nextAfterId != null;
+    }
+}
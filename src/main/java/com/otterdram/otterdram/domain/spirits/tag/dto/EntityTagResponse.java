@@ -0,0 +1,14 @@
+package com.otterdram.otterdram.domain.spirits.tag.dto;
+
+import com.otterdram.otterdram.common.enums.target.TagTargetEntity;
+
+public record EntityTagResponse(
+    Long id,
+    TagTargetEntity entityType,
+    Long entityId,
+    Long tagId,
+    String tag
+//    String createdAt,
+//    Long createdBy
+) {
+}
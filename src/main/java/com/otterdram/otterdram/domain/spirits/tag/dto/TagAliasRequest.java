@@ -0,0 +1,22 @@
+package com.otterdram.otterdram.domain.spirits.tag.dto;
+
+import com.otterdram.otterdram.common.enums.common.LanguageCode;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 사전 태그에 언어별 별칭을 연결하는 요청.
+ *
+ * @param languageCode 별칭 언어
+ * @param alias        별칭 표기. 해당 언어의 표시 이름이 없으면 표시 이름으로도 쓴다.
+ */
+public record TagAliasRequest(
+    @NotNull(message = "Language code must not be null")
+    LanguageCode languageCode,
+
+    @NotBlank(message = "Alias must not be blank")
+    @Size(max = 50, message = "Alias must not exceed 50 characters")
+    String alias
+) {
+}
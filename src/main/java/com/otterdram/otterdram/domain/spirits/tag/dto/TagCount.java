@@ -0,0 +1,15 @@
+package com.otterdram.otterdram.domain.spirits.tag.dto;
+
+/**
+ * 태그와 해당 태그가 부착된 엔티티 수 (자동완성, 인기 태그, 패싯 응답)
+ *
+ * @param tagId 사전 태그 ID
+ * @param tag   요청 언어의 표시 이름
+ * @param count 엔티티 수
+ */
+public record TagCount(
+    Long tagId,
+    String tag,
+    long count
+) {
+}
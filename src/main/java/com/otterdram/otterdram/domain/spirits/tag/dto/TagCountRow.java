@@ -0,0 +1,10 @@
+package com.otterdram.otterdram.domain.spirits.tag.dto;
+
+/**
+ * 사전 태그 ID 별 엔티티 수 집계 행. 표시 이름은 서비스에서 사전 태그로 채운다.
+ */
+public record TagCountRow(
+    Long tagId,
+    long count
+) {
+}
@@ -0,0 +1,9 @@
+package com.otterdram.otterdram.domain.spirits.tag.dto;
+
+/**
+ * 태그별 매칭 엔티티 수 집계 행 (인터페이스 프로젝션).
+ */
+public interface TagFacetRow {
+    Long getTagId();
+    Long getEntityCount();
+}
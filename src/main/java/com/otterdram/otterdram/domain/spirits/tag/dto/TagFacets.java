@@ -0,0 +1,15 @@
+package com.otterdram.otterdram.domain.spirits.tag.dto;
+
+import java.util.List;
+
+/**
+ * 태그 필터 결과의 패싯.
+ *
+ * @param totalEntities 필터에 맞는 전체 엔티티 수
+ * @param facets        매칭 엔티티에 함께 부착된 태그와 그 엔티티 수 (많은 순)
+ */
+public record TagFacets(
+    long totalEntities,
+    List<TagCount> facets
+) {
+}
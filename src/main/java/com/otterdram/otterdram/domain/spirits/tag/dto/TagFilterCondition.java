@@ -0,0 +1,51 @@
+package com.otterdram.otterdram.domain.spirits.tag.dto;
+
+import com.otterdram.otterdram.common.enums.target.TagTargetEntity;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 태그로 엔티티를 거르는 조건.
+ *
+ * @param entityType    대상 엔티티 종류
+ * @param tagIds        필터 사전 태그 ID (1–10개)
+ * @param mode          결합 방식 (null 이면 ALL)
+ * @param afterEntityId 이전 페이지의 nextAfterEntityId (null 이면 첫 페이지)
+ * @param size          페이지 크기 (null 이면 50, 1–200)
+ */
+public record TagFilterCondition(
+    TagTargetEntity entityType,
+    List<Long> tagIds,
+    TagMatchMode mode,
+    Long afterEntityId,
+    Integer size
+) {
+    public static final int MAX_TAGS = 10;
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 200;
+
+    public TagFilterCondition {
+        if (entityType == null) {
+            throw new IllegalArgumentException("entityType must not be null");
+        }
+        if (tagIds == null || tagIds.isEmpty() || tagIds.size() > MAX_TAGS) {
+            throw new IllegalArgumentException("tagIds must contain between 1 and " + MAX_TAGS + " items");
+        }
+        if (tagIds.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("tagIds must not contain null");
+        }
+        if (mode == null) {
+            mode = TagMatchMode.ALL;
+        }
+        if (afterEntityId == null) {
+            afterEntityId = 0L;
+        }
+        if (size == null) {
+            size = DEFAULT_SIZE;
+        }
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_SIZE + ": " + size);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.otterdram.otterdram.domain.spirits.tag.dto;
+
+import java.util.List;
+
+/**
+ * 태그 필터에 맞는 엔티티 ID 페이지. 목록 서비스는 이 ID 로 엔티티를 한 번에 조회한다.
+ *
+ * @param entityIds         entity_id 오름차순
+ * @param nextAfterEntityId 다음 페이지 조회에 넘길 afterEntityId (마지막 페이지면 null)
+ */
+public record TagFilterPage(
+    List<Long> entityIds,
+    Long nextAfterEntityId
+) {
+    public static TagFilterPage empty() {
+        return new TagFilterPage(List.of(), null);
+    }
+
+    public boolean hasNext() {
+        return nextAfterEntityId != null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.otterdram.otterdram.domain.spirits.tag.dto;
+
+/**
+ * 다중 태그 필터 결합 방식.
+ */
+public enum TagMatchMode {
+    /** 모든 태그가 부착된 엔티티 (AND) */
+    ALL,
+    /** 하나 이상의 태그가 부착된 엔티티 (OR) */
+    ANY
+}
@@ -0,0 +1,16 @@
+package com.otterdram.otterdram.domain.spirits.tag.mapper;
+
+import com.otterdram.otterdram.domain.spirits.tag.EntityTag;
+import com.otterdram.otterdram.domain.spirits.tag.dto.EntityTagResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface TagMapper {
+    TagMapper INSTANCE = Mappers.getMapper(TagMapper.class);
+
+    @Mapping(target = "tagId", source = "tag.id")
+    @Mapping(target = "tag", source = "tag.name")
+    EntityTagResponse toResponse(EntityTag entityTag);
+}
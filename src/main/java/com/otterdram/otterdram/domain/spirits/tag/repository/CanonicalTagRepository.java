@@ -0,0 +1,12 @@
+package com.otterdram.otterdram.domain.spirits.tag.repository;
+
+import com.otterdram.otterdram.domain.spirits.tag.CanonicalTag;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CanonicalTagRepository extends JpaRepository<CanonicalTag, Long> {
+
+    List<CanonicalTag> findByTagKeyIn(Collection<String> tagKeys);
+}
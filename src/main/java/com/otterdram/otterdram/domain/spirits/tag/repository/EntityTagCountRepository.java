@@ -0,0 +1,79 @@
+package com.otterdram.otterdram.domain.spirits.tag.repository;
+
+import com.otterdram.otterdram.common.enums.common.LanguageCode;
+import com.otterdram.otterdram.common.enums.target.TagTargetEntity;
+import com.otterdram.otterdram.domain.spirits.tag.EntityTagCount;
+import com.otterdram.otterdram.domain.spirits.tag.EntityTagCountId;
+import com.otterdram.otterdram.domain.spirits.tag.dto.TagCountRow;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface EntityTagCountRepository extends JpaRepository<EntityTagCount, EntityTagCountId> {
+
+    /**
+     * 태그별 사용 수를 delta 만큼 증감한다. 집계 행이 없으면 만든다.
+     * 동시에 같은 태그들을 갱신하는 트랜잭션끼리 행 잠금 순서가 엇갈리지 않도록 tagIds 는 정렬해서 넘긴다.
+     */
+    @Modifying
+    @Query(value = """
+            insert into entity_tag_counts (entity_type, tag_id, tag_count)
+            select :entityType, t.tag_id, greatest(:delta, 0)
+            from unnest(cast(:tagIds as bigint[])) as t(tag_id)
+            on conflict (entity_type, tag_id)
+            do update set tag_count = greatest(entity_tag_counts.tag_count + :delta, 0)
+            """, nativeQuery = true)
+    int addCounts(@Param("entityType") String entityType,
+                  @Param("tagIds") Long[] tagIds,
+                  @Param("delta") long delta);
+
+    /**
+     * 언어별 별칭 키의 접두어로 태그를 사용 수 내림차순 조회한다 (ix_tag_aliases_prefix).
+     * prefixPattern 은 정규화 키 기준이며 LIKE 특수문자를 이스케이프하고 '%' 로 끝나야 한다.
+     */
+    @Query("""
+            select new com.otterdram.otterdram.domain.spirits.tag.dto.TagCountRow(c.id.tagId, c.tagCount)
+            from EntityTagCount c
+            where c.id.entityType = :entityType
+              and c.tagCount > 0
+              and c.id.tagId in (select a.tag.id
+                                 from TagAlias a
+                                 where a.languageCode = :languageCode
+                                   and a.aliasKey like :prefixPattern escape '\\')
+            order by c.tagCount desc, c.id.tagId
+            """)
+    List<TagCountRow> findByAliasPrefix(@Param("entityType") TagTargetEntity entityType,
+                                        @Param("languageCode") LanguageCode languageCode,
+                                        @Param("prefixPattern") String prefixPattern,
+                                        Limit limit);
+
+    /**
+     * 엔티티 종류별 인기 태그를 집계 테이블에서 바로 읽는다 (ix_entity_tag_counts_top).
+     */
+    @Query("""
+            select new com.otterdram.otterdram.domain.spirits.tag.dto.TagCountRow(c.id.tagId, c.tagCount)
+            from EntityTagCount c
+            where c.id.entityType = :entityType
+              and c.tagCount > 0
+            order by c.tagCount desc, c.id.tagId
+            """)
+    List<TagCountRow> findTop(@Param("entityType") TagTargetEntity entityType, Limit limit);
+
+    /**
+     * 주어진 태그의 사용 수. 다중 태그 필터의 시작 태그(가장 드문 태그)를 고를 때 쓴다.
+     */
+    @Query("""
+            select new com.otterdram.otterdram.domain.spirits.tag.dto.TagCountRow(c.id.tagId, c.tagCount)
+            from EntityTagCount c
+            where c.id.entityType = :entityType
+              and c.id.tagId in :tagIds
+              and c.tagCount > 0
+            """)
+    List<TagCountRow> findByTagIds(@Param("entityType") TagTargetEntity entityType,
+                                   @Param("tagIds") Collection<Long> tagIds);
+}
@@ -0,0 +1,26 @@
+package com.otterdram.otterdram.domain.spirits.tag.repository;
+
+import com.otterdram.otterdram.common.enums.common.LanguageCode;
+import com.otterdram.otterdram.domain.spirits.tag.TagAlias;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TagAliasRepository extends JpaRepository<TagAlias, Long> {
+
+    /**
+     * 언어별 별칭 키로 사전 태그를 함께 조회한다 (ux_tag_aliases_language_alias_key).
+     */
+    @Query("""
+            select a
+            from TagAlias a
+            join fetch a.tag
+            where a.languageCode = :languageCode
+              and a.aliasKey in :aliasKeys
+            """)
+    List<TagAlias> findWithTagByLanguageCodeAndAliasKeyIn(@Param("languageCode") LanguageCode languageCode,
+                                                          @Param("aliasKeys") Collection<String> aliasKeys);
+}
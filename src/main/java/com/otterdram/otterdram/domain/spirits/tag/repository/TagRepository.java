@@ -2,15 +2,194 @@ package com.otterdram.otterdram.domain.spirits.tag.repository;
 
 import com.otterdram.otterdram.common.enums.target.TagTargetEntity;
 import com.otterdram.otterdram.domain.spirits.tag.EntityTag;
+import com.otterdram.otterdram.domain.spirits.tag.dto.EntityTagResponse;
+import com.otterdram.otterdram.domain.spirits.tag.dto.TagFacetRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface TagRepository extends JpaRepository<EntityTag, Long> {
 
+    @EntityGraph(attributePaths = "tag")
     List<EntityTag> findByEntityTypeAndEntityId(TagTargetEntity entityType, Long entityId);
 
-    List<EntityTag> findByEntityType(TagTargetEntity entityType);
+    /**
+     * 한 페이지 분량 엔티티의 태그를 한 번의 쿼리로 조회한다 (ux_entity_tags_entity_tag 인덱스 사용).
+     */
+    @EntityGraph(attributePaths = "tag")
+    List<EntityTag> findByEntityTypeAndEntityIdIn(TagTargetEntity entityType, Collection<Long> entityIds);
 
-    List<EntityTag> findByTagName(String tagName);
+    /**
+     * 엔티티에 이미 부착된 태그 중 주어진 태그만 조회한다 (ux_entity_tags_entity_tag 인덱스 사용).
+     */
+    @EntityGraph(attributePaths = "tag")
+    List<EntityTag> findByEntityTypeAndEntityIdAndTagIdIn(TagTargetEntity entityType,
+                                                          Long entityId,
+                                                          Collection<Long> tagIds);
+
+    // 전체 건수를 세지 않는 오프셋 페이지. 깊은 페이지는 아래 keyset 조회를 사용한다.
+    Slice<EntityTag> findByEntityType(TagTargetEntity entityType, Pageable pageable);
+
+    Slice<EntityTag> findByTagId(Long tagId, Pageable pageable);
+
+    /**
+     * 엔티티 종류별 태그를 id 오름차순 keyset 으로 조회한다 (ix_entity_tags_entity_type_id).
+     * 첫 페이지는 afterId = 0 으로 호출한다.
+     */
+    @Query("""
+            select new com.otterdram.otterdram.domain.spirits.tag.dto.EntityTagResponse(
+                t.id, t.entityType, t.entityId, t.tag.id, t.tag.name)
+            from EntityTag t
+            where t.entityType = :entityType
+              and t.id > :afterId
+            order by t.id asc
+            """)
+    List<EntityTagResponse> findByEntityTypeAfter(@Param("entityType") TagTargetEntity entityType,
+                                                  @Param("afterId") long afterId,
+                                                  Limit limit);
+
+    /**
+     * 태그별 부착 목록을 id 오름차순 keyset 으로 조회한다 (ix_entity_tags_tag_id).
+     * 첫 페이지는 afterId = 0 으로 호출한다.
+     */
+    @Query("""
+            select new com.otterdram.otterdram.domain.spirits.tag.dto.EntityTagResponse(
+                t.id, t.entityType, t.entityId, t.tag.id, t.tag.name)
+            from EntityTag t
+            where t.tag.id = :tagId
+              and t.id > :afterId
+            order by t.id asc
+            """)
+    List<EntityTagResponse> findByTagIdAfter(@Param("tagId") Long tagId,
+                                             @Param("afterId") long afterId,
+                                             Limit limit);
+
+    /**
+     * 엔티티 종류별 태그 전체를 스트리밍한다. 영속성 컨텍스트에 쌓이지 않도록 DTO 로 읽으며,
+     * 트랜잭션 안에서 소비하고 닫아야 한다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            select new com.otterdram.otterdram.domain.spirits.tag.dto.EntityTagResponse(
+                t.id, t.entityType, t.entityId, t.tag.id, t.tag.name)
+            from EntityTag t
+            where t.entityType = :entityType
+            order by t.id asc
+            """)
+    Stream<EntityTagResponse> streamByEntityType(@Param("entityType") TagTargetEntity entityType);
+
+    /**
+     * 태그별 부착 목록 전체를 스트리밍한다. 트랜잭션 안에서 소비하고 닫아야 한다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            select new com.otterdram.otterdram.domain.spirits.tag.dto.EntityTagResponse(
+                t.id, t.entityType, t.entityId, t.tag.id, t.tag.name)
+            from EntityTag t
+            where t.tag.id = :tagId
+            order by t.id asc
+            """)
+    Stream<EntityTagResponse> streamByTagId(@Param("tagId") Long tagId);
+
+    /**
+     * 모든 태그가 부착된 엔티티 ID (AND).
+     * 가장 드문 태그(driverTagId)의 posting list 를 ix_entity_tags_type_tag_entity 에서 entity_id 순으로 읽으면서
+     * 나머지 태그를 엔티티별 ux_entity_tags_entity_tag 로 확인하므로, limit 건을 채우면 더 읽지 않는다.
+     * tagIds 는 driverTagId 를 포함한 전체 필터 태그이고 tagCount 는 그 개수다.
+     */
+    @Query(value = """
+            select distinct t.entity_id
+            from entity_tags t
+            where t.entity_type = :entityType
+              and t.tag_id = :driverTagId
+              and t.entity_id > :afterEntityId
+              and (select count(distinct o.tag_id)
+                   from entity_tags o
+                   where o.entity_type = t.entity_type
+                     and o.entity_id = t.entity_id
+                     and o.tag_id in (:tagIds)) = :tagCount
+            order by t.entity_id
+            limit :limit
+            """, nativeQuery = true)
+    List<Long> findEntityIdsWithAllTags(@Param("entityType") String entityType,
+                                        @Param("driverTagId") Long driverTagId,
+                                        @Param("tagIds") Collection<Long> tagIds,
+                                        @Param("tagCount") int tagCount,
+                                        @Param("afterEntityId") long afterEntityId,
+                                        @Param("limit") int limit);
+
+    /**
+     * 하나 이상의 태그가 부착된 엔티티 ID (OR).
+     * 태그마다 ix_entity_tags_type_tag_entity 에서 커서 이후 posting list 를 entity_id 순으로 limit 건까지만 읽고(LATERAL),
+     * 그 결과(최대 태그 수 × limit 건)만 중복 제거/정렬하여 앞의 limit 건을 고른다.
+     * 어떤 태그의 limit 건 밖에 있는 엔티티는 그 태그의 앞선 limit 건보다 뒤이므로 결과에 들 수 없다.
+     */
+    @Query(value = """
+            select distinct p.entity_id
+            from unnest(cast(:tagIds as bigint[])) as f(tag_id)
+            cross join lateral (select t.entity_id
+                                from entity_tags t
+                                where t.entity_type = :entityType
+                                  and t.tag_id = f.tag_id
+                                  and t.entity_id > :afterEntityId
+                                order by t.entity_id
+                                limit :limit) p
+            order by p.entity_id
+            limit :limit
+            """, nativeQuery = true)
+    List<Long> findEntityIdsWithAnyTag(@Param("entityType") String entityType,
+                                       @Param("tagIds") Long[] tagIds,
+                                       @Param("afterEntityId") long afterEntityId,
+                                       @Param("limit") int limit);
+
+    /**
+     * 필터 태그 중 minMatched 개 이상이 부착된 엔티티 수 (ALL 은 태그 수, ANY 는 1).
+     * 필터 태그의 posting list 전체를 읽어 엔티티별로 집계하므로 비용은 필터 태그 사용 수의 합에 비례한다.
+     */
+    @Query(value = """
+            select count(*)
+            from (select t.entity_id
+                  from entity_tags t
+                  where t.entity_type = :entityType
+                    and t.tag_id in (:tagIds)
+                  group by t.entity_id
+                  having count(distinct t.tag_id) >= :minMatched) m
+            """, nativeQuery = true)
+    long countMatchingEntities(@Param("entityType") String entityType,
+                               @Param("tagIds") Collection<Long> tagIds,
+                               @Param("minMatched") int minMatched);
+
+    /**
+     * 필터에 맞는 엔티티들에 부착된 태그별 엔티티 수 (패싯).
+     * 일치 엔티티 집합을 다시 만든 뒤 그 엔티티들의 태그 전체를 집계하므로, 비용은 일치 엔티티 수 × 엔티티당 태그 수에 비례한다.
+     */
+    @Query(value = """
+            select f.tag_id as tagId, count(distinct f.entity_id) as entityCount
+            from entity_tags f
+            where f.entity_type = :entityType
+              and f.entity_id in (select t.entity_id
+                                  from entity_tags t
+                                  where t.entity_type = :entityType
+                                    and t.tag_id in (:tagIds)
+                                  group by t.entity_id
+                                  having count(distinct t.tag_id) >= :minMatched)
+            group by f.tag_id
+            order by entityCount desc, f.tag_id
+            limit :limit
+            """, nativeQuery = true)
+    List<TagFacetRow> findFacets(@Param("entityType") String entityType,
+                                 @Param("tagIds") Collection<Long> tagIds,
+                                 @Param("minMatched") int minMatched,
+                                 @Param("limit") int limit);
 }
@@ -0,0 +1,170 @@
+package com.otterdram.otterdram.domain.spirits.tag.service;
+
+import com.otterdram.otterdram.common.enums.common.LanguageCode;
+import com.otterdram.otterdram.common.utils.NameNormalizer;
+import com.otterdram.otterdram.domain.spirits.tag.CanonicalTag;
+import com.otterdram.otterdram.domain.spirits.tag.TagAlias;
+import com.otterdram.otterdram.domain.spirits.tag.dto.TagAliasRequest;
+import com.otterdram.otterdram.domain.spirits.tag.dto.TagCount;
+import com.otterdram.otterdram.domain.spirits.tag.dto.TagCountRow;
+import com.otterdram.otterdram.domain.spirits.tag.repository.CanonicalTagRepository;
+import com.otterdram.otterdram.domain.spirits.tag.repository.TagAliasRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 태그 사전 (canonical_tags, tag_aliases).
+ * <p>
+ * 입력 태그는 {@link NameNormalizer#normalizeTag} 키로 비교한다. 먼저 요청 언어의 별칭을 찾고,
+ * 없으면 사전 태그 키를 찾아 별칭을 추가하며, 그래도 없으면 입력 표기를 대표 표기로 하는 사전 태그를 만든다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TagDictionaryService {
+
+    private final CanonicalTagRepository canonicalTagRepository;
+    private final TagAliasRepository tagAliasRepository;
+
+    /**
+     * 입력 태그를 사전 태그로 해석하고, 사전에 없는 태그는 사전 태그와 별칭을 만든다.
+     * 서로 다른 입력이 별칭으로 같은 사전 태그를 가리킬 수 있으므로 결과 크기는 입력보다 작을 수 있다.
+     *
+     * @return 사전 태그 (ID 순)
+     */
+    @Transactional
+    public List<CanonicalTag> resolveOrCreate(LanguageCode languageCode, Collection<String> tags) {
+        Map<String, String> inputs = inputsByKey(tags);
+        if (inputs.isEmpty()) {
+            return List.of();
+        }
+        Map<String, CanonicalTag> resolved = findByAlias(languageCode, inputs.keySet());
+
+        Set<String> missing = new TreeSet<>(inputs.keySet());
+        missing.removeAll(resolved.keySet());
+        if (!missing.isEmpty()) {
+            // 다른 언어로 먼저 등록된 같은 표기는 사전 태그 키로 찾는다
+            canonicalTagRepository.findByTagKeyIn(missing)
+                    .forEach(tag -> resolved.put(tag.getTagKey(), tag));
+
+            List<CanonicalTag> newTags = missing.stream()
+                    .filter(key -> !resolved.containsKey(key))
+                    .<CanonicalTag>map(key -> CanonicalTag.builder()
+                            .tagKey(key)
+                            .name(inputs.get(key))
+                            .translations(new HashMap<>(Map.of(languageCode, inputs.get(key))))
+                            .build())
+                    .toList();
+            canonicalTagRepository.saveAll(newTags)
+                    .forEach(tag -> resolved.put(tag.getTagKey(), tag));
+
+            tagAliasRepository.saveAll(missing.stream()
+                    .<TagAlias>map(key -> TagAlias.builder()
+                            .tag(resolved.get(key))
+                            .languageCode(languageCode)
+                            .alias(inputs.get(key))
+                            .aliasKey(key)
+                            .build())
+                    .toList());
+        }
+        return distinctById(resolved.values());
+    }
+
+    /**
+     * 입력 태그 중 사전에 있는 것만 사전 태그로 해석한다. 사전을 변경하지 않는다.
+     *
+     * @return 사전 태그 (ID 순)
+     */
+    @Transactional(readOnly = true)
+    public List<CanonicalTag> resolveExisting(LanguageCode languageCode, Collection<String> tags) {
+        Map<String, String> inputs = inputsByKey(tags);
+        if (inputs.isEmpty()) {
+            return List.of();
+        }
+        Map<String, CanonicalTag> resolved = findByAlias(languageCode, inputs.keySet());
+
+        Set<String> missing = new HashSet<>(inputs.keySet());
+        missing.removeAll(resolved.keySet());
+        if (!missing.isEmpty()) {
+            canonicalTagRepository.findByTagKeyIn(missing)
+                    .forEach(tag -> resolved.put(tag.getTagKey(), tag));
+        }
+        return distinctById(resolved.values());
+    }
+
+    /**
+     * 사전 태그에 언어별 별칭을 연결한다. 해당 언어의 표시 이름이 없으면 별칭을 표시 이름으로 등록한다.
+     * 같은 별칭이 이미 이 태그에 연결되어 있으면 아무것도 하지 않는다.
+     */
+    @Transactional
+    public void addAlias(Long tagId, TagAliasRequest request) {
+        CanonicalTag tag = canonicalTagRepository.findById(tagId)
+                .orElseThrow(() -> new IllegalArgumentException("Tag with id '" + tagId + "' not found."));
+        String aliasKey = NameNormalizer.normalizeTag(request.alias());
+        if (aliasKey == null || aliasKey.isEmpty()) {
+            throw new IllegalArgumentException("Alias must not be blank");
+        }
+
+        List<TagAlias> existing = tagAliasRepository.findWithTagByLanguageCodeAndAliasKeyIn(request.languageCode(), List.of(aliasKey));
+        if (!existing.isEmpty()) {
+            CanonicalTag linked = existing.getFirst().getTag();
+            if (linked.getId().equals(tagId)) {
+                return;
+            }
+            throw new IllegalArgumentException("Alias '" + request.alias() + "' is already linked to tag '" + linked.getName() + "'.");
+        }
+
+        String alias = NameNormalizer.cleanTag(request.alias());
+        tagAliasRepository.save(TagAlias.builder()
+                .tag(tag)
+                .languageCode(request.languageCode())
+                .alias(alias)
+                .aliasKey(aliasKey)
+                .build());
+        tag.addTranslationIfAbsent(request.languageCode(), alias);
+    }
+
+    /**
+     * 집계 행에 요청 언어의 표시 이름을 붙인다. 사전 태그는 한 번의 쿼리로 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public List<TagCount> withDisplayNames(List<TagCountRow> rows, LanguageCode languageCode) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, CanonicalTag> tags = canonicalTagRepository.findAllById(rows.stream().map(TagCountRow::tagId).toList()).stream()
+                .collect(Collectors.toMap(CanonicalTag::getId, Function.identity()));
+        return rows.stream()
+                .filter(row -> tags.containsKey(row.tagId()))
+                .map(row -> new TagCount(row.tagId(), tags.get(row.tagId()).displayName(languageCode), row.count()))
+                .toList();
+    }
+
+    private Map<String, CanonicalTag> findByAlias(LanguageCode languageCode, Collection<String> keys) {
+        return tagAliasRepository.findWithTagByLanguageCodeAndAliasKeyIn(languageCode, keys).stream()
+                .collect(Collectors.toMap(TagAlias::getAliasKey, TagAlias::getTag, (first, second) -> first, HashMap::new));
+    }
+
+    // 정규화 키 → 처음 나온 입력 표기 (공백 정리). 빈 키는 버린다.
+    private static Map<String, String> inputsByKey(Collection<String> tags) {
+        Map<String, String> inputs = new TreeMap<>();
+        for (String tag : tags) {
+            String key = NameNormalizer.normalizeTag(tag);
+            if (key != null && !key.isEmpty()) {
+                inputs.putIfAbsent(key, NameNormalizer.cleanTag(tag));
+            }
+        }
+        return inputs;
+    }
+
+    private static List<CanonicalTag> distinctById(Collection<CanonicalTag> tags) {
+        return tags.stream()
+                .collect(Collectors.toMap(CanonicalTag::getId, Function.identity(), (first, second) -> first, TreeMap::new))
+                .values().stream()
+                .toList();
+    }
+}
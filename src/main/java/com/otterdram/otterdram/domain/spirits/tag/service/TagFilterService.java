@@ -0,0 +1,107 @@
+package com.otterdram.otterdram.domain.spirits.tag.service;
+
+import com.otterdram.otterdram.common.enums.common.LanguageCode;
+import com.otterdram.otterdram.common.enums.target.TagTargetEntity;
+import com.otterdram.otterdram.domain.spirits.tag.dto.*;
+import com.otterdram.otterdram.domain.spirits.tag.repository.EntityTagCountRepository;
+import com.otterdram.otterdram.domain.spirits.tag.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * 태그 교집합(ALL)/합집합(ANY) 필터와 패싯.
+ * <p>
+ * 필터는 사전 태그 ID 로 받는다. entity_tags 의 (entity_type, tag_id, entity_id) 인덱스를 태그별 entity_id 정렬 posting list 로 사용한다.
+ * ALL 은 사용 수가 가장 적은 태그의 posting list 를 순서대로 읽으면서 나머지 태그를 엔티티별로 확인하고,
+ * ANY 는 태그마다 posting list 를 페이지 크기만큼만 읽은 뒤 entity_id 순으로 병합한다. 두 경우 모두 entity_id keyset 으로
+ * 페이지를 나누므로 한 페이지를 채우는 데 필요한 만큼만 인덱스를 읽는다 (ANY 는 최대 태그 수 × 페이지 크기).
+ * 패싯은 페이지로 나눌 수 없어 일치 엔티티 집합 전체를 집계하며, 요청마다 집계 쿼리 두 번이 실행된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TagFilterService {
+    public static final int MAX_FACETS = 50;
+
+    private final TagRepository tagRepository;
+    private final EntityTagCountRepository entityTagCountRepository;
+    private final TagDictionaryService tagDictionaryService;
+
+    /**
+     * 태그 필터에 맞는 엔티티 ID 를 entity_id 오름차순으로 한 페이지 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public TagFilterPage findEntityIds(TagFilterCondition condition) {
+        SortedSet<Long> tagIds = tagIds(condition);
+        String entityType = condition.entityType().name();
+        int limit = condition.size() + 1;
+
+        List<Long> entityIds;
+        if (condition.mode() == TagMatchMode.ANY || tagIds.size() == 1) {
+            entityIds = tagRepository.findEntityIdsWithAnyTag(
+                    entityType, tagIds.toArray(Long[]::new), condition.afterEntityId(), limit);
+        } else {
+            Optional<Long> driverTagId = rarestTag(condition.entityType(), tagIds);
+            if (driverTagId.isEmpty()) {
+                return TagFilterPage.empty();
+            }
+            entityIds = tagRepository.findEntityIdsWithAllTags(
+                    entityType, driverTagId.get(), tagIds, tagIds.size(), condition.afterEntityId(), limit);
+        }
+
+        // 다음 페이지 존재 여부를 알기 위해 size + 1 건을 읽었다
+        if (entityIds.size() <= condition.size()) {
+            return new TagFilterPage(entityIds, null);
+        }
+        List<Long> page = entityIds.subList(0, condition.size());
+        return new TagFilterPage(page, page.getLast());
+    }
+
+    /**
+     * 태그 필터에 맞는 전체 엔티티 수와, 그 엔티티들에 부착된 태그별 엔티티 수를 많은 순으로 조회한다.
+     * 패싯 태그는 요청 언어의 표시 이름으로 반환하며, 페이지 조건(afterEntityId, size)은 사용하지 않는다.
+     * 전체 수와 패싯은 각각 일치 엔티티 집합 전체를 group by 로 집계하므로 비용이 일치 엔티티 수에 비례한다.
+     * 인기 태그 하나로 ANY 필터를 거는 등 일치 집합이 큰 요청은 목록 조회보다 훨씬 비싸다.
+     */
+    @Transactional(readOnly = true)
+    public TagFacets getFacets(TagFilterCondition condition, LanguageCode languageCode, int limit) {
+        if (limit < 1 || limit > MAX_FACETS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_FACETS + ": " + limit);
+        }
+        SortedSet<Long> tagIds = tagIds(condition);
+        boolean matchAll = condition.mode() == TagMatchMode.ALL;
+        if (matchAll && rarestTag(condition.entityType(), tagIds).isEmpty()) {
+            return new TagFacets(0, List.of());
+        }
+
+        String entityType = condition.entityType().name();
+        int minMatched = matchAll ? tagIds.size() : 1;
+        long total = tagRepository.countMatchingEntities(entityType, tagIds, minMatched);
+        if (total == 0) {
+            return new TagFacets(0, List.of());
+        }
+        List<TagCountRow> rows = tagRepository.findFacets(entityType, tagIds, minMatched, limit).stream()
+                .map(row -> new TagCountRow(row.getTagId(), row.getEntityCount()))
+                .toList();
+        List<TagCount> facets = tagDictionaryService.withDisplayNames(rows, languageCode);
+        return new TagFacets(total, facets);
+    }
+
+    // 사용 수가 가장 적은 태그. 사용 수가 0 인 태그가 하나라도 있으면 교집합은 비어 있으므로 empty
+    private Optional<Long> rarestTag(TagTargetEntity entityType, Set<Long> tagIds) {
+        List<TagCountRow> counts = entityTagCountRepository.findByTagIds(entityType, tagIds);
+        if (counts.size() < tagIds.size()) {
+            return Optional.empty();
+        }
+        return counts.stream()
+                .min(Comparator.comparingLong(TagCountRow::count))
+                .map(TagCountRow::tagId);
+    }
+
+    // 중복 제거 (정렬된 집합). 조건 생성 시 1개 이상임을 검증했다.
+    private static SortedSet<Long> tagIds(TagFilterCondition condition) {
+        return new TreeSet<>(condition.tagIds());
+    }
+}
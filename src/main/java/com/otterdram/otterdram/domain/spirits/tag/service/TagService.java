@@ -1,7 +1,225 @@
 package com.otterdram.otterdram.domain.spirits.tag.service;
 
+import com.otterdram.otterdram.common.enums.common.LanguageCode;
+import com.otterdram.otterdram.common.enums.target.TagTargetEntity;
+import com.otterdram.otterdram.common.utils.NameNormalizer;
+import com.otterdram.otterdram.domain.spirits.tag.CanonicalTag;
+import com.otterdram.otterdram.domain.spirits.tag.EntityTag;
+import com.otterdram.otterdram.domain.spirits.tag.dto.EntityTagBatchRequest;
+import com.otterdram.otterdram.domain.spirits.tag.dto.EntityTagPage;
+import com.otterdram.otterdram.domain.spirits.tag.dto.EntityTagResponse;
+import com.otterdram.otterdram.domain.spirits.tag.dto.TagCount;
+import com.otterdram.otterdram.domain.spirits.tag.mapper.TagMapper;
+import com.otterdram.otterdram.domain.spirits.tag.repository.EntityTagCountRepository;
+import com.otterdram.otterdram.domain.spirits.tag.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@RequiredArgsConstructor
 public class TagService {
+    public static final int MAX_LIMIT = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private final TagRepository tagRepository;
+    private final EntityTagCountRepository entityTagCountRepository;
+    private final TagDictionaryService tagDictionaryService;
+
+    @Transactional(readOnly = true)
+    public List<EntityTagResponse> getTags(TagTargetEntity entityType, Long entityId) {
+        return tagRepository.findByEntityTypeAndEntityId(entityType, entityId).stream()
+                .map(TagMapper.INSTANCE::toResponse)
+                .toList();
+    }
+
+    /**
+     * 목록 화면 한 페이지 분량 엔티티의 태그를 한 번의 쿼리로 읽어 엔티티 ID 별로 묶는다.
+     * 태그가 없는 엔티티는 결과 맵에 포함되지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<EntityTagResponse>> getTagsByEntityIds(TagTargetEntity entityType, Collection<Long> entityIds) {
+        if (entityIds.isEmpty()) {
+            return Map.of();
+        }
+        return tagRepository.findByEntityTypeAndEntityIdIn(entityType, entityIds).stream()
+                .map(TagMapper.INSTANCE::toResponse)
+                .collect(Collectors.groupingBy(EntityTagResponse::entityId));
+    }
+
+    /**
+     * 엔티티 종류별 태그를 id keyset 으로 페이지 조회한다.
+     *
+     * @param afterId 이전 페이지의 nextAfterId (null 이면 첫 페이지)
+     */
+    @Transactional(readOnly = true)
+    public EntityTagPage getTagsByEntityType(TagTargetEntity entityType, Long afterId, int size) {
+        return keysetPage(size, limit -> tagRepository.findByEntityTypeAfter(entityType, afterId == null ? 0L : afterId, limit));
+    }
+
+    /**
+     * 사전 태그가 부착된 엔티티 목록을 id keyset 으로 페이지 조회한다.
+     *
+     * @param afterId 이전 페이지의 nextAfterId (null 이면 첫 페이지)
+     */
+    @Transactional(readOnly = true)
+    public EntityTagPage getTagsByTag(Long tagId, Long afterId, int size) {
+        return keysetPage(size, limit -> tagRepository.findByTagIdAfter(tagId, afterId == null ? 0L : afterId, limit));
+    }
+
+    /**
+     * 엔티티 종류별 태그 전체를 consumer 에 전달한다. 전체 목록을 메모리에 올리지 않고 커서로 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public void streamByEntityType(TagTargetEntity entityType, Consumer<EntityTagResponse> consumer) {
+        try (Stream<EntityTagResponse> tags = tagRepository.streamByEntityType(entityType)) {
+            tags.forEach(consumer);
+        }
+    }
+
+    /**
+     * 사전 태그가 부착된 엔티티 전체를 consumer 에 전달한다. 전체 목록을 메모리에 올리지 않고 커서로 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public void streamByTag(Long tagId, Consumer<EntityTagResponse> consumer) {
+        try (Stream<EntityTagResponse> tags = tagRepository.streamByTagId(tagId)) {
+            tags.forEach(consumer);
+        }
+    }
+
+    /**
+     * 엔티티에 여러 태그를 한 번에 부착한다. 입력 태그는 사전 태그로 해석하며(없으면 사전에 등록),
+     * 이미 부착된 사전 태그는 건너뛰므로 같은 요청을 반복해도 결과가 같다.
+     * 새 태그는 saveAll 한 번(JDBC 배치)으로 저장하고, 사용 수는 한 번의 upsert 로 증가시킨다.
+     *
+     * @return 이번 요청으로 새로 부착된 태그
+     */
+    @Transactional
+    public List<EntityTagResponse> attachTags(TagTargetEntity entityType, Long entityId, EntityTagBatchRequest request) {
+        List<CanonicalTag> tags = tagDictionaryService.resolveOrCreate(request.languageCode(), request.tags());
+        if (tags.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> attached = findAttached(entityType, entityId, tags).stream()
+                .map(entityTag -> entityTag.getTag().getId())
+                .collect(Collectors.toSet());
+
+        List<EntityTag> newTags = tags.stream()
+                .filter(tag -> !attached.contains(tag.getId()))
+                .<EntityTag>map(tag -> EntityTag.builder()
+                        .entityType(entityType)
+                        .entityId(entityId)
+                        .tag(tag)
+                        .build())
+                .toList();
+        if (newTags.isEmpty()) {
+            return List.of();
+        }
+
+        List<EntityTag> savedTags = tagRepository.saveAll(newTags);
+        addCounts(entityType, newTags, 1);
+        return savedTags.stream()
+                .map(TagMapper.INSTANCE::toResponse)
+                .toList();
+    }
+
+    /**
+     * 엔티티에서 여러 태그를 한 번에 해제한다. 사전에 없거나 부착되지 않은 태그는 무시한다.
+     *
+     * @return 해제된 태그 수
+     */
+    @Transactional
+    public int detachTags(TagTargetEntity entityType, Long entityId, EntityTagBatchRequest request) {
+        List<CanonicalTag> tags = tagDictionaryService.resolveExisting(request.languageCode(), request.tags());
+        if (tags.isEmpty()) {
+            return 0;
+        }
+        List<EntityTag> existing = findAttached(entityType, entityId, tags);
+        if (existing.isEmpty()) {
+            return 0;
+        }
+
+        tagRepository.deleteAllInBatch(existing);
+        addCounts(entityType, existing, -1);
+        return existing.size();
+    }
+
+    @Transactional
+    public void detachTag(Long id) {
+        EntityTag entityTag = tagRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Tag with id '" + id + "' not found."));
+        tagRepository.delete(entityTag);
+        addCounts(entityTag.getEntityType(), List.of(entityTag), -1);
+    }
+
+    /**
+     * 요청 언어의 별칭이 접두어(정규화 키 기준)로 시작하는 태그를 사용 수가 많은 순으로 제안한다.
+     */
+    @Transactional(readOnly = true)
+    public List<TagCount> autocomplete(TagTargetEntity entityType, LanguageCode languageCode, String prefix, int limit) {
+        validateLimit(limit);
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        String prefixKey = NameNormalizer.normalizeTag(prefix);
+        if (prefixKey.isEmpty()) {
+            return List.of();
+        }
+        String prefixPattern = escapeLike(prefixKey) + "%";
+        return tagDictionaryService.withDisplayNames(
+                entityTagCountRepository.findByAliasPrefix(entityType, languageCode, prefixPattern, Limit.of(limit)), languageCode);
+    }
+
+    /**
+     * 엔티티 종류별 인기 태그를 요청 언어의 표시 이름으로 반환한다. entity_tags 를 집계하지 않고 entity_tag_counts 를 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public List<TagCount> getTopTags(TagTargetEntity entityType, LanguageCode languageCode, int limit) {
+        validateLimit(limit);
+        return tagDictionaryService.withDisplayNames(
+                entityTagCountRepository.findTop(entityType, Limit.of(limit)), languageCode);
+    }
+
+    // 다음 페이지 존재 여부를 알기 위해 size + 1 건을 읽는다
+    private static EntityTagPage keysetPage(int size, Function<Limit, List<EntityTagResponse>> query) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE + ": " + size);
+        }
+        List<EntityTagResponse> rows = query.apply(Limit.of(size + 1));
+        if (rows.size() <= size) {
+            return new EntityTagPage(rows, null);
+        }
+        List<EntityTagResponse> items = rows.subList(0, size);
+        return new EntityTagPage(items, items.getLast().id());
+    }
+
+    private List<EntityTag> findAttached(TagTargetEntity entityType, Long entityId, Collection<CanonicalTag> tags) {
+        List<Long> tagIds = tags.stream().map(CanonicalTag::getId).toList();
+        return tagRepository.findByEntityTypeAndEntityIdAndTagIdIn(entityType, entityId, tagIds);
+    }
+
+    private void addCounts(TagTargetEntity entityType, Collection<EntityTag> entityTags, long delta) {
+        Long[] sortedTagIds = entityTags.stream()
+                .map(entityTag -> entityTag.getTag().getId())
+                .sorted()
+                .toArray(Long[]::new);
+        entityTagCountRepository.addCounts(entityType.name(), sortedTagIds, delta);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT + ": " + limit);
+        }
+    }
 }
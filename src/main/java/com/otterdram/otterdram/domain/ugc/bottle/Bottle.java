@@ -39,7 +39,7 @@ import java.time.Instant;
 public class Bottle extends SoftDeletable {
 
     @Id
-    @SequenceGenerator(name = "bottle_seq", sequenceName = "bottle_sequence")
+    @SequenceGenerator(name = "bottle_seq", sequenceName = "bottle_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bottle_seq")
     private Long id;
 
@@ -27,7 +27,7 @@ import lombok.NoArgsConstructor;
 public class CommentVote extends Creatable {
 
     @Id
-    @SequenceGenerator(name = "comment_vote_seq", sequenceName = "comment_vote_sequence")
+    @SequenceGenerator(name = "comment_vote_seq", sequenceName = "comment_vote_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_vote_seq")
     private Long id;
 
@@ -37,7 +37,7 @@ import java.util.List;
 public class EntityComment extends AuthorModifiable {
 
     @Id
-    @SequenceGenerator(name = "entity_comment_seq", sequenceName = "entity_comment_sequence")
+    @SequenceGenerator(name = "entity_comment_seq", sequenceName = "entity_comment_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "entity_comment_seq")
     private Long id;
 
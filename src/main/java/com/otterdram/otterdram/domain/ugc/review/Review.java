@@ -54,7 +54,7 @@ import java.time.Period;
 public class Review extends AuthorModifiable {
 
     @Id
-    @SequenceGenerator(name = "review_id_seq", sequenceName = "review_id_seq")
+    @SequenceGenerator(name = "review_id_seq", sequenceName = "review_id_seq", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "review_id_seq")
     private Long id;
 
@@ -96,7 +96,7 @@ public class Review extends AuthorModifiable {
     @Column(name = "tier", nullable = false, length = 50)
     private Tier tier;
 
-    @Column(name = "score", precision = 4, scale = 1)
+    @Column(name = "score", columnDefinition = "decimal(4,1)")
     private Double score;
 
     @Enumerated(EnumType.STRING)
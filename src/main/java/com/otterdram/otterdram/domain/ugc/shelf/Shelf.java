@@ -31,7 +31,7 @@ import java.util.List;
 public class Shelf extends SoftDeletableTimestamp {
 
     @Id
-    @SequenceGenerator(name = "shelf_seq", sequenceName = "shelf_sequence")
+    @SequenceGenerator(name = "shelf_seq", sequenceName = "shelf_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "shelf_seq")
     private Long id;
 
@@ -41,7 +41,7 @@ import java.time.Instant;
 public class Vial extends SoftDeletable {
 
     @Id
-    @SequenceGenerator(name = "vial_seq", sequenceName = "vial_sequence")
+    @SequenceGenerator(name = "vial_seq", sequenceName = "vial_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vial_seq")
     private Long id;
 
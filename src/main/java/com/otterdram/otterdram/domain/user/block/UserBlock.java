@@ -22,7 +22,7 @@ import org.springframework.data.annotation.CreatedBy;
 public class UserBlock extends CreatableTimestamp {
 
     @Id
-    @SequenceGenerator(name = "user_block_seq", sequenceName = "user_block_sequence")
+    @SequenceGenerator(name = "user_block_seq", sequenceName = "user_block_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_block_seq")
     private Long id;
 
@@ -26,7 +26,7 @@ import org.springframework.data.annotation.CreatedBy;
 public class UserFollow extends CreatableTimestamp {
 
     @Id
-    @SequenceGenerator(name = "user_follow_seq", sequenceName = "user_follow_sequence")
+    @SequenceGenerator(name = "user_follow_seq", sequenceName = "user_follow_sequence", allocationSize = 50)
     @GeneratedValue(strategy = jakarta.persistence.GenerationType.SEQUENCE, generator = "user_follow_seq")
     private Long id;
 
@@ -34,7 +34,7 @@ import java.util.Date;
 public class UserProfile extends UpdatableTimestamp {
 
     @Id
-    @SequenceGenerator(name="user_profile_seq", sequenceName = "user_profile_sequence")
+    @SequenceGenerator(name="user_profile_seq", sequenceName = "user_profile_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_profile_seq")
     private Long id;
 
@@ -26,7 +26,7 @@ import java.util.List;
 public class Role extends Updatable {
 
     @Id
-    @SequenceGenerator(name = "role_seq", sequenceName = "role_sequence")
+    @SequenceGenerator(name = "role_seq", sequenceName = "role_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "role_seq")
     private Long id;
 
@@ -24,7 +24,7 @@ import lombok.NoArgsConstructor;
 public class UserRole extends Creatable {
 
     @Id
-    @SequenceGenerator(name= "user_role_seq", sequenceName = "user_role_sequence")
+    @SequenceGenerator(name= "user_role_seq", sequenceName = "user_role_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_role_seq")
     private Long id;
 
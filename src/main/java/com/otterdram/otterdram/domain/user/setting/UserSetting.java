@@ -26,7 +26,7 @@ import lombok.NoArgsConstructor;
 public class UserSetting extends UpdatableTimestamp {
 
     @Id
-    @SequenceGenerator(name = "user_setting_seq", sequenceName = "user_setting_sequence")
+    @SequenceGenerator(name = "user_setting_seq", sequenceName = "user_setting_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_setting_seq")
     private Long id;
 
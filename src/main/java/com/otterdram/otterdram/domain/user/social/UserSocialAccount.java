@@ -27,7 +27,7 @@ import lombok.NoArgsConstructor;
 public class UserSocialAccount extends CreatableTimestamp {
 
     @Id
-    @SequenceGenerator(name = "user_social_account_seq", sequenceName = "user_social_account_sequence")
+    @SequenceGenerator(name = "user_social_account_seq", sequenceName = "user_social_account_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_social_account_seq")
     private Long id;
 
@@ -43,7 +43,7 @@ import java.util.List;
 public class User extends SoftDeletableTimestamp {
 
     @Id
-    @SequenceGenerator(name = "user_seq", sequenceName = "user_sequence")
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
     private Long id;
 
@@ -106,6 +106,7 @@ public class User extends SoftDeletableTimestamp {
     private List<Shelf> shelves = new ArrayList<>();
 
     // Review
-    @OneToMany(mappedBy = "author", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
+    @OneToMany(fetch = FetchType.LAZY)
+    @JoinColumn(name = "created_by", insertable = false, updatable = false)
     private List<Review> reviews = new ArrayList<>();
 }
@@ -0,0 +1,154 @@
+-- ddl-auto 로 생성되지 않는 인덱스와 보조 DDL (부분 인덱스, operator class, 조회 패턴 전용 복합 인덱스 등)
+-- spring.sql.init 으로 기동 시마다 실행되므로 모든 구문은 멱등이어야 한다.
+-- 데이터 보정이나 컬럼 삭제처럼 한 번만 실행해야 하는 변경은 db/migration 의 일회성 스크립트로 둔다.
+
+-- revisions: 엔티티당 검토 대기(IN_REVIEW) 리비전은 하나만 허용
+-- (기존 중복 점검은 db/migration/004_revisions_pending_duplicates.sql)
+CREATE UNIQUE INDEX IF NOT EXISTS ux_revisions_pending_entity
+    ON revisions (entity_type, entity_id)
+    WHERE status = 'IN_REVIEW';
+
+-- revisions: 모더레이션 큐 keyset 페이지네이션 (status = ? and (created_at, id) > (?, ?))
+CREATE INDEX IF NOT EXISTS ix_revisions_status_created_at_id
+    ON revisions (status, created_at, id);
+
+-- revisions: 엔티티당 최신(is_latest) 리비전은 하나만 허용
+-- (기존 행 보정은 db/migration/003_revisions_is_latest.sql)
+CREATE UNIQUE INDEX IF NOT EXISTS ux_revisions_latest_entity
+    ON revisions (entity_type, entity_id)
+    WHERE is_latest;
+
+-- revisions: 엔티티별 타임라인 (최신순) 및 압축 대상 조회
+CREATE INDEX IF NOT EXISTS ix_revisions_entity_timeline
+    ON revisions (entity_type, entity_id, created_at DESC, id DESC);
+
+-- companies: 대소문자/공백/유니코드 표기 차이를 무시한 회사 이름 유니크
+-- (컬럼 추가와 기존 행 보정은 db/migration/001_companies_normalized_company_name.sql)
+CREATE UNIQUE INDEX IF NOT EXISTS ux_companies_normalized_company_name
+    ON companies (normalized_company_name);
+
+-- companies: 회사 계층 재귀 조회 (parent_company_id = ?)
+CREATE INDEX IF NOT EXISTS ix_companies_parent_company_id
+    ON companies (parent_company_id)
+    WHERE deleted_at IS NULL;
+
+-- distilleries / brands: 회사 목록 요약의 회사별 증류소/브랜드 수 서브쿼리
+CREATE INDEX IF NOT EXISTS ix_distilleries_company_id
+    ON distilleries (company_id)
+    WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS ix_brands_company_id
+    ON brands (company_id)
+    WHERE deleted_at IS NULL;
+
+-- categories: 하위 트리 조회 (path = ? or path LIKE '?/%'). 기본 collation 이 C 가 아니면 LIKE 접두 검색에 text_pattern_ops 가 필요하다.
+CREATE INDEX IF NOT EXISTS ix_categories_path
+    ON categories (path text_pattern_ops)
+    WHERE deleted_at IS NULL;
+
+-- models: 카테고리 하위 트리에 속한 모델 (릴리스 카테고리 필터의 조인)
+CREATE INDEX IF NOT EXISTS ix_models_category_id
+    ON models (category_id)
+    WHERE deleted_at IS NULL;
+
+-- releases: 카탈로그 기본 목록 keyset 페이지 (status = ? order by release_name, id)
+CREATE INDEX IF NOT EXISTS ix_releases_browse
+    ON releases (status, release_name, id)
+    WHERE deleted_at IS NULL;
+
+-- releases: 모델별 릴리스 목록
+CREATE INDEX IF NOT EXISTS ix_releases_model_id
+    ON releases (model_id, release_name, id)
+    WHERE deleted_at IS NULL;
+
+-- releases: 숙성 연수 필터 (ageStatementType = AGE_STATED and statedAge between ? and ?)
+CREATE INDEX IF NOT EXISTS ix_releases_stated_age
+    ON releases (status, stated_age)
+    WHERE deleted_at IS NULL AND stated_age IS NOT NULL;
+
+-- releases: 피트 수준 + 도수 범위 필터
+CREATE INDEX IF NOT EXISTS ix_releases_peat_abv
+    ON releases (status, peat_level, abv)
+    WHERE deleted_at IS NULL;
+
+-- releases: 병입 도수 유형 + 도수 범위 필터 (캐스크 스트렝스 등)
+CREATE INDEX IF NOT EXISTS ix_releases_strength_abv
+    ON releases (status, bottling_strength_type, abv)
+    WHERE deleted_at IS NULL;
+
+-- releases: 한정판 목록 (limitedEdition = true 는 소수이므로 부분 인덱스로 유지)
+CREATE INDEX IF NOT EXISTS ix_releases_limited_edition
+    ON releases (status, release_name, id)
+    WHERE deleted_at IS NULL AND limited_edition;
+
+-- release_distillery_relations: 증류소별 릴리스 필터 (exists 서브쿼리)
+CREATE UNIQUE INDEX IF NOT EXISTS ux_release_distillery_relations_distillery_release
+    ON release_distillery_relations (distillery_id, release_id);
+
+-- release_cask_relations: 캐스크 변경 시 계보를 다시 계산할 릴리스 조회
+CREATE INDEX IF NOT EXISTS ix_release_cask_relations_cask_id
+    ON release_cask_relations (cask_id);
+
+-- release_lineages: 상위 엔티티(모델/컬렉션/브랜드/회사) 변경 시 계보를 다시 계산할 릴리스 조회
+CREATE INDEX IF NOT EXISTS ix_release_lineages_model_id
+    ON release_lineages (model_id);
+CREATE INDEX IF NOT EXISTS ix_release_lineages_collection_id
+    ON release_lineages (collection_id);
+CREATE INDEX IF NOT EXISTS ix_release_lineages_brand_id
+    ON release_lineages (brand_id);
+CREATE INDEX IF NOT EXISTS ix_release_lineages_company_id
+    ON release_lineages (company_id)
+    WHERE company_id IS NOT NULL;
+
+-- entity_tags: 엔티티당 같은 사전 태그는 한 번만 부착 (엔티티별 태그 조회도 이 인덱스 사용)
+-- (태그 문자열에서 tag_id 로의 전환은 db/migration/002_entity_tags_canonical_tag.sql)
+CREATE UNIQUE INDEX IF NOT EXISTS ux_entity_tags_entity_tag
+    ON entity_tags (entity_type, entity_id, tag_id);
+
+-- entity_tags: 엔티티 종류별 / 사전 태그별 id keyset 페이지와 스트리밍 (where ... and id > ? order by id)
+CREATE INDEX IF NOT EXISTS ix_entity_tags_entity_type_id
+    ON entity_tags (entity_type, id);
+CREATE INDEX IF NOT EXISTS ix_entity_tags_tag_id
+    ON entity_tags (tag_id, id);
+
+-- entity_tags: 사전 태그별 entity_id 정렬 posting list (다중 태그 AND/OR 필터, 패싯)
+CREATE INDEX IF NOT EXISTS ix_entity_tags_type_tag_entity
+    ON entity_tags (entity_type, tag_id, entity_id);
+
+-- entity_tag_counts: 엔티티 종류별 인기 태그 (tag_count DESC)
+CREATE INDEX IF NOT EXISTS ix_entity_tag_counts_top
+    ON entity_tag_counts (entity_type, tag_count DESC)
+    WHERE tag_count > 0;
+
+-- tag_aliases: 언어별 별칭 키 접두어 자동완성 (alias_key LIKE 'prefix%')
+CREATE INDEX IF NOT EXISTS ix_tag_aliases_prefix
+    ON tag_aliases (language_code, alias_key text_pattern_ops);
+
+-- tag_aliases: 사전 태그별 별칭 조회
+CREATE INDEX IF NOT EXISTS ix_tag_aliases_tag_id
+    ON tag_aliases (tag_id);
+
+-- catalog_search_entries: 트라이그램 유사 검색 (q <% search_text, word_similarity)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- catalog_search_entries: 단어 단위 전문 검색 벡터 (언어 무관 'simple' 사전, 원본 이름과 번역을 그대로 토큰화)
+ALTER TABLE catalog_search_entries ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', search_text)) STORED;
+CREATE INDEX IF NOT EXISTS ix_catalog_search_entries_vector
+    ON catalog_search_entries USING gin (search_vector);
+CREATE INDEX IF NOT EXISTS ix_catalog_search_entries_trgm
+    ON catalog_search_entries USING gin (search_text gin_trgm_ops);
+
+-- releases: 이름 부분 검색 (lower(release_name) LIKE '%q%'). 세 글자 미만 검색어는 트라이그램을 만들 수 없어 인덱스를 타지 않는다.
+CREATE INDEX IF NOT EXISTS ix_releases_release_name_trgm
+    ON releases USING gin (lower(release_name) gin_trgm_ops)
+    WHERE deleted_at IS NULL;
+
+-- companies: 회사 목록 이름 부분 검색 (normalized_company_name LIKE '%q%'). 세 글자 미만 검색어는 인덱스를 타지 않는다.
+CREATE INDEX IF NOT EXISTS ix_companies_normalized_company_name_trgm
+    ON companies USING gin (normalized_company_name gin_trgm_ops)
+    WHERE deleted_at IS NULL;
+
+-- outbox_events: 릴레이가 읽는 미전달 이벤트만 인덱싱
+CREATE INDEX IF NOT EXISTS ix_outbox_events_unpublished
+    ON outbox_events (id)
+    WHERE published_at IS NULL;
@@ -0,0 +1,34 @@
+-- 001: companies.normalized_company_name 추가 및 기존 행 보정 (일회성 마이그레이션)
+-- spring.sql.init 에 포함되지 않는다. 정규화 이름을 쓰는 버전을 배포하기 전에 한 번 실행한다.
+-- (db/indexes.sql 의 ux_companies_normalized_company_name 이 이 컬럼을 전제로 한다)
+--   psql -v ON_ERROR_STOP=1 -f src/main/resources/db/migration/001_companies_normalized_company_name.sql
+-- 이미 적용된 DB 에서 다시 실행해도 바뀌는 것은 없다.
+
+BEGIN;
+
+ALTER TABLE companies ADD COLUMN IF NOT EXISTS normalized_company_name varchar(100);
+
+-- NameNormalizer 와 같은 규칙 (NFKC, 앞뒤 공백 제거, 연속 공백 하나로, 소문자)
+UPDATE companies
+SET normalized_company_name = lower(regexp_replace(regexp_replace(normalize(company_name, NFKC), '^\s+|\s+$', '', 'g'), '\s+', ' ', 'g'))
+WHERE normalized_company_name IS NULL;
+
+-- 정규화 후 겹치는 이름이 있으면 유니크 인덱스 생성 전에 중단 (수동 정리 대상)
+DO $$
+DECLARE
+    duplicates text;
+BEGIN
+    SELECT string_agg(normalized_company_name, ', ')
+    INTO duplicates
+    FROM (SELECT normalized_company_name
+          FROM companies
+          GROUP BY normalized_company_name
+          HAVING count(*) > 1) d;
+    IF duplicates IS NOT NULL THEN
+        RAISE EXCEPTION 'Duplicate normalized company names: %', duplicates;
+    END IF;
+END $$;
+
+ALTER TABLE companies ALTER COLUMN normalized_company_name SET NOT NULL;
+
+COMMIT;
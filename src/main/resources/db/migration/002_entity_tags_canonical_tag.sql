@@ -0,0 +1,110 @@
+-- 002: entity_tags 의 태그 문자열(tag, language_code)을 사전 태그 참조(tag_id)로 옮긴다 (일회성 마이그레이션)
+-- spring.sql.init 에 포함되지 않는다. 사전 태그를 쓰는 버전을 배포하기 전에 한 번 실행한다.
+-- canonical_tags, tag_aliases, entity_tag_counts 테이블이 먼저 있어야 하며,
+-- db/indexes.sql 의 entity_tags 인덱스가 tag_id 컬럼을 전제로 한다.
+--   psql -v ON_ERROR_STOP=1 -f src/main/resources/db/migration/002_entity_tags_canonical_tag.sql
+-- tag 컬럼이 이미 없으면 (적용 완료) 아무것도 바꾸지 않는다.
+
+BEGIN;
+
+ALTER TABLE entity_tags ADD COLUMN IF NOT EXISTS tag_id bigint REFERENCES canonical_tags (id);
+
+DO $$
+DECLARE
+    blank_count bigint;
+BEGIN
+    IF NOT EXISTS (SELECT 1
+                   FROM information_schema.columns
+                   WHERE table_schema = current_schema()
+                     AND table_name = 'entity_tags'
+                     AND column_name = 'tag') THEN
+        RETURN;
+    END IF;
+
+    -- 1. 기존 행의 태그 키 (NameNormalizer.normalizeTag 와 같은 규칙: NFKC, 하이픈/밑줄을 공백으로, 공백 정리, 소문자)
+    CREATE TEMP TABLE legacy_entity_tags ON COMMIT DROP AS
+    SELECT et.id,
+           et.language_code,
+           et.tag,
+           lower(regexp_replace(regexp_replace(regexp_replace(normalize(et.tag, NFKC), '[-_]+', ' ', 'g'),
+                                               '^\s+|\s+$', '', 'g'), '\s+', ' ', 'g')) AS tag_key,
+           et.created_at,
+           et.created_by
+    FROM entity_tags et
+    WHERE et.tag_id IS NULL;
+
+    -- 정규화하면 빈 문자열이 되는 태그는 사전 태그로 옮길 수 없으므로 삭제
+    DELETE FROM entity_tags et
+    USING legacy_entity_tags l
+    WHERE l.id = et.id
+      AND l.tag_key = '';
+    GET DIAGNOSTICS blank_count = ROW_COUNT;
+    IF blank_count > 0 THEN
+        RAISE NOTICE 'Deleted % entity_tags rows with blank tags', blank_count;
+    END IF;
+    DELETE FROM legacy_entity_tags WHERE tag_key = '';
+
+    -- 2. 같은 언어의 별칭도, 같은 키의 사전 태그도 없는 키는 처음 등록된 표기로 사전 태그 생성
+    INSERT INTO canonical_tags (id, tag_key, name, translations, created_at, created_by)
+    SELECT nextval('canonical_tag_sequence'),
+           l.tag_key,
+           l.tag,
+           jsonb_build_object(l.language_code, l.tag),
+           l.created_at,
+           l.created_by
+    FROM (SELECT DISTINCT ON (lt.tag_key) lt.*
+          FROM legacy_entity_tags lt
+          WHERE NOT EXISTS (SELECT 1
+                            FROM tag_aliases a
+                            WHERE a.language_code = lt.language_code
+                              AND a.alias_key = lt.tag_key)
+          ORDER BY lt.tag_key, lt.created_at, lt.id) l
+    WHERE NOT EXISTS (SELECT 1 FROM canonical_tags c WHERE c.tag_key = l.tag_key);
+
+    -- 3. (언어, 키) 별칭이 없으면 같은 키의 사전 태그에 별칭 추가
+    INSERT INTO tag_aliases (id, tag_id, language_code, alias, alias_key, created_at, created_by)
+    SELECT nextval('tag_alias_sequence'),
+           c.id,
+           l.language_code,
+           l.tag,
+           l.tag_key,
+           l.created_at,
+           l.created_by
+    FROM (SELECT DISTINCT ON (lt.language_code, lt.tag_key) lt.*
+          FROM legacy_entity_tags lt
+          ORDER BY lt.language_code, lt.tag_key, lt.created_at, lt.id) l
+    JOIN canonical_tags c ON c.tag_key = l.tag_key
+    WHERE NOT EXISTS (SELECT 1
+                      FROM tag_aliases a
+                      WHERE a.language_code = l.language_code
+                        AND a.alias_key = l.tag_key);
+
+    -- 4. 서비스와 같이 (언어, 키) 별칭이 가리키는 사전 태그로 tag_id 채움
+    UPDATE entity_tags et
+    SET tag_id = a.tag_id
+    FROM legacy_entity_tags l
+    JOIN tag_aliases a ON a.language_code = l.language_code AND a.alias_key = l.tag_key
+    WHERE l.id = et.id;
+
+    -- 5. 다른 표기가 같은 사전 태그로 모인 중복 부착은 먼저 부착된 행만 남김
+    DELETE FROM entity_tags et
+    USING entity_tags kept
+    WHERE kept.entity_type = et.entity_type
+      AND kept.entity_id = et.entity_id
+      AND kept.tag_id = et.tag_id
+      AND kept.id < et.id;
+
+    -- 6. 사전 태그별 부착 수 재계산
+    DELETE FROM entity_tag_counts;
+    INSERT INTO entity_tag_counts (entity_type, tag_id, tag_count)
+    SELECT entity_type, tag_id, count(*)
+    FROM entity_tags
+    GROUP BY entity_type, tag_id;
+
+    ALTER TABLE entity_tags DROP COLUMN tag;
+    ALTER TABLE entity_tags DROP COLUMN language_code;
+END $$;
+
+ALTER TABLE entity_tags ALTER COLUMN tag_id SET NOT NULL;
+
+COMMIT;
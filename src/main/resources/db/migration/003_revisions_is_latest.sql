@@ -0,0 +1,20 @@
+-- 003: revisions.is_latest 보정 (일회성 마이그레이션)
+-- spring.sql.init 에 포함되지 않는다. db/indexes.sql 의 ux_revisions_latest_entity 를 배포하기 전에 한 번 실행한다.
+-- 이전 버전은 is_latest 를 쓰지 않았으므로 기존 행은 모두 컬럼 기본값 true 이고,
+-- 리비전이 두 개 이상인 엔티티가 있으면 부분 유니크 인덱스를 만들 수 없어 기동이 실패한다.
+--   psql -v ON_ERROR_STOP=1 -f src/main/resources/db/migration/003_revisions_is_latest.sql
+-- 이미 적용된 DB 에서 다시 실행해도 바뀌는 것은 없다.
+
+BEGIN;
+
+-- 엔티티별 가장 최근 리비전 (created_at, id 최신순) 하나만 is_latest 로 남김
+UPDATE revisions r
+SET is_latest = false
+FROM (SELECT id,
+             row_number() OVER (PARTITION BY entity_type, entity_id ORDER BY created_at DESC, id DESC) AS rn
+      FROM revisions) ranked
+WHERE ranked.id = r.id
+  AND ranked.rn > 1
+  AND r.is_latest;
+
+COMMIT;
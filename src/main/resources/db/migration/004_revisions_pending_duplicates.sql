@@ -0,0 +1,26 @@
+-- 004: 엔티티당 검토 대기(IN_REVIEW) 리비전 중복 사전 점검 (일회성)
+-- spring.sql.init 에 포함되지 않는다. db/indexes.sql 의 ux_revisions_pending_entity 를 배포하기 전에 한 번 실행한다.
+-- 이전 버전은 애플리케이션 조회로만 중복 제출을 막았으므로 동시 제출로 같은 엔티티에 IN_REVIEW 리비전이
+-- 두 개 이상 남아 있을 수 있고, 그러면 부분 유니크 인덱스를 만들 수 없어 기동이 실패한다.
+--   psql -v ON_ERROR_STOP=1 -f src/main/resources/db/migration/004_revisions_pending_duplicates.sql
+-- 어느 리비전을 남길지는 검토자가 판단해야 하므로 자동으로 반려하지 않는다.
+-- 중복이 있으면 엔티티와 리비전 ID 를 나열하고 중단하며, 남길 하나를 제외한 나머지를 반려 처리한 뒤 다시 실행한다.
+-- 중복이 없으면 아무것도 바꾸지 않는다.
+
+DO $$
+DECLARE
+    duplicates text;
+BEGIN
+    SELECT string_agg(format('%s %s: revisions %s', entity_type, entity_id, revision_ids), '; ')
+    INTO duplicates
+    FROM (SELECT entity_type,
+                 entity_id,
+                 string_agg(id::text, ', ' ORDER BY created_at, id) AS revision_ids
+          FROM revisions
+          WHERE status = 'IN_REVIEW'
+          GROUP BY entity_type, entity_id
+          HAVING count(*) > 1) d;
+    IF duplicates IS NOT NULL THEN
+        RAISE EXCEPTION 'Duplicate IN_REVIEW revisions: %', duplicates;
+    END IF;
+END $$;
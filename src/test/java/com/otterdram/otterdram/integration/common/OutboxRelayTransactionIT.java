@@ -0,0 +1,114 @@
+package com.otterdram.otterdram.integration.common;
+
+import com.otterdram.otterdram.OtterDramApplication;
+import com.otterdram.otterdram.common.outbox.OutboxEvent;
+import com.otterdram.otterdram.common.outbox.OutboxEventRepository;
+import com.otterdram.otterdram.common.outbox.OutboxMessage;
+import com.otterdram.otterdram.common.outbox.OutboxRelay;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 실제 트랜잭션 매니저로 릴레이를 실행하여, 트랜잭션에 합류한 리스너가 실패해도
+ * 배치 트랜잭션이 rollback-only 가 되지 않고 실패 기록과 나머지 이벤트의 전달 완료가 커밋되는지 확인한다.
+ */
+@DataJpaTest(showSql = false, properties = {
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:otterdram-outbox;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:db/outbox-schema.sql"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OutboxRelay.class, OutboxRelayTransactionIT.FailingListener.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Sql(statements = """
+        INSERT INTO outbox_events (id, event_type, aggregate_type, aggregate_id, revision_id, attempts, created_at)
+        VALUES (1, 'REVISION_APPROVED', 'COMPANY', 10, 1, 0, CURRENT_TIMESTAMP),
+               (2, 'REVISION_APPROVED', 'COMPANY', 20, 2, 0, CURRENT_TIMESTAMP);
+        """)
+@Sql(statements = "DELETE FROM outbox_events;", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class OutboxRelayTransactionIT {
+
+    private static final long FAILING_AGGREGATE_ID = 10L;
+
+    // @EnableScheduling, @EnableJpaAuditing 을 켜는 OtterDramApplication 대신 엔티티와 리포지토리만 스캔한다
+    @SpringBootConfiguration
+    @EntityScan(basePackageClasses = OtterDramApplication.class)
+    @EnableJpaRepositories(basePackageClasses = OtterDramApplication.class)
+    static class OutboxConfiguration {
+    }
+
+    /**
+     * 릴레이 트랜잭션에 합류하는(REQUIRED) 리스너. 특정 집합의 이벤트에서 실패한다.
+     */
+    static class FailingListener {
+        private final List<Long> received = new CopyOnWriteArrayList<>();
+
+        public List<Long> received() {
+            return received;
+        }
+
+        @EventListener
+        @Transactional
+        public void on(OutboxMessage message) {
+            received.add(message.eventId());
+            if (message.aggregateId() == FAILING_AGGREGATE_ID) {
+                throw new IllegalStateException("index unavailable");
+            }
+        }
+    }
+
+    @Autowired OutboxRelay outboxRelay;
+    @Autowired OutboxEventRepository outboxEventRepository;
+    @Autowired FailingListener failingListener;
+
+    @Test
+    @DisplayName("리스너가 실패해도 배치가 커밋되어 시도 횟수와 오류가 남고 나머지 이벤트는 전달 완료")
+    void testListenerFailureDoesNotPoisonBatch() {
+        // Act
+        int drained = outboxRelay.drainBatch();
+
+        // Assert
+        Assertions.assertThat(drained).isEqualTo(2);
+        Assertions.assertThat(failingListener.received()).containsExactly(1L, 2L);
+
+        OutboxEvent failed = outboxEventRepository.findById(1L).orElseThrow();
+        Assertions.assertThat(failed.getPublishedAt()).isNull();
+        Assertions.assertThat(failed.getAttempts()).isEqualTo(1);
+        Assertions.assertThat(failed.getLastError()).isEqualTo("IllegalStateException: index unavailable");
+
+        OutboxEvent published = outboxEventRepository.findById(2L).orElseThrow();
+        Assertions.assertThat(published.getPublishedAt()).isNotNull();
+        Assertions.assertThat(published.getAttempts()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패한 이벤트는 다음 배치에서 다시 전달되고 시도 횟수가 누적됨")
+    void testFailedEventRetriedOnNextBatch() {
+        // Act
+        outboxRelay.drainBatch();
+        int drained = outboxRelay.drainBatch();
+
+        // Assert
+        Assertions.assertThat(drained).isEqualTo(1);
+        Assertions.assertThat(outboxEventRepository.findById(1L).orElseThrow().getAttempts()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,144 @@
+package com.otterdram.otterdram.integration.spirits;
+
+import com.otterdram.otterdram.OtterDramApplication;
+import com.otterdram.otterdram.domain.spirits.brand.Brand;
+import com.otterdram.otterdram.domain.spirits.brand.repository.BrandRepository;
+import com.otterdram.otterdram.domain.spirits.collection.Collection;
+import com.otterdram.otterdram.domain.spirits.collection.repository.CollectionRepository;
+import com.otterdram.otterdram.domain.spirits.model.Model;
+import com.otterdram.otterdram.domain.spirits.model.repository.ModelRepository;
+import com.otterdram.otterdram.domain.spirits.release.Release;
+import com.otterdram.otterdram.domain.spirits.release.repository.ReleaseRepository;
+import com.otterdram.otterdram.testsupport.StatementCounts;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 조회 계획별 JDBC 문 수를 고정한다. 연관을 새로 추가하거나 그래프를 바꿔 N+1 이 생기면 여기서 실패한다.
+ * <p>
+ * 인메모리 H2 (PostgreSQL 모드) 에 db/fetch-plan-schema.sql 로 필요한 테이블만 만들고,
+ * 릴리스 5개가 증류소/캐스크를 2개씩 갖는 데이터로 조회한 뒤 연관을 끝까지 따라간다.
+ */
+@DataJpaTest(showSql = false, properties = {
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:otterdram-fetch-plan;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:db/fetch-plan-schema.sql",
+        // application.yml 과 같은 값 (테스트 application.yml 이 운영 설정을 가리므로 다시 지정한다)
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.otterdram.otterdram.common.metrics.StatementCounter",
+        "spring.jpa.properties.hibernate.default_batch_fetch_size=100"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Sql("/db/fetch-plan-data.sql")
+public class FetchPlanStatementCountIT {
+
+    private static final List<Long> RELEASE_IDS = List.of(100L, 101L, 102L, 103L, 104L);
+
+    // @EnableScheduling, @EnableJpaAuditing 을 켜는 OtterDramApplication 대신 엔티티와 리포지토리만 스캔한다
+    @SpringBootConfiguration
+    @EntityScan(basePackageClasses = OtterDramApplication.class)
+    @EnableJpaRepositories(basePackageClasses = OtterDramApplication.class)
+    static class FetchPlanConfiguration {
+    }
+
+    @Autowired ReleaseRepository releaseRepository;
+    @Autowired ModelRepository modelRepository;
+    @Autowired CollectionRepository collectionRepository;
+    @Autowired BrandRepository brandRepository;
+
+    @Test
+    @DisplayName("릴리스 상세 계획은 계보, 증류소, 캐스크까지 문 3개로 읽음")
+    void testReleaseDetail() {
+        List<String> names = new ArrayList<>();
+
+        // Act
+        long statements = StatementCounts.during(() -> {
+            Release release = releaseRepository.findDetailById(100L).orElseThrow();
+            names.add(release.getModel().getCollection().getBrand().getCompany().getCompanyName());
+            release.getDistilleryReleaseRelations().forEach(r -> names.add(r.getDistillery().getDistilleryName()));
+            release.getReleaseCaskRelations().forEach(r -> names.add(r.getCask().getName()));
+        });
+
+        // Assert
+        Assertions.assertThat(statements).isEqualTo(3);
+        Assertions.assertThat(names).containsExactlyInAnyOrder(
+                "William Grant & Sons", "Glenfiddich", "Balvenie", "Ex-Bourbon Barrel", "Oloroso Sherry Butt");
+    }
+
+    @Test
+    @DisplayName("릴리스 목록 계획은 릴리스 수와 무관하게 모델, 증류소까지 문 3개로 읽음")
+    void testReleaseList() {
+        List<String> names = new ArrayList<>();
+
+        // Act
+        long statements = StatementCounts.during(() -> {
+            for (Release release : releaseRepository.findListByIdIn(RELEASE_IDS)) {
+                names.add(release.getModel().getModelName());
+                release.getDistilleryReleaseRelations().forEach(r -> names.add(r.getDistillery().getDistilleryName()));
+            }
+        });
+
+        // Assert
+        Assertions.assertThat(statements).isEqualTo(3);
+        Assertions.assertThat(names).hasSize(RELEASE_IDS.size() * 3);
+    }
+
+    @Test
+    @DisplayName("릴리스 관리자 수정 계획은 모델, 캐스크 구성, 증류소까지 문 3개로 읽음")
+    void testReleaseAdminEdit() {
+        List<String> names = new ArrayList<>();
+
+        // Act
+        long statements = StatementCounts.during(() -> {
+            Release release = releaseRepository.findForEditById(100L).orElseThrow();
+            names.add(release.getModel().getModelName());
+            release.getReleaseCaskRelations().forEach(r -> names.add(r.getCask().getName() + " " + r.getFillNumber()));
+            release.getDistilleryReleaseRelations().forEach(r -> names.add(r.getDistillery().getDistilleryName()));
+        });
+
+        // Assert
+        Assertions.assertThat(statements).isEqualTo(3);
+        Assertions.assertThat(names).containsExactlyInAnyOrder(
+                "Glenfiddich 12", "Ex-Bourbon Barrel FIRST_FILL", "Oloroso Sherry Butt FIRST_FILL", "Glenfiddich", "Balvenie");
+    }
+
+    @Test
+    @DisplayName("모델/컬렉션/브랜드 상세 계획은 상위 계층까지 각각 문 1개로 읽음")
+    void testAncestryDetail() {
+        List<String> names = new ArrayList<>();
+
+        // Act
+        long modelStatements = StatementCounts.during(() -> {
+            Model model = modelRepository.findDetailById(40L).orElseThrow();
+            names.add(model.getCategory().getName());
+            names.add(model.getCollection().getBrand().getCompany().getCompanyName());
+        });
+        long collectionStatements = StatementCounts.during(() -> {
+            Collection collection = collectionRepository.findDetailById(20L).orElseThrow();
+            names.add(collection.getBrand().getCompany().getCompanyName());
+        });
+        long brandStatements = StatementCounts.during(() -> {
+            Brand brand = brandRepository.findDetailById(10L).orElseThrow();
+            names.add(brand.getCompany().getCompanyName());
+        });
+
+        // Assert
+        Assertions.assertThat(List.of(modelStatements, collectionStatements, brandStatements)).containsOnly(1L);
+        Assertions.assertThat(names).containsExactly(
+                "Single Malt Scotch", "William Grant & Sons", "William Grant & Sons", "William Grant & Sons");
+    }
+}
@@ -1,5 +1,6 @@
 package com.otterdram.otterdram.testsupport;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.otterdram.otterdram.common.enums.common.DataStatus;
 import com.otterdram.otterdram.common.enums.common.LanguageCode;
 import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
@@ -8,12 +9,28 @@ import com.otterdram.otterdram.domain.spirits.company.dto.CompanyBaseData;
 import com.otterdram.otterdram.domain.spirits.company.dto.CompanyCreateRequest;
 import com.otterdram.otterdram.domain.spirits.company.dto.CompanyRevisionPayload;
 import com.otterdram.otterdram.domain.spirits.revision.EntityRevision;
+import com.otterdram.otterdram.domain.spirits.revision.codec.RevisionPayloadCodec;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Map;
 
+import static org.mockito.Mockito.mock;
+
 public final class Fixtures {
     private Fixtures() {}
 
+    private static final RevisionPayloadCodec REVISION_PAYLOAD_CODEC = new RevisionPayloadCodec(new ObjectMapper());
+
+    public static RevisionPayloadCodec revisionPayloadCodec() {
+        return REVISION_PAYLOAD_CODEC;
+    }
+
+    public static TransactionTemplate transactionTemplate() {
+        return new TransactionTemplate(mock(PlatformTransactionManager.class));
+    }
+
     public static CompanyCreateRequest companyReqMinimal() {
         return new CompanyCreateRequest(
             null,
@@ -63,7 +80,11 @@ public final class Fixtures {
             .entityType(RevisionTargetEntity.COMPANY)
             .entityId(c.getId())
             .schemaVersion(req.schemaVersion())
-            .revisionData(new CompanyRevisionPayload(req.companyBaseData(), c.getStatus()))
+            .revisionData(REVISION_PAYLOAD_CODEC.write(
+                    RevisionTargetEntity.COMPANY,
+                    req.schemaVersion(),
+                    new CompanyRevisionPayload(req.companyBaseData(), c.getStatus())
+            ))
             .diffData(null)
             .build();
     }
@@ -73,7 +94,11 @@ public final class Fixtures {
             .entityType(RevisionTargetEntity.COMPANY)
             .entityId(c.getId())
             .schemaVersion(req.schemaVersion())
-            .revisionData(new CompanyRevisionPayload(req.companyBaseData(), snapshotStatus))
+            .revisionData(REVISION_PAYLOAD_CODEC.write(
+                    RevisionTargetEntity.COMPANY,
+                    req.schemaVersion(),
+                    new CompanyRevisionPayload(req.companyBaseData(), snapshotStatus)
+            ))
             .diffData(null)
             .build();
     }
@@ -1,23 +1,26 @@
 package com.otterdram.otterdram.testsupport;
 
+import com.otterdram.otterdram.common.utils.NameNormalizer;
 import com.otterdram.otterdram.domain.spirits.company.Company;
 import com.otterdram.otterdram.domain.spirits.company.repository.CompanyRepository;
 import com.otterdram.otterdram.domain.spirits.revision.EntityRevision;
 import com.otterdram.otterdram.domain.spirits.revision.repository.RevisionRepository;
 
+import java.util.List;
 import java.util.Optional;
 
+import static org.mockito.ArgumentMatchers.anyIterable;
 import static org.mockito.Mockito.when;
 
 public final class RepositoryStubs {
     private RepositoryStubs() {}
 
     public static void noDuplicateName(CompanyRepository repo, String companyName) {
-        when(repo.existsByCompanyName(companyName)).thenReturn(false);
+        when(repo.existsByNormalizedCompanyName(NameNormalizer.normalize(companyName))).thenReturn(false);
     }
 
     public static void duplicateName(CompanyRepository repo, String companyName, Company existing) {
-        when(repo.existsByCompanyName(companyName)).thenReturn(true);
+        when(repo.existsByNormalizedCompanyName(NameNormalizer.normalize(companyName))).thenReturn(true);
     }
 
     public static void existingCompanyById(CompanyRepository repo, Company existing) {
@@ -29,17 +32,24 @@ public final class RepositoryStubs {
     }
 
     public static void existingPendingRevision(RevisionRepository repo, EntityRevision existing) {
-        when(repo.findByEntityTypeAndEntityIdAndStatus(
+        when(repo.existsPendingRevision(
                 existing.getEntityType(),
-                existing.getEntityId(),
-                existing.getStatus()
-        )).thenReturn(Optional.of(existing));
+                existing.getEntityId()
+        )).thenReturn(true);
     }
 
     public static void existingRevisionById(RevisionRepository repo, EntityRevision existing) {
         when(repo.findById(existing.getId())).thenReturn(Optional.of(existing));
     }
 
+    public static void existingCompaniesByIds(CompanyRepository repo, List<Company> existing) {
+        when(repo.findAllById(anyIterable())).thenReturn(existing);
+    }
+
+    public static void existingRevisionsByIds(RevisionRepository repo, List<EntityRevision> existing) {
+        when(repo.findAllById(anyIterable())).thenReturn(existing);
+    }
+
     public static void saveCompany(CompanyRepository repo, Company toSave, Company toReturn) {
         when(repo.save(toSave)).thenReturn(toReturn);
     }
@@ -0,0 +1,17 @@
+package com.otterdram.otterdram.testsupport;
+
+import com.otterdram.otterdram.common.metrics.StatementCounter;
+
+public final class StatementCounts {
+    private StatementCounts() {}
+
+    /**
+     * action 이 현재 스레드에서 준비한 JDBC 문 수.
+     * hibernate.session_factory.statement_inspector 에 {@link StatementCounter} 가 등록된 컨텍스트에서만 센다.
+     */
+    public static long during(Runnable action) {
+        long before = StatementCounter.current();
+        action.run();
+        return StatementCounter.current() - before;
+    }
+}
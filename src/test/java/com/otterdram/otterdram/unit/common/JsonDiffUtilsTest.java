@@ -0,0 +1,62 @@
+package com.otterdram.otterdram.unit.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.otterdram.otterdram.common.utils.JsonDiffUtils;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class JsonDiffUtilsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("동일한 문서는 빈 diff를 반환")
+    void testIdenticalDocuments() throws Exception {
+        JsonNode document = json("{\"companyName\":\"A\",\"translations\":{\"JA\":\"ア\"}}");
+
+        Assertions.assertThat(JsonDiffUtils.diff(document, document.deepCopy())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("중첩 맵은 키 단위로 add/replace/remove 연산을 생성")
+    void testNestedMapOperations() throws Exception {
+        JsonNode source = json("{\"companyName\":\"A\",\"companyLogo\":\"a.png\",\"translations\":{\"JA\":\"ア\",\"KO\":\"에이\"}}");
+        JsonNode target = json("{\"companyName\":\"B\",\"companyLogo\":null,\"translations\":{\"JA\":\"ビー\",\"ZH_CN\":\"比\"}}");
+
+        ArrayNode diff = JsonDiffUtils.diff(source, target);
+
+        Assertions.assertThat(diff.toString()).isEqualTo(json("""
+                [
+                  {"op":"replace","path":"/companyName","value":"B"},
+                  {"op":"remove","path":"/companyLogo"},
+                  {"op":"replace","path":"/translations/JA","value":"ビー"},
+                  {"op":"add","path":"/translations/ZH_CN","value":"比"},
+                  {"op":"remove","path":"/translations/KO"}
+                ]
+                """).toString());
+    }
+
+    @Test
+    @DisplayName("null 값과 누락된 필드는 변경으로 보지 않음")
+    void testNullEqualsMissing() throws Exception {
+        JsonNode source = json("{\"companyName\":\"A\",\"companyLogo\":null}");
+        JsonNode target = json("{\"companyName\":\"A\",\"parentCompanyId\":null}");
+
+        Assertions.assertThat(JsonDiffUtils.diff(source, target)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("경로의 '~'와 '/'는 JSON Pointer 규칙대로 이스케이프")
+    void testPointerEscaping() throws Exception {
+        ArrayNode diff = JsonDiffUtils.diff(json("{}"), json("{\"a/b~c\":1}"));
+
+        Assertions.assertThat(diff.get(0).get("path").asText()).isEqualTo("/a~1b~0c");
+    }
+
+    private JsonNode json(String content) throws Exception {
+        return objectMapper.readTree(content);
+    }
+}
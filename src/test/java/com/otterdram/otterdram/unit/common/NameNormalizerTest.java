@@ -0,0 +1,39 @@
+package com.otterdram.otterdram.unit.common;
+
+import com.otterdram.otterdram.common.utils.NameNormalizer;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class NameNormalizerTest {
+
+    @Test
+    @DisplayName("앞뒤 공백 제거, 연속 공백 축약, 소문자 변환")
+    void testWhitespaceAndCase() {
+        Assertions.assertThat(NameNormalizer.normalize("  Suntory \t Holdings ")).isEqualTo("suntory holdings");
+        Assertions.assertThat(NameNormalizer.normalize("suntory ")).isEqualTo(NameNormalizer.normalize("SUNTORY"));
+    }
+
+    @Test
+    @DisplayName("전각 문자와 합성/분해 문자는 NFKC 로 통일")
+    void testUnicodeNormalization() {
+        Assertions.assertThat(NameNormalizer.normalize("Ｓｕｎｔｏｒｙ")).isEqualTo("suntory");
+        Assertions.assertThat(NameNormalizer.normalize("Café")).isEqualTo(NameNormalizer.normalize("Café"));
+    }
+
+    @Test
+    @DisplayName("태그 키는 하이픈/밑줄을 공백으로 보고 같은 키로 통일")
+    void testTagKey() {
+        Assertions.assertThat(NameNormalizer.normalizeTag("Sherry bomb")).isEqualTo("sherry bomb");
+        Assertions.assertThat(NameNormalizer.normalizeTag("sherry-bomb")).isEqualTo("sherry bomb");
+        Assertions.assertThat(NameNormalizer.normalizeTag(" SHERRY__BOMB ")).isEqualTo("sherry bomb");
+        Assertions.assertThat(NameNormalizer.normalizeTag("sherry － bomb")).isEqualTo("sherry bomb");
+    }
+
+    @Test
+    @DisplayName("null 은 null 반환")
+    void testNull() {
+        Assertions.assertThat(NameNormalizer.normalize(null)).isNull();
+        Assertions.assertThat(NameNormalizer.normalizeTag(null)).isNull();
+    }
+}
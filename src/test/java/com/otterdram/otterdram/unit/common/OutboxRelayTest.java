@@ -0,0 +1,101 @@
+package com.otterdram.otterdram.unit.common;
+
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+import com.otterdram.otterdram.common.outbox.OutboxEvent;
+import com.otterdram.otterdram.common.outbox.OutboxEventRepository;
+import com.otterdram.otterdram.common.outbox.OutboxEventType;
+import com.otterdram.otterdram.common.outbox.OutboxMessage;
+import com.otterdram.otterdram.common.outbox.OutboxRelay;
+import com.otterdram.otterdram.testsupport.Fixtures;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock OutboxEventRepository outboxEventRepository;
+    @Mock ApplicationEventPublisher applicationEventPublisher;
+    OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay = new OutboxRelay(outboxEventRepository, applicationEventPublisher,
+                Fixtures.transactionTemplate(), BATCH_SIZE, MAX_ATTEMPTS);
+    }
+
+    @Test
+    @DisplayName("전달된 이벤트는 전달 완료로 표시")
+    void testDrainBatch_Published() {
+        // Arrange
+        OutboxEvent event = event(1L);
+        when(outboxEventRepository.lockUnpublished(MAX_ATTEMPTS, BATCH_SIZE)).thenReturn(List.of(event));
+
+        // Act
+        int drained = outboxRelay.drainBatch();
+
+        // Assert
+        Assertions.assertThat(drained).isEqualTo(1);
+        Assertions.assertThat(event.getPublishedAt()).isNotNull();
+        verify(applicationEventPublisher).publishEvent(OutboxMessage.of(event));
+    }
+
+    @Test
+    @DisplayName("리스너 실패시 시도 횟수와 오류를 기록하고 나머지 이벤트는 계속 전달")
+    void testDrainBatch_ListenerFailure() {
+        // Arrange
+        OutboxEvent failing = event(1L);
+        OutboxEvent next = event(2L);
+        when(outboxEventRepository.lockUnpublished(MAX_ATTEMPTS, BATCH_SIZE)).thenReturn(List.of(failing, next));
+        doThrow(new IllegalStateException("index unavailable"))
+                .when(applicationEventPublisher).publishEvent(OutboxMessage.of(failing));
+
+        // Act
+        outboxRelay.drainBatch();
+
+        // Assert
+        Assertions.assertThat(failing.getPublishedAt()).isNull();
+        Assertions.assertThat(failing.getAttempts()).isEqualTo(1);
+        Assertions.assertThat(failing.getLastError()).isEqualTo("IllegalStateException: index unavailable");
+        Assertions.assertThat(next.getPublishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("가득 찬 배치가 나오는 동안 연속으로 비움")
+    void testRelay_DrainsUntilPartialBatch() {
+        // Arrange
+        when(outboxEventRepository.lockUnpublished(MAX_ATTEMPTS, BATCH_SIZE))
+                .thenReturn(List.of(event(1L), event(2L)))
+                .thenReturn(List.of(event(3L)));
+
+        // Act
+        outboxRelay.relay();
+
+        // Assert
+        verify(outboxEventRepository, times(2)).lockUnpublished(MAX_ATTEMPTS, BATCH_SIZE);
+        verify(applicationEventPublisher, times(3)).publishEvent(any(OutboxMessage.class));
+    }
+
+    private OutboxEvent event(Long id) {
+        return OutboxEvent.builder()
+                .id(id)
+                .eventType(OutboxEventType.REVISION_APPROVED)
+                .aggregateType(RevisionTargetEntity.COMPANY)
+                .aggregateId(10L)
+                .revisionId(id)
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.otterdram.otterdram.unit.common;
+
+import com.otterdram.otterdram.common.sequence.SequenceIncrementVerifier;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+
+public class SequenceIncrementVerifierTest {
+
+    private final Map<String, Integer> entitySequences = Map.of(
+            "company_sequence", 50,
+            "revision_sequence", 50,
+            "tag_sequence", 50
+    );
+
+    @Test
+    @DisplayName("allocationSize 와 INCREMENT BY 가 같으면 통과, DB 에 없는 시퀀스는 경고만 남김")
+    void testMatchingIncrements() {
+        SequenceIncrementVerifier verifier = verifier(true);
+
+        Assertions.assertThatCode(() -> verifier.verify(entitySequences, Map.of(
+                "company_sequence", 50L,
+                "revision_sequence", 50L
+        ))).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("INCREMENT BY 가 다르면 불일치 시퀀스를 모두 나열하며 기동 중단")
+    void testMismatchFailsStartup() {
+        SequenceIncrementVerifier verifier = verifier(true);
+
+        Assertions.assertThatThrownBy(() -> verifier.verify(entitySequences, Map.of(
+                        "company_sequence", 1L,
+                        "revision_sequence", 50L,
+                        "tag_sequence", 100L
+                )))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("company_sequence (allocationSize=50, increment=1)")
+                .hasMessageContaining("tag_sequence (allocationSize=50, increment=100)")
+                .hasMessageNotContaining("revision_sequence");
+    }
+
+    @Test
+    @DisplayName("failOnMismatch 가 false 이면 경고만 남김")
+    void testMismatchWarnOnly() {
+        SequenceIncrementVerifier verifier = verifier(false);
+
+        Assertions.assertThatCode(() -> verifier.verify(entitySequences, Map.of("company_sequence", 1L)))
+                .doesNotThrowAnyException();
+    }
+
+    private SequenceIncrementVerifier verifier(boolean failOnMismatch) {
+        return new SequenceIncrementVerifier(mock(EntityManagerFactory.class), mock(JdbcTemplate.class), failOnMismatch);
+    }
+}
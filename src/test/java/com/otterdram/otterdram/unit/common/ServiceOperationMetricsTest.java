@@ -0,0 +1,105 @@
+package com.otterdram.otterdram.unit.common;
+
+import com.otterdram.otterdram.common.audit.service.SoftDeletableService;
+import com.otterdram.otterdram.common.metrics.ServiceOperationMetrics;
+import com.otterdram.otterdram.domain.spirits.company.Company;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ServiceOperationMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    @SuppressWarnings("unchecked")
+    private final JpaRepository<Company, Long> companyRepository = mock(JpaRepository.class);
+    private CompanyDeletionService service;
+
+    @BeforeEach
+    void setUp() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new CompanyDeletionService(companyRepository));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServiceOperationMetrics(meterRegistry));
+        service = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("성공한 연산은 엔티티/연산/결과 태그로 타이머와 SQL 문 수를 기록")
+    void testRecordsSuccess() {
+        // Arrange
+        when(companyRepository.findById(1L)).thenReturn(Optional.of(mock(Company.class)));
+
+        // Act
+        service.isSoftDeleted(1L);
+
+        // Assert
+        Timer timer = meterRegistry.find(ServiceOperationMetrics.OPERATION_TIMER)
+                .tags("entity", "Company", "operation", "isSoftDeleted", "outcome", "success", "exception", "none")
+                .timer();
+        Assertions.assertThat(timer).isNotNull();
+        Assertions.assertThat(timer.count()).isEqualTo(1);
+        DistributionSummary statements = meterRegistry.find(ServiceOperationMetrics.STATEMENT_SUMMARY)
+                .tags("entity", "Company", "operation", "isSoftDeleted", "outcome", "success")
+                .summary();
+        Assertions.assertThat(statements).isNotNull();
+        Assertions.assertThat(statements.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패한 연산은 예외를 그대로 던지고 예외 종류별 결과 태그로 기록")
+    void testRecordsFailureOutcome() {
+        // Arrange
+        when(companyRepository.findById(2L)).thenReturn(Optional.empty());
+        when(companyRepository.findById(3L)).thenThrow(new OptimisticLockingFailureException("conflict"));
+
+        // Act & Assert
+        Assertions.assertThatThrownBy(() -> service.softDelete(2L)).isInstanceOf(EntityNotFoundException.class);
+        Assertions.assertThatThrownBy(() -> service.restore(3L)).isInstanceOf(OptimisticLockingFailureException.class);
+
+        Assertions.assertThat(meterRegistry.find(ServiceOperationMetrics.OPERATION_TIMER)
+                .tags("operation", "softDelete", "outcome", "not_found", "exception", "EntityNotFoundException")
+                .timer()).isNotNull();
+        Assertions.assertThat(meterRegistry.find(ServiceOperationMetrics.OPERATION_TIMER)
+                .tags("operation", "restore", "outcome", "conflict")
+                .timer()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("재시도 끝에 감싼 충돌 예외는 conflict 로 분류")
+    void testWrappedConflict() {
+        // Arrange
+        when(companyRepository.findById(4L)).thenThrow(
+                new IllegalStateException("retry exhausted", new OptimisticLockingFailureException("conflict")));
+
+        // Act & Assert
+        Assertions.assertThatThrownBy(() -> service.softDelete(4L)).isInstanceOf(IllegalStateException.class);
+        Assertions.assertThat(meterRegistry.find(ServiceOperationMetrics.OPERATION_TIMER)
+                .tags("operation", "softDelete", "outcome", "conflict", "exception", "IllegalStateException")
+                .timer()).isNotNull();
+    }
+
+    static class CompanyDeletionService extends SoftDeletableService<Company, Long> {
+        private final JpaRepository<Company, Long> repository;
+
+        CompanyDeletionService(JpaRepository<Company, Long> repository) {
+            this.repository = repository;
+        }
+
+        @Override
+        protected JpaRepository<Company, Long> getRepository() {
+            return repository;
+        }
+    }
+}
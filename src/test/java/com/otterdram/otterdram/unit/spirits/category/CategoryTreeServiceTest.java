@@ -0,0 +1,79 @@
+package com.otterdram.otterdram.unit.spirits.category;
+
+import com.otterdram.otterdram.domain.spirits.category.dto.CategoryTreeRow;
+import com.otterdram.otterdram.domain.spirits.category.dto.CategoryTreeVersion;
+import com.otterdram.otterdram.domain.spirits.category.repository.CategoryRepository;
+import com.otterdram.otterdram.domain.spirits.category.service.CategoryTreeService;
+import com.otterdram.otterdram.domain.spirits.category.tree.CategoryNode;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CategoryTreeServiceTest {
+
+    private static final CategoryTreeVersion V1 = new CategoryTreeVersion(2, Instant.parse("2025-08-12T09:00:00Z"));
+    private static final CategoryTreeVersion V2 = new CategoryTreeVersion(3, Instant.parse("2025-08-13T09:00:00Z"));
+
+    @Mock CategoryRepository categoryRepository;
+    @InjectMocks CategoryTreeService categoryTreeService;
+
+    @Test
+    @DisplayName("첫 조회에 한 번만 읽고 이후 빵부스러기/하위 트리는 DB 를 거치지 않음")
+    void testLoadOnce() {
+        // Arrange
+        when(categoryRepository.findTreeVersion()).thenReturn(V1);
+        when(categoryRepository.findTreeRows()).thenReturn(List.of(
+                new CategoryTreeRow(1L, null, "Whisky", null, (short) 0, "1"),
+                new CategoryTreeRow(2L, 1L, "Scotch Whisky", null, (short) 1, "1/2")));
+
+        // Act
+        List<CategoryNode> breadcrumb = categoryTreeService.breadcrumb(2L);
+        List<Long> subtreeIds = categoryTreeService.subtreeIds(1L);
+
+        // Assert
+        Assertions.assertThat(breadcrumb).extracting(CategoryNode::path).containsExactly("1", "1/2");
+        Assertions.assertThat(subtreeIds).containsExactly(1L, 2L);
+        verify(categoryRepository, times(1)).findTreeRows();
+    }
+
+    @Test
+    @DisplayName("테이블 버전이 같으면 다시 읽지 않고, 바뀌면 새 스냅샷으로 교체")
+    void testReloadIfChanged() {
+        // Arrange
+        when(categoryRepository.findTreeVersion()).thenReturn(V1, V1, V2, V2);
+        when(categoryRepository.findTreeRows())
+                .thenReturn(List.of(new CategoryTreeRow(1L, null, "Whisky", null, (short) 0, "1")))
+                .thenReturn(List.of(new CategoryTreeRow(1L, null, "Whisky", null, (short) 0, "1"),
+                        new CategoryTreeRow(5L, null, "Rum", null, (short) 0, "5")));
+        categoryTreeService.tree();
+
+        // Act & Assert
+        categoryTreeService.reloadIfChanged();
+        Assertions.assertThat(categoryTreeService.find(5L)).isEmpty();
+
+        categoryTreeService.reloadIfChanged();
+        Assertions.assertThat(categoryTreeService.find(5L)).isPresent();
+        Assertions.assertThat(categoryTreeService.tree().version()).isEqualTo(V2);
+        verify(categoryRepository, times(2)).findTreeRows();
+    }
+
+    @Test
+    @DisplayName("한 번도 쓰이지 않은 트리는 변경 확인에서 읽지 않음")
+    void testReloadIfChangedBeforeFirstUse() {
+        // Act
+        categoryTreeService.reloadIfChanged();
+
+        // Assert
+        verifyNoInteractions(categoryRepository);
+    }
+}
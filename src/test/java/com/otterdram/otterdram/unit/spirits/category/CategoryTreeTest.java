@@ -0,0 +1,75 @@
+package com.otterdram.otterdram.unit.spirits.category;
+
+import com.otterdram.otterdram.common.enums.common.LanguageCode;
+import com.otterdram.otterdram.domain.spirits.category.dto.CategoryTreeRow;
+import com.otterdram.otterdram.domain.spirits.category.dto.CategoryTreeVersion;
+import com.otterdram.otterdram.domain.spirits.category.tree.CategoryNode;
+import com.otterdram.otterdram.domain.spirits.category.tree.CategoryTree;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+public class CategoryTreeTest {
+
+    // Whisky(1) ─┬─ Scotch Whisky(2) ─┬─ Single Malt(3)
+    //            │                    └─ Blended(4)
+    //            └─ Bourbon(6)
+    // Rum(5), Orphan(8) (부모 7 은 삭제됨)
+    private static final CategoryTree TREE = CategoryTree.of(List.of(
+            row(3L, 2L, "Single Malt", 2, "1/2/3"),
+            row(1L, null, "Whisky", 0, "1"),
+            row(5L, null, "Rum", 0, "5"),
+            row(4L, 2L, "Blended", 2, "1/2/4"),
+            row(2L, 1L, "Scotch Whisky", 1, "1/2"),
+            row(6L, 1L, "Bourbon", 1, "1/6"),
+            row(8L, 7L, "Orphan", 1, "7/8")
+    ), new CategoryTreeVersion(8, Instant.parse("2025-08-12T09:00:00Z")));
+
+    @Test
+    @DisplayName("빵부스러기는 루트부터 자신까지, 없는 카테고리는 빈 목록")
+    void testBreadcrumb() {
+        Assertions.assertThat(TREE.breadcrumb(3L)).extracting(CategoryNode::name)
+                .containsExactly("Whisky", "Scotch Whisky", "Single Malt");
+        Assertions.assertThat(TREE.breadcrumb(1L)).extracting(CategoryNode::id).containsExactly(1L);
+        Assertions.assertThat(TREE.breadcrumb(404L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("하위 트리는 자신을 포함해 전위 순회, 형제는 이름순")
+    void testSubtreeIds() {
+        Assertions.assertThat(TREE.subtreeIds(1L)).containsExactly(1L, 6L, 2L, 4L, 3L);
+        Assertions.assertThat(TREE.subtreeIds(2L)).containsExactly(2L, 4L, 3L);
+        Assertions.assertThat(TREE.subtreeIds(3L)).containsExactly(3L);
+        Assertions.assertThat(TREE.subtreeIds(404L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("부모가 삭제된 카테고리는 루트로 취급")
+    void testRoots() {
+        Assertions.assertThat(TREE.roots()).extracting(CategoryNode::id).containsExactly(8L, 5L, 1L);
+        Assertions.assertThat(TREE.breadcrumb(8L)).extracting(CategoryNode::id).containsExactly(8L);
+        Assertions.assertThat(TREE.children(1L)).extracting(CategoryNode::name).containsExactly("Bourbon", "Scotch Whisky");
+        Assertions.assertThat(TREE.size()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("표시 이름은 요청 언어 번역, 없으면 원본 이름")
+    void testDisplayName() {
+        CategoryTree tree = CategoryTree.of(List.of(
+                new CategoryTreeRow(1L, null, "Whisky", Map.of(LanguageCode.KO, "위스키"), (short) 0, "1")
+        ), new CategoryTreeVersion(1, null));
+
+        CategoryNode node = tree.find(1L).orElseThrow();
+
+        Assertions.assertThat(node.displayName(LanguageCode.KO)).isEqualTo("위스키");
+        Assertions.assertThat(node.displayName(LanguageCode.JA)).isEqualTo("Whisky");
+    }
+
+    private static CategoryTreeRow row(Long id, Long parentId, String name, int depth, String path) {
+        return new CategoryTreeRow(id, parentId, name, null, (short) depth, path);
+    }
+}
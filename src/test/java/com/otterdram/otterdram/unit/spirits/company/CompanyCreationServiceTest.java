@@ -3,12 +3,16 @@ package com.otterdram.otterdram.unit.spirits.company;
 import com.otterdram.otterdram.common.enums.common.DataStatus;
 import com.otterdram.otterdram.common.enums.common.RevisionStatus;
 import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+import com.otterdram.otterdram.common.outbox.OutboxEventType;
+import com.otterdram.otterdram.common.outbox.OutboxService;
 import com.otterdram.otterdram.domain.spirits.company.Company;
+import com.otterdram.otterdram.domain.spirits.company.dto.CompanyBaseData;
 import com.otterdram.otterdram.domain.spirits.company.dto.CompanyCreateRequest;
 import com.otterdram.otterdram.domain.spirits.company.dto.CompanyRevisionPayload;
 import com.otterdram.otterdram.domain.spirits.company.repository.CompanyRepository;
 import com.otterdram.otterdram.domain.spirits.company.service.CompanyService;
 import com.otterdram.otterdram.domain.spirits.revision.EntityRevision;
+import com.otterdram.otterdram.domain.spirits.revision.codec.RevisionPayloadCodec;
 import com.otterdram.otterdram.domain.spirits.revision.repository.RevisionRepository;
 import com.otterdram.otterdram.testsupport.Fixtures;
 import com.otterdram.otterdram.testsupport.RepositoryStubs;
@@ -18,11 +22,16 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,7 +39,11 @@ public class CompanyCreationServiceTest {
 
     @Mock CompanyRepository companyRepository;
     @Mock RevisionRepository revisionRepository;
+    @Mock OutboxService outboxService;
+    @Spy RevisionPayloadCodec revisionPayloadCodec = Fixtures.revisionPayloadCodec();
     @InjectMocks CompanyService companyService;
+    @Captor ArgumentCaptor<List<Company>> companiesCaptor;
+    @Captor ArgumentCaptor<List<EntityRevision>> revisionsCaptor;
 
     // minimal 데이터로 생성 요청시
     @Nested
@@ -158,30 +171,90 @@ public class CompanyCreationServiceTest {
                     .hasFieldOrPropertyWithValue("entityType", RevisionTargetEntity.COMPANY)
                     .hasFieldOrPropertyWithValue("entityId", savedCompany.getId())
                     .hasFieldOrPropertyWithValue("schemaVersion", request.schemaVersion())
-                    .hasFieldOrPropertyWithValue("diffData", null)
-                    .hasFieldOrPropertyWithValue("status", RevisionStatus.IN_REVIEW);
+                    .hasFieldOrPropertyWithValue("status", RevisionStatus.IN_REVIEW)
+                    .hasFieldOrPropertyWithValue("isLatest", true)
+                    .hasFieldOrPropertyWithValue("isCheckpoint", false);
 
             // revisionData 필드 값 검증
             CompanyRevisionPayload expectedPayload = new CompanyRevisionPayload(
                     request.companyBaseData(),
                     savedCompany.getStatus()
             );
-            Assertions.assertThat(capturedRevision.getRevisionData())
+            Assertions.assertThat(revisionPayloadCodec.read(capturedRevision, CompanyRevisionPayload.class))
                     .usingRecursiveComparison()
                     .isEqualTo(expectedPayload);
         }
 
+        @Test
+        @DisplayName("diffData에는 기존 엔티티 대비 추가된 필드만 기록됨")
+        void testRevisionDiffData() {
+            EntityRevision capturedRevision = captureRevision();
+
+            Assertions.assertThat(capturedRevision.getDiffData())
+                    .extracting(op -> op.get("op").asText() + " " + op.get("path").asText())
+                    .containsExactlyInAnyOrder(
+                            "add /parentCompanyId",
+                            "add /companyLogo",
+                            "add /translations/JA",
+                            "add /translations/KO",
+                            "add /descriptions/JA",
+                            "add /descriptions/KO",
+                            "add /independentBottler"
+                    );
+        }
+
+        @Test
+        @DisplayName("생성/리비전 제출 이벤트가 같은 트랜잭션의 아웃박스에 기록됨")
+        void testOutboxEvents() {
+            verify(outboxService).append(OutboxEventType.ENTITY_CREATED, RevisionTargetEntity.COMPANY, savedCompany.getId(), null);
+            verify(outboxService).append(OutboxEventType.REVISION_SUBMITTED, RevisionTargetEntity.COMPANY, savedCompany.getId(), savedRevision.getId());
+            verifyNoMoreInteractions(outboxService);
+        }
+
         @Test
         @DisplayName("저장 순서 검증")
         void testSaveOrder() {
             InOrder inOrder = inOrder(companyRepository, revisionRepository);
             inOrder.verify(companyRepository).save(any(Company.class));
+            inOrder.verify(revisionRepository).clearLatest(RevisionTargetEntity.COMPANY, savedCompany.getId());
             inOrder.verify(revisionRepository).save(any(EntityRevision.class));
             inOrder.verifyNoMoreInteractions();
         }
 
     }
 
+    @Test
+    @DisplayName("일괄_생성시_saveAll로_한번에_저장하고_추가_데이터가_있는_행만_리비전_생성")
+    void testCreateAll() {
+        // Arrange
+        var minRequest = Fixtures.companyReqMinimal();
+        var fullRequest = Fixtures.companyReqFull();
+        Company minCompany = Fixtures.company(1L, minRequest.companyBaseData().companyName(), DataStatus.DRAFT);
+        Company fullCompany = Fixtures.company(2L, "Full Company", DataStatus.IN_REVIEW);
+        when(companyRepository.saveAll(anyList())).thenReturn(List.of(minCompany, fullCompany));
+        when(revisionRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        companyService.createAll(List.of(minRequest, fullRequest));
+
+        // Assert
+        verify(companyRepository).saveAll(companiesCaptor.capture());
+        Assertions.assertThat(companiesCaptor.getValue())
+                .extracting("status")
+                .containsExactly(DataStatus.DRAFT, DataStatus.IN_REVIEW);
+
+        verify(revisionRepository).saveAll(revisionsCaptor.capture());
+        Assertions.assertThat(revisionsCaptor.getValue())
+                .extracting("entityId")
+                .containsExactly(fullCompany.getId());
+
+        verify(companyRepository, never()).save(any());
+        verify(companyRepository, never()).existsByNormalizedCompanyName(any());
+        verify(revisionRepository, never()).clearLatest(any(), any());
+        verify(outboxService, times(2)).append(eq(OutboxEventType.ENTITY_CREATED), eq(RevisionTargetEntity.COMPANY), any(), isNull());
+        verify(outboxService).append(eq(OutboxEventType.REVISION_SUBMITTED), eq(RevisionTargetEntity.COMPANY), eq(fullCompany.getId()), any());
+    }
+
     @Test
     @DisplayName("중복된_이름으로_회사_생성_요청시_duplicate_예외가_발생함")
     void testCreateCompany_DuplicateName() {
@@ -203,6 +276,25 @@ public class CompanyCreationServiceTest {
         verify(revisionRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("대소문자_공백_전각_표기만_다른_이름도_중복으로_판별함")
+    void testCreateCompany_NormalizedDuplicateName() {
+        // Arrange
+        var existingRequest = Fixtures.companyReqMinimal();
+        var request = new CompanyCreateRequest(
+            null,
+            new CompanyBaseData(null, null, "  ＴＥＳＴ   company ", null, null, null)
+        );
+        RepositoryStubs.duplicateName(companyRepository, existingRequest.companyBaseData().companyName(),
+                Fixtures.company(1L, existingRequest.companyBaseData().companyName()));
+
+        // Act & Assert
+        Assertions.assertThatThrownBy(() -> companyService.create(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("already exists");
+        verify(companyRepository, never()).save(any());
+    }
+
     private Company captureCompany() {
         var captor = org.mockito.ArgumentCaptor.forClass(Company.class);
         verify(companyRepository).save(captor.capture());
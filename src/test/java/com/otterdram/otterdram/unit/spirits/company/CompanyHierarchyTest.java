@@ -0,0 +1,152 @@
+package com.otterdram.otterdram.unit.spirits.company;
+
+import com.otterdram.otterdram.common.enums.common.DataStatus;
+import com.otterdram.otterdram.common.outbox.OutboxService;
+import com.otterdram.otterdram.domain.spirits.company.Company;
+import com.otterdram.otterdram.domain.spirits.company.dto.CompanyCreateRequest;
+import com.otterdram.otterdram.domain.spirits.company.dto.CompanyHierarchyRow;
+import com.otterdram.otterdram.domain.spirits.company.dto.CompanyTreeNode;
+import com.otterdram.otterdram.domain.spirits.company.repository.CompanyRepository;
+import com.otterdram.otterdram.domain.spirits.company.service.CompanyRevisionApplier;
+import com.otterdram.otterdram.domain.spirits.company.service.CompanyService;
+import com.otterdram.otterdram.domain.spirits.revision.EntityRevision;
+import com.otterdram.otterdram.domain.spirits.revision.applier.RevisionApplierRegistry;
+import com.otterdram.otterdram.domain.spirits.revision.codec.RevisionPayloadCodec;
+import com.otterdram.otterdram.domain.spirits.revision.repository.RevisionRepository;
+import com.otterdram.otterdram.domain.spirits.revision.service.RevisionService;
+import com.otterdram.otterdram.testsupport.Fixtures;
+import com.otterdram.otterdram.testsupport.RepositoryStubs;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CompanyHierarchyTest {
+
+    @Mock CompanyRepository companyRepository;
+    @Mock RevisionRepository revisionRepository;
+    @Mock OutboxService outboxService;
+    @Spy RevisionPayloadCodec revisionPayloadCodec = Fixtures.revisionPayloadCodec();
+    @Spy TransactionTemplate transactionTemplate = Fixtures.transactionTemplate();
+    @InjectMocks CompanyService companyService;
+
+    // 부모를 1번 회사로 지정하는 요청 (Fixtures.companyReqFull)
+    private final CompanyCreateRequest request = Fixtures.companyReqFull();
+    private final Long parentCompanyId = request.companyBaseData().parentCompanyId();
+
+    @Nested
+    @DisplayName("리비전 제출 시 순환 검증")
+    class SubmissionCycleTests {
+        private final Company savedCompany = Fixtures.company(2L, "Child Company", DataStatus.CONFIRMED);
+
+        @Test
+        @DisplayName("지정한 부모의 상위 체인에 자신이 있으면 예외 발생")
+        void testCycleRejectedOnSubmission() {
+            // Arrange
+            RepositoryStubs.existingCompanyById(companyRepository, savedCompany);
+            when(companyRepository.isAncestorOrSelf(savedCompany.getId(), parentCompanyId)).thenReturn(true);
+
+            // Act & Assert
+            Assertions.assertThatThrownBy(() -> companyService.createRevision(savedCompany.getId(), request))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("would create a cycle");
+            verify(companyRepository, never()).save(any());
+            verify(revisionRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("리비전 승인 시 순환 검증")
+    class ApprovalCycleTests {
+        private final Company existingCompany = Fixtures.company(2L, "Child Company", DataStatus.IN_REVIEW);
+        private final EntityRevision existingRevision = Fixtures.revision(1L, existingCompany, request);
+
+        @Test
+        @DisplayName("제출 이후 계층이 바뀌어 순환이 생기면 승인 실패")
+        void testCycleRejectedOnApproval() {
+            // Arrange
+            RevisionService revisionService = new RevisionService(
+                    revisionRepository,
+                    new RevisionApplierRegistry(List.of(new CompanyRevisionApplier(companyRepository, revisionPayloadCodec))),
+                    outboxService
+            );
+            RepositoryStubs.existingRevisionById(revisionRepository, existingRevision);
+            RepositoryStubs.existingCompaniesByIds(companyRepository, List.of(existingCompany));
+            when(companyRepository.isAncestorOrSelf(existingCompany.getId(), parentCompanyId)).thenReturn(true);
+
+            // Act & Assert
+            Assertions.assertThatThrownBy(() -> revisionService.approve(existingRevision.getId()))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("would create a cycle");
+            Assertions.assertThat(existingCompany.getStatus()).isEqualTo(DataStatus.IN_REVIEW);
+            Assertions.assertThat(existingCompany.getParentCompany()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("그룹 트리 조회")
+    class GroupTreeTests {
+
+        @Test
+        @DisplayName("재귀 조회 결과를 한 번의 쿼리로 트리로 조립")
+        void testGroupTreeAssembled() {
+            // Arrange
+            when(companyRepository.findGroupTree(3L)).thenReturn(List.of(
+                    new Row(1L, null, "Group", 0),
+                    new Row(2L, 1L, "Subsidiary A", 1),
+                    new Row(4L, 1L, "Subsidiary B", 1),
+                    new Row(3L, 2L, "Distiller", 2)
+            ));
+
+            // Act
+            CompanyTreeNode tree = companyService.getGroupTree(3L);
+
+            // Assert
+            Assertions.assertThat(tree.id()).isEqualTo(1L);
+            Assertions.assertThat(tree.children()).extracting(CompanyTreeNode::id).containsExactly(2L, 4L);
+            Assertions.assertThat(tree.children().getFirst().children())
+                    .singleElement()
+                    .satisfies(node -> {
+                        Assertions.assertThat(node.id()).isEqualTo(3L);
+                        Assertions.assertThat(node.depth()).isEqualTo(2);
+                        Assertions.assertThat(node.children()).isEmpty();
+                    });
+            verify(companyRepository).findGroupTree(3L);
+            verify(companyRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 회사는 예외 발생")
+        void testGroupTreeNotFound() {
+            // Arrange
+            when(companyRepository.findGroupTree(99L)).thenReturn(List.of());
+
+            // Act & Assert
+            Assertions.assertThatThrownBy(() -> companyService.getGroupTree(99L))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("not found");
+        }
+    }
+
+    private record Row(Long id, Long parentCompanyId, String companyName, Integer depth) implements CompanyHierarchyRow {
+        @Override public Long getId() { return id; }
+        @Override public Long getParentCompanyId() { return parentCompanyId; }
+        @Override public String getCompanyName() { return companyName; }
+        @Override public DataStatus getStatus() { return DataStatus.CONFIRMED; }
+        @Override public Integer getDepth() { return depth; }
+    }
+}
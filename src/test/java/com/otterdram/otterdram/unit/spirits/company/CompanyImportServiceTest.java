@@ -0,0 +1,172 @@
+package com.otterdram.otterdram.unit.spirits.company;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.otterdram.otterdram.domain.spirits.company.dto.CompanyCreateRequest;
+import com.otterdram.otterdram.domain.spirits.company.importer.CompanyImportFormat;
+import com.otterdram.otterdram.domain.spirits.company.importer.CompanyImportReport;
+import com.otterdram.otterdram.domain.spirits.company.importer.CompanyImportService;
+import com.otterdram.otterdram.domain.spirits.company.repository.CompanyRepository;
+import com.otterdram.otterdram.domain.spirits.company.service.CompanyService;
+import jakarta.validation.Validation;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CompanyImportServiceTest {
+
+    @Mock CompanyService companyService;
+    @Mock CompanyRepository companyRepository;
+    @TempDir Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private CompanyImportService companyImportService;
+
+    @BeforeEach
+    void setUp() {
+        companyImportService = new CompanyImportService(
+                companyService,
+                companyRepository,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                objectMapper,
+                2
+        );
+    }
+
+    @Test
+    @DisplayName("CSV 행 검증, 파일 내/기존 데이터 중복, 부모 회사 존재 여부에 따라 거부 행을 기록")
+    void testCsvImportRejections() throws Exception {
+        // Arrange
+        Path source = write("companies.csv", """
+                companyName,parentCompanyId,companyLogo,independentBottler,translations
+                Suntory,,,false,"{""JA"":""サントリー""}"
+                ,,,,
+                " SUNTORY ",,,,
+                Diageo,,,,
+                Beam,99,,,
+                Nikka,,,,{broken
+                """);
+        when(companyRepository.findNormalizedCompanyNamesIn(anyCollection())).thenReturn(List.of("diageo"));
+        when(companyRepository.findIdsByIdIn(anyCollection())).thenReturn(List.of());
+
+        // Act
+        CompanyImportReport report = companyImportService.importFile(source, CompanyImportFormat.CSV, tempDir.resolve("rejected.jsonl"));
+
+        // Assert
+        Assertions.assertThat(report.totalRows()).isEqualTo(6);
+        Assertions.assertThat(report.imported()).isEqualTo(1);
+        Assertions.assertThat(report.rejected()).isEqualTo(5);
+
+        ArgumentCaptor<List<CompanyCreateRequest>> captor = requestsCaptor();
+        verify(companyService).createAll(captor.capture());
+        Assertions.assertThat(captor.getValue())
+                .singleElement()
+                .satisfies(request -> {
+                    Assertions.assertThat(request.companyBaseData().companyName()).isEqualTo("Suntory");
+                    Assertions.assertThat(request.companyBaseData().independentBottler()).isFalse();
+                    Assertions.assertThat(request.companyBaseData().translations()).hasSize(1);
+                });
+
+        Assertions.assertThat(rejectedReasons(report.rejectedFile()))
+                .containsExactlyInAnyOrder(
+                        "2:Company name must not be blank",
+                        "3:Duplicate company name in import file.",
+                        "4:Company with name 'Diageo' already exists.",
+                        "5:Parent company '99' not found.",
+                        "6:Invalid JSON object: {broken"
+                );
+    }
+
+    @Test
+    @DisplayName("JSON 배열을 chunk 단위로 나누어 일괄 등록")
+    void testJsonImportInChunks() throws Exception {
+        // Arrange
+        Path source = write("companies.json", """
+                [
+                  {"companyName": "A"},
+                  {"companyName": "B", "parentCompanyId": 1},
+                  {"companyName": "C"}
+                ]
+                """);
+        when(companyRepository.findNormalizedCompanyNamesIn(anyCollection())).thenReturn(List.of());
+        when(companyRepository.findIdsByIdIn(anyCollection())).thenReturn(List.of(1L));
+
+        // Act
+        CompanyImportReport report = companyImportService.importFile(source, CompanyImportFormat.fromFileName(source), tempDir.resolve("rejected.jsonl"));
+
+        // Assert
+        Assertions.assertThat(report.imported()).isEqualTo(3);
+        Assertions.assertThat(report.rejected()).isZero();
+        ArgumentCaptor<List<CompanyCreateRequest>> captor = requestsCaptor();
+        verify(companyService, times(2)).createAll(captor.capture());
+        Assertions.assertThat(captor.getAllValues())
+                .extracting(List::size)
+                .containsExactly(2, 1);
+        verify(companyService, never()).create(any());
+    }
+
+    @Test
+    @DisplayName("chunk 배치 INSERT 가 유니크 제약에 걸리면 해당 chunk 만 행 단위로 다시 등록")
+    void testFallbackToRowByRow() throws Exception {
+        // Arrange
+        Path source = write("companies.json", """
+                [{"companyName": "A"}, {"companyName": "B"}]
+                """);
+        when(companyRepository.findNormalizedCompanyNamesIn(anyCollection())).thenReturn(List.of());
+        when(companyService.createAll(anyList())).thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(companyService.create(any(CompanyCreateRequest.class)))
+                .thenReturn(null)
+                .thenThrow(new IllegalArgumentException("Company with name 'B' already exists."));
+
+        // Act
+        CompanyImportReport report = companyImportService.importFile(source, CompanyImportFormat.JSON, tempDir.resolve("rejected.jsonl"));
+
+        // Assert
+        Assertions.assertThat(report.imported()).isEqualTo(1);
+        Assertions.assertThat(report.rejected()).isEqualTo(1);
+        Assertions.assertThat(rejectedReasons(report.rejectedFile()))
+                .containsExactly("2:Company with name 'B' already exists.");
+    }
+
+    private Path write(String fileName, String content) throws Exception {
+        return Files.writeString(tempDir.resolve(fileName), content);
+    }
+
+    private List<String> rejectedReasons(Path rejectedFile) throws Exception {
+        return Files.readAllLines(rejectedFile).stream()
+                .map(line -> {
+                    try {
+                        JsonNode node = objectMapper.readTree(line);
+                        return node.get("row").asLong() + ":" + node.get("reason").asText();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<List<CompanyCreateRequest>> requestsCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+}
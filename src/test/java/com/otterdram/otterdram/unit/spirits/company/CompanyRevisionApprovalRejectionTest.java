@@ -2,10 +2,18 @@ package com.otterdram.otterdram.unit.spirits.company;
 
 import com.otterdram.otterdram.common.enums.common.DataStatus;
 import com.otterdram.otterdram.common.enums.common.RevisionStatus;
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+import com.otterdram.otterdram.common.outbox.OutboxEventType;
+import com.otterdram.otterdram.common.outbox.OutboxService;
+import com.otterdram.otterdram.common.utils.NameNormalizer;
 import com.otterdram.otterdram.domain.spirits.company.Company;
 import com.otterdram.otterdram.domain.spirits.company.dto.CompanyCreateRequest;
 import com.otterdram.otterdram.domain.spirits.company.repository.CompanyRepository;
+import com.otterdram.otterdram.domain.spirits.company.service.CompanyRevisionApplier;
 import com.otterdram.otterdram.domain.spirits.revision.EntityRevision;
+import com.otterdram.otterdram.domain.spirits.revision.applier.RevisionApplierRegistry;
+import com.otterdram.otterdram.domain.spirits.revision.codec.RevisionPayloadCodec;
+import com.otterdram.otterdram.domain.spirits.revision.dto.RevisionProcessResult;
 import com.otterdram.otterdram.domain.spirits.revision.repository.RevisionRepository;
 import com.otterdram.otterdram.domain.spirits.revision.service.RevisionService;
 import com.otterdram.otterdram.testsupport.Fixtures;
@@ -16,19 +24,34 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class CompanyRevisionApprovalRejectionTest {
 
     @Mock CompanyRepository companyRepository;
     @Mock RevisionRepository revisionRepository;
-    @InjectMocks RevisionService revisionService;
+    @Mock OutboxService outboxService;
+    @Spy RevisionPayloadCodec revisionPayloadCodec = Fixtures.revisionPayloadCodec();
+    RevisionService revisionService;
+
+    @BeforeEach
+    void setUpService() {
+        revisionService = new RevisionService(
+            revisionRepository,
+            new RevisionApplierRegistry(List.of(new CompanyRevisionApplier(companyRepository, revisionPayloadCodec))),
+            outboxService
+        );
+    }
 
     @Nested
     @DisplayName("승인 테스트")
@@ -48,10 +71,9 @@ public class CompanyRevisionApprovalRejectionTest {
         @BeforeEach
         void setUp() {
             // Arrange
-            RepositoryStubs.existingCompanyById(companyRepository, existingCompany);
+            RepositoryStubs.existingCompaniesByIds(companyRepository, List.of(existingCompany));
             RepositoryStubs.existingRevisionById(revisionRepository, existingRevision);
             RepositoryStubs.existingCompanyReferenceById(companyRepository, existingCompany);
-            RepositoryStubs.saveCompany(companyRepository, any(Company.class), existingCompany);
             RepositoryStubs.saveRevision(revisionRepository, any(EntityRevision.class), existingRevision);
 
 
@@ -63,8 +85,8 @@ public class CompanyRevisionApprovalRejectionTest {
         @DisplayName("company status가 CONFIRMED로 전환되었는지 검증")
         void testCompanyStatusApproval() {
             // Assert
-            Company capturedCompany = captureCompany();
-            Assertions.assertThat(capturedCompany.getStatus()).isEqualTo(DataStatus.CONFIRMED);
+            Company updatedCompany = updatedCompany(existingCompany);
+            Assertions.assertThat(updatedCompany.getStatus()).isEqualTo(DataStatus.CONFIRMED);
         }
 
         @Test
@@ -75,12 +97,19 @@ public class CompanyRevisionApprovalRejectionTest {
             Assertions.assertThat(capturedRevision.getStatus()).isEqualTo(RevisionStatus.APPROVED);
         }
 
+        @Test
+        @DisplayName("승인 이벤트가 아웃박스에 기록됨")
+        void testApprovedEventAppended() {
+            verify(outboxService).append(OutboxEventType.REVISION_APPROVED, RevisionTargetEntity.COMPANY,
+                    existingCompany.getId(), existingRevision.getId());
+        }
+
         @Test
         @DisplayName("company 필드 값이 리비전 데이터로 업데이트 되었는지 검증")
         void testCompanyFieldValuesUpdated() {
             // Assert
-            Company capturedCompany = captureCompany();
-            Assertions.assertThat(capturedCompany)
+            Company updatedCompany = updatedCompany(existingCompany);
+            Assertions.assertThat(updatedCompany)
                 .hasFieldOrPropertyWithValue("parentCompany", request.companyBaseData().parentCompanyId() != null ? companyRepository.getReferenceById(request.companyBaseData().parentCompanyId()) : null)
                 .hasFieldOrPropertyWithValue("companyLogo", request.companyBaseData().companyLogo())
                 .hasFieldOrPropertyWithValue("companyName", request.companyBaseData().companyName())
@@ -112,9 +141,8 @@ public class CompanyRevisionApprovalRejectionTest {
         @BeforeEach
         void setUp() {
             // Arrange
-            RepositoryStubs.existingCompanyById(companyRepository, existingCompany);
+            RepositoryStubs.existingCompaniesByIds(companyRepository, List.of(existingCompany));
             RepositoryStubs.existingRevisionById(revisionRepository, existingRevision);
-            RepositoryStubs.saveCompany(companyRepository, any(Company.class), existingCompany);
             RepositoryStubs.saveRevision(revisionRepository, any(EntityRevision.class), existingRevision);
 
             // Act
@@ -125,8 +153,8 @@ public class CompanyRevisionApprovalRejectionTest {
         @DisplayName("company status가 원래 상태로 전환되었는지 검증")
         void testCompanyStatusRejection() {
             // Assert
-            Company capturedCompany = captureCompany();
-            Assertions.assertThat(capturedCompany.getStatus()).isEqualTo(snapshotStatus);
+            Company updatedCompany = updatedCompany(existingCompany);
+            Assertions.assertThat(updatedCompany.getStatus()).isEqualTo(snapshotStatus);
         }
 
         @Test
@@ -137,26 +165,70 @@ public class CompanyRevisionApprovalRejectionTest {
             Assertions.assertThat(capturedRevision.getStatus()).isEqualTo(RevisionStatus.REJECTED);
         }
 
+        @Test
+        @DisplayName("반려 이벤트가 아웃박스에 기록됨")
+        void testRejectedEventAppended() {
+            verify(outboxService).append(OutboxEventType.REVISION_REJECTED, RevisionTargetEntity.COMPANY,
+                    existingCompany.getId(), existingRevision.getId());
+        }
+
         @Test
         @DisplayName("company 필드 값이 리비전 데이터로 업데이트되지 않고 기존 값 유지되었는지 검증")
         void testCompanyFieldValuesUnchanged() {
             // Assert
-            Company capturedCompany = captureCompany();
-            Assertions.assertThat(capturedCompany)
-                .hasFieldOrPropertyWithValue("parentCompany", existingCompany.getParentCompany())
-                .hasFieldOrPropertyWithValue("companyLogo", existingCompany.getCompanyLogo())
-                .hasFieldOrPropertyWithValue("companyName", existingCompany.getCompanyName())
-                .hasFieldOrPropertyWithValue("translations", existingCompany.getTranslations())
-                .hasFieldOrPropertyWithValue("descriptions", existingCompany.getDescriptions())
-                .hasFieldOrPropertyWithValue("independentBottler", existingCompany.getIndependentBottler());
+            Company updatedCompany = updatedCompany(existingCompany);
+            Assertions.assertThat(updatedCompany)
+                .hasFieldOrPropertyWithValue("parentCompany", null)
+                .hasFieldOrPropertyWithValue("companyLogo", minRequest.companyBaseData().companyLogo())
+                .hasFieldOrPropertyWithValue("companyName", minRequest.companyBaseData().companyName())
+                .hasFieldOrPropertyWithValue("translations", null)
+                .hasFieldOrPropertyWithValue("descriptions", null)
+                .hasFieldOrPropertyWithValue("independentBottler", minRequest.companyBaseData().independentBottler());
         }
     }
 
+    @Nested
+    @DisplayName("제출 이후 다른 회사가 같은 이름을 차지한 경우")
+    class RenameConflictTests {
+        private final CompanyCreateRequest request = Fixtures.companyReqFull();
+        private final Company existingCompany = Fixtures.company(1L, "Old Company", DataStatus.IN_REVIEW);
+        private final EntityRevision pendingRevision = Fixtures.revision(1L, existingCompany, request);
+        private List<RevisionProcessResult> results;
 
-    private Company captureCompany() {
-        var captor = org.mockito.ArgumentCaptor.forClass(Company.class);
-        verify(companyRepository).save(captor.capture());
-        return captor.getValue();
+        @BeforeEach
+        void setUp() {
+            // Arrange
+            RepositoryStubs.existingRevisionsByIds(revisionRepository, List.of(pendingRevision));
+            RepositoryStubs.existingCompaniesByIds(companyRepository, List.of(existingCompany));
+            when(companyRepository.existsByNormalizedCompanyNameAndIdNot(
+                    NameNormalizer.normalize(request.companyBaseData().companyName()), existingCompany.getId()))
+                    .thenReturn(true);
+
+            // Act
+            results = revisionService.processRevisions(List.of(pendingRevision.getId()), RevisionStatus.APPROVED);
+        }
+
+        @Test
+        @DisplayName("승인은 항목 실패로 기록되고 일괄 처리 전체가 실패하지 않음")
+        void testApprovalFailsPerItem() {
+            Assertions.assertThat(results)
+                    .extracting(RevisionProcessResult::success, RevisionProcessResult::failureReason)
+                    .containsExactly(Assertions.tuple(false, "Company with name 'Test Company' already exists."));
+        }
+
+        @Test
+        @DisplayName("company 와 revision 은 변경되지 않음")
+        void testNothingMutated() {
+            Assertions.assertThat(existingCompany.getCompanyName()).isEqualTo("Old Company");
+            Assertions.assertThat(existingCompany.getStatus()).isEqualTo(DataStatus.IN_REVIEW);
+            Assertions.assertThat(pendingRevision.getStatus()).isEqualTo(RevisionStatus.IN_REVIEW);
+        }
+    }
+
+    // 영속 엔티티를 직접 변경하여 dirty checking 으로 반영되므로 save 는 호출되지 않음
+    private Company updatedCompany(Company company) {
+        verify(companyRepository, never()).save(any());
+        return company;
     }
     private EntityRevision captureRevision() {
         var captor = org.mockito.ArgumentCaptor.forClass(EntityRevision.class);
@@ -0,0 +1,168 @@
+package com.otterdram.otterdram.unit.spirits.company;
+
+import com.otterdram.otterdram.common.enums.common.DataStatus;
+import com.otterdram.otterdram.common.enums.common.RevisionStatus;
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+import com.otterdram.otterdram.common.outbox.OutboxEventType;
+import com.otterdram.otterdram.common.outbox.OutboxService;
+import com.otterdram.otterdram.domain.spirits.company.Company;
+import com.otterdram.otterdram.domain.spirits.company.dto.CompanyCreateRequest;
+import com.otterdram.otterdram.domain.spirits.company.repository.CompanyRepository;
+import com.otterdram.otterdram.domain.spirits.company.service.CompanyRevisionApplier;
+import com.otterdram.otterdram.domain.spirits.revision.EntityRevision;
+import com.otterdram.otterdram.domain.spirits.revision.applier.RevisionApplierRegistry;
+import com.otterdram.otterdram.domain.spirits.revision.codec.RevisionPayloadCodec;
+import com.otterdram.otterdram.domain.spirits.revision.dto.RevisionProcessResult;
+import com.otterdram.otterdram.domain.spirits.revision.repository.RevisionRepository;
+import com.otterdram.otterdram.domain.spirits.revision.service.RevisionService;
+import com.otterdram.otterdram.testsupport.Fixtures;
+import com.otterdram.otterdram.testsupport.RepositoryStubs;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CompanyRevisionBatchProcessingTest {
+
+    @Mock CompanyRepository companyRepository;
+    @Mock RevisionRepository revisionRepository;
+    @Mock OutboxService outboxService;
+    @Spy RevisionPayloadCodec revisionPayloadCodec = Fixtures.revisionPayloadCodec();
+    RevisionService revisionService;
+
+    @BeforeEach
+    void setUpService() {
+        revisionService = new RevisionService(
+                revisionRepository,
+                new RevisionApplierRegistry(List.of(new CompanyRevisionApplier(companyRepository, revisionPayloadCodec))),
+                outboxService
+        );
+    }
+
+    @Nested
+    @DisplayName("일괄 승인 테스트")
+    class BatchApprovalTests {
+        private final CompanyCreateRequest request = Fixtures.companyReqFull();
+        private final Company inReviewCompany = Fixtures.company(1L, "Company A", DataStatus.IN_REVIEW);
+        private final Company confirmedCompany = Fixtures.company(2L, "Company B", DataStatus.CONFIRMED);
+        private final EntityRevision pendingRevision = Fixtures.revision(10L, inReviewCompany, request);
+        private final EntityRevision staleRevision = Fixtures.revision(20L, confirmedCompany, request);
+        private List<RevisionProcessResult> results;
+
+        @BeforeEach
+        void setUp() {
+            // Arrange
+            RepositoryStubs.existingRevisionsByIds(revisionRepository, List.of(pendingRevision, staleRevision));
+            RepositoryStubs.existingCompaniesByIds(companyRepository, List.of(inReviewCompany, confirmedCompany));
+            when(companyRepository.getReferenceById(anyLong())).thenReturn(inReviewCompany);
+
+            // Act
+            results = revisionService.processRevisions(List.of(10L, 20L, 30L, 10L), RevisionStatus.APPROVED);
+        }
+
+        @Test
+        @DisplayName("요청 순서대로 중복 없이 항목별 결과를 반환")
+        void testResultsPerItem() {
+            Assertions.assertThat(results)
+                    .extracting(RevisionProcessResult::revisionId, RevisionProcessResult::success)
+                    .containsExactly(
+                            Assertions.tuple(10L, true),
+                            Assertions.tuple(20L, false),
+                            Assertions.tuple(30L, false)
+                    );
+            Assertions.assertThat(results.get(1).failureReason()).isEqualTo("COMPANY is not in review status");
+            Assertions.assertThat(results.get(2).failureReason()).isEqualTo("Revision not found");
+        }
+
+        @Test
+        @DisplayName("리비전과 컴퍼니는 각각 한 번의 IN 쿼리로 조회")
+        void testSingleLookupPerEntityType() {
+            verify(revisionRepository, times(1)).findAllById(anyIterable());
+            verify(companyRepository, times(1)).findAllById(anyIterable());
+            verify(revisionRepository, never()).findById(anyLong());
+            verify(companyRepository, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("성공한 항목만 영속 엔티티에 반영되고 save 는 호출하지 않음")
+        void testOnlySucceededItemsApplied() {
+            Assertions.assertThat(inReviewCompany.getStatus()).isEqualTo(DataStatus.CONFIRMED);
+            Assertions.assertThat(pendingRevision.getStatus()).isEqualTo(RevisionStatus.APPROVED);
+            Assertions.assertThat(confirmedCompany.getStatus()).isEqualTo(DataStatus.CONFIRMED);
+            Assertions.assertThat(staleRevision.getStatus()).isEqualTo(RevisionStatus.IN_REVIEW);
+
+            verify(companyRepository, never()).save(any());
+            verify(companyRepository, never()).saveAll(anyIterable());
+            verify(revisionRepository, never()).saveAll(anyIterable());
+        }
+
+        @Test
+        @DisplayName("성공한 항목만 아웃박스 이벤트를 기록")
+        void testOutboxEventsOnlyForSucceededItems() {
+            verify(outboxService).append(OutboxEventType.REVISION_APPROVED, RevisionTargetEntity.COMPANY,
+                    inReviewCompany.getId(), pendingRevision.getId());
+            verifyNoMoreInteractions(outboxService);
+        }
+    }
+
+    @Nested
+    @DisplayName("이미 검토된 리비전이 포함된 경우")
+    class AlreadyReviewedRevisionTests {
+        private final CompanyCreateRequest request = Fixtures.companyReqFull();
+        private final Company inReviewCompany = Fixtures.company(1L, "Company A", DataStatus.IN_REVIEW);
+        private final EntityRevision reviewedRevision = Fixtures.revision(10L, inReviewCompany, request);
+        private List<RevisionProcessResult> results;
+
+        @BeforeEach
+        void setUp() {
+            // Arrange
+            reviewedRevision.review(99L, RevisionStatus.REJECTED);
+            RepositoryStubs.existingRevisionsByIds(revisionRepository, List.of(reviewedRevision));
+            RepositoryStubs.existingCompaniesByIds(companyRepository, List.of(inReviewCompany));
+
+            // Act
+            results = revisionService.processRevisions(List.of(10L), RevisionStatus.APPROVED);
+        }
+
+        @Test
+        @DisplayName("검토 대기 상태가 아닌 리비전은 실패로 기록")
+        void testNonPendingRevisionFails() {
+            Assertions.assertThat(results)
+                    .extracting(RevisionProcessResult::revisionId, RevisionProcessResult::success)
+                    .containsExactly(Assertions.tuple(10L, false));
+            Assertions.assertThat(results.getFirst().failureReason())
+                    .isEqualTo("Cannot review an already reviewed or non-pending item.");
+        }
+
+        @Test
+        @DisplayName("대상 엔티티는 변경되지 않음")
+        void testTargetEntityUnchanged() {
+            Assertions.assertThat(inReviewCompany.getStatus()).isEqualTo(DataStatus.IN_REVIEW);
+            Assertions.assertThat(inReviewCompany.getCompanyName()).isEqualTo("Company A");
+            Assertions.assertThat(reviewedRevision.getStatus()).isEqualTo(RevisionStatus.REJECTED);
+            verifyNoInteractions(outboxService);
+        }
+    }
+
+    @Test
+    @DisplayName("IN_REVIEW 상태로 일괄 처리 요청시 예외 발생")
+    void testProcessRevisions_InvalidStatus() {
+        Assertions.assertThatThrownBy(() -> revisionService.processRevisions(List.of(1L), RevisionStatus.IN_REVIEW))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(companyRepository, revisionRepository);
+    }
+}
@@ -0,0 +1,89 @@
+package com.otterdram.otterdram.unit.spirits.company;
+
+import com.otterdram.otterdram.common.enums.common.DataStatus;
+import com.otterdram.otterdram.common.outbox.OutboxService;
+import com.otterdram.otterdram.domain.spirits.company.dto.CompanySummary;
+import com.otterdram.otterdram.domain.spirits.company.dto.CompanySummaryCondition;
+import com.otterdram.otterdram.domain.spirits.company.repository.CompanyRepository;
+import com.otterdram.otterdram.domain.spirits.company.service.CompanyService;
+import com.otterdram.otterdram.domain.spirits.revision.codec.RevisionPayloadCodec;
+import com.otterdram.otterdram.domain.spirits.revision.repository.RevisionRepository;
+import com.otterdram.otterdram.testsupport.Fixtures;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CompanySummaryQueryTest {
+
+    @Mock CompanyRepository companyRepository;
+    @Mock RevisionRepository revisionRepository;
+    @Mock OutboxService outboxService;
+    @Spy RevisionPayloadCodec revisionPayloadCodec = Fixtures.revisionPayloadCodec();
+    @InjectMocks CompanyService companyService;
+
+    private final Pageable pageable = PageRequest.of(0, 50);
+
+    @Test
+    @DisplayName("기본 조건은 CONFIRMED 상태, 검색어 없음")
+    void testDefaultCondition() {
+        // Arrange
+        CompanySummary summary = new CompanySummary(1L, "Test Company", null, null, true, DataStatus.CONFIRMED, 3, 5);
+        when(companyRepository.findSummaries(DataStatus.CONFIRMED, null, null, pageable))
+                .thenReturn(new PageImpl<>(List.of(summary), pageable, 1));
+
+        // Act
+        Page<CompanySummary> page = companyService.getSummaries(new CompanySummaryCondition(null, null, "  "), pageable);
+
+        // Assert
+        Assertions.assertThat(page.getContent()).containsExactly(summary);
+        Assertions.assertThat(page.getContent().getFirst().distilleryCount()).isEqualTo(3);
+        Assertions.assertThat(page.getContent().getFirst().brandCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("검색어는 정규화 이름 기준으로 전달되고 엔티티는 로딩하지 않음")
+    void testNormalizedQueryWithoutEntityLoading() {
+        // Arrange
+        when(companyRepository.findSummaries(DataStatus.IN_REVIEW, false, "suntory", pageable))
+                .thenReturn(Page.empty(pageable));
+
+        // Act
+        companyService.getSummaries(new CompanySummaryCondition(DataStatus.IN_REVIEW, false, " SUNTORY "), pageable);
+
+        // Assert
+        verify(companyRepository).findSummaries(DataStatus.IN_REVIEW, false, "suntory", pageable);
+        verify(companyRepository, never()).findAll(any(Pageable.class));
+        verify(companyRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("검색어의 LIKE 메타문자는 escape 되어 문자 그대로 비교됨")
+    void testLikeMetacharactersEscaped() {
+        // Arrange
+        when(companyRepository.findSummaries(DataStatus.CONFIRMED, null, "100\\%\\_a\\\\b", pageable))
+                .thenReturn(Page.empty(pageable));
+
+        // Act
+        companyService.getSummaries(new CompanySummaryCondition(null, null, "100%_A\\B"), pageable);
+
+        // Assert
+        verify(companyRepository).findSummaries(DataStatus.CONFIRMED, null, "100\\%\\_a\\\\b", pageable);
+    }
+}
@@ -2,15 +2,21 @@ package com.otterdram.otterdram.unit.spirits.company;
 
 import com.otterdram.otterdram.common.enums.common.DataStatus;
 import com.otterdram.otterdram.common.enums.common.RevisionStatus;
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+import com.otterdram.otterdram.common.outbox.OutboxEventType;
+import com.otterdram.otterdram.common.outbox.OutboxService;
+import com.otterdram.otterdram.common.utils.NameNormalizer;
 import com.otterdram.otterdram.domain.spirits.company.Company;
 import com.otterdram.otterdram.domain.spirits.company.dto.CompanyCreateRequest;
 import com.otterdram.otterdram.domain.spirits.company.repository.CompanyRepository;
 import com.otterdram.otterdram.domain.spirits.company.service.CompanyService;
 import com.otterdram.otterdram.domain.spirits.revision.EntityRevision;
+import com.otterdram.otterdram.domain.spirits.revision.codec.RevisionPayloadCodec;
 import com.otterdram.otterdram.domain.spirits.revision.repository.RevisionRepository;
 import com.otterdram.otterdram.testsupport.Fixtures;
 import com.otterdram.otterdram.testsupport.RepositoryStubs;
 import org.assertj.core.api.Assertions;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,16 +24,27 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class CompanyTransitionServiceTest {
 
     @Mock CompanyRepository companyRepository;
     @Mock RevisionRepository revisionRepository;
+    @Mock OutboxService outboxService;
+    @Spy RevisionPayloadCodec revisionPayloadCodec = Fixtures.revisionPayloadCodec();
+    @Spy TransactionTemplate transactionTemplate = Fixtures.transactionTemplate();
     @InjectMocks CompanyService companyService;
 
     @Nested
@@ -45,6 +62,7 @@ public class CompanyTransitionServiceTest {
             // Arrange
             RepositoryStubs.existingCompanyById(companyRepository, savedCompany);
             RepositoryStubs.saveCompany(companyRepository, any(Company.class), savedCompany);
+            RepositoryStubs.saveRevision(revisionRepository, any(EntityRevision.class), Fixtures.revision(1L, savedCompany, request));
         }
 
         @Test
@@ -164,6 +182,156 @@ public class CompanyTransitionServiceTest {
 
     }
 
+    @Nested
+    @DisplayName("다른 회사가 사용 중인 이름으로 변경하는 경우")
+    class RenameConflictTests {
+        private final CompanyCreateRequest request = Fixtures.companyReqFull();
+        private final Company savedCompany = Fixtures.company(1L, "Old Company", DataStatus.CONFIRMED);
+
+        @Test
+        @DisplayName("제출 시점에 이름 중복으로 예외 발생하고 상태는 바뀌지 않음")
+        void testRenameToTakenName() {
+            // Arrange
+            RepositoryStubs.existingCompanyById(companyRepository, savedCompany);
+            when(companyRepository.existsByNormalizedCompanyNameAndIdNot(
+                    NameNormalizer.normalize(request.companyBaseData().companyName()), savedCompany.getId()))
+                    .thenReturn(true);
+
+            // Act & Assert
+            Assertions.assertThatThrownBy(() -> companyService.createRevision(savedCompany.getId(), request))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("already exists");
+            Assertions.assertThat(savedCompany.getStatus()).isEqualTo(DataStatus.CONFIRMED);
+            verify(revisionRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("동시 리비전 제출로 버전 충돌이 발생한 경우")
+    class ConcurrentSubmissionTests {
+        private final CompanyCreateRequest request = Fixtures.companyReqFull();
+        private final Company savedCompany = Fixtures.company(
+            1L,
+            request.companyBaseData().companyName(),
+            DataStatus.CONFIRMED
+        );
+        private final Company concurrentlyUpdatedCompany = Fixtures.company(
+            1L,
+            request.companyBaseData().companyName(),
+            DataStatus.IN_REVIEW
+        );
+        private final ObjectOptimisticLockingFailureException conflict =
+                new ObjectOptimisticLockingFailureException(Company.class, savedCompany.getId());
+
+        @Test
+        @DisplayName("재시도 시 커밋된 상태로 다시 검증하여 상태 오류로 귀결")
+        void testRetryRevalidatesCommittedState() {
+            // Arrange
+            when(companyRepository.findById(savedCompany.getId()))
+                    .thenReturn(Optional.of(savedCompany))
+                    .thenReturn(Optional.of(concurrentlyUpdatedCompany));
+            when(companyRepository.save(any(Company.class))).thenThrow(conflict);
+
+            // Act & Assert
+            Assertions.assertThatThrownBy(() -> companyService.createRevision(savedCompany.getId(), request))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Cannot create a new revision for a company that is already under review.");
+            verify(companyRepository, times(2)).findById(savedCompany.getId());
+        }
+
+        @Test
+        @DisplayName("충돌이 계속되면 최대 시도 횟수 후 conflict 예외 발생")
+        void testConflictAfterMaxAttempts() {
+            // Arrange: 시도마다 새 트랜잭션에서 커밋된 CONFIRMED 상태를 다시 읽음
+            when(companyRepository.findById(savedCompany.getId()))
+                    .thenAnswer(invocation -> Optional.of(Fixtures.company(
+                            savedCompany.getId(),
+                            savedCompany.getCompanyName(),
+                            DataStatus.CONFIRMED
+                    )));
+            when(companyRepository.save(any(Company.class))).thenThrow(conflict);
+
+            // Act & Assert
+            Assertions.assertThatThrownBy(() -> companyService.createRevision(savedCompany.getId(), request))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("conflicted with a concurrent update")
+                    .hasCause(conflict);
+            verify(companyRepository, times(3)).findById(savedCompany.getId());
+            verify(revisionRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("리비전 부분 유니크 인덱스 위반은 충돌로 보고 재시도")
+        void testRevisionIndexViolationRetried() {
+            // Arrange
+            when(companyRepository.findById(savedCompany.getId()))
+                    .thenReturn(Optional.of(savedCompany))
+                    .thenReturn(Optional.of(concurrentlyUpdatedCompany));
+            when(revisionRepository.save(any(EntityRevision.class)))
+                    .thenThrow(integrityViolation("ux_revisions_pending_entity"));
+
+            // Act & Assert
+            Assertions.assertThatThrownBy(() -> companyService.createRevision(savedCompany.getId(), request))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("already under review");
+            verify(companyRepository, times(2)).findById(savedCompany.getId());
+        }
+
+        @Test
+        @DisplayName("그 밖의 무결성 위반은 재시도하지 않고 그대로 전파")
+        void testOtherIntegrityViolationNotRetried() {
+            // Arrange
+            DataIntegrityViolationException violation = integrityViolation("ux_companies_normalized_company_name");
+            RepositoryStubs.existingCompanyById(companyRepository, savedCompany);
+            when(revisionRepository.save(any(EntityRevision.class))).thenThrow(violation);
+
+            // Act & Assert
+            Assertions.assertThatThrownBy(() -> companyService.createRevision(savedCompany.getId(), request))
+                    .isSameAs(violation);
+            verify(companyRepository, times(1)).findById(savedCompany.getId());
+        }
+
+        @Test
+        @DisplayName("이미 트랜잭션 안에서 호출하면 예외 발생")
+        void testActiveTransactionRejected() {
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            try {
+                // Act & Assert
+                Assertions.assertThatThrownBy(() -> companyService.createRevision(savedCompany.getId(), request))
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("must not run inside an active transaction");
+                verifyNoInteractions(companyRepository, revisionRepository);
+            } finally {
+                TransactionSynchronizationManager.setActualTransactionActive(false);
+            }
+        }
+
+        private DataIntegrityViolationException integrityViolation(String constraintName) {
+            return new DataIntegrityViolationException("could not execute statement",
+                    new ConstraintViolationException("duplicate key", new SQLException("duplicate key"), constraintName));
+        }
+    }
+
+    @Nested
+    @DisplayName("소프트 삭제 / 복원")
+    class SoftDeleteTests {
+        private final Company savedCompany = Fixtures.company(1L, "Test Company", DataStatus.CONFIRMED);
+
+        @Test
+        @DisplayName("삭제와 복원은 각각 아웃박스 이벤트를 남김")
+        void testSoftDeleteAndRestoreAppendEvents() {
+            // Arrange
+            RepositoryStubs.existingCompanyById(companyRepository, savedCompany);
+
+            // Act
+            companyService.softDelete(savedCompany.getId());
+            companyService.restore(savedCompany.getId());
+
+            // Assert
+            verify(outboxService).append(OutboxEventType.ENTITY_DELETED, RevisionTargetEntity.COMPANY, savedCompany.getId(), null);
+            verify(outboxService).append(OutboxEventType.ENTITY_RESTORED, RevisionTargetEntity.COMPANY, savedCompany.getId(), null);
+        }
+    }
 
     private Company captureCompany() {
         var captor = org.mockito.ArgumentCaptor.forClass(Company.class);
@@ -0,0 +1,102 @@
+package com.otterdram.otterdram.unit.spirits.release;
+
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+import com.otterdram.otterdram.common.outbox.OutboxEventType;
+import com.otterdram.otterdram.common.outbox.OutboxMessage;
+import com.otterdram.otterdram.domain.spirits.release.lineage.ReleaseLineageRefresher;
+import com.otterdram.otterdram.domain.spirits.release.repository.ReleaseLineageRepository;
+import com.otterdram.otterdram.testsupport.Fixtures;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReleaseLineageRefresherTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock ReleaseLineageRepository releaseLineageRepository;
+    ReleaseLineageRefresher releaseLineageRefresher;
+
+    @BeforeEach
+    void setUp() {
+        releaseLineageRefresher = new ReleaseLineageRefresher(releaseLineageRepository, Fixtures.transactionTemplate(), BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("릴리스 이벤트는 해당 릴리스만 다시 계산하고, 삭제된 릴리스의 계보를 지움")
+    void testOnReleaseEvent() {
+        // Act
+        releaseLineageRefresher.on(message(RevisionTargetEntity.RELEASE, 100L));
+
+        // Assert
+        InOrder inOrder = inOrder(releaseLineageRepository);
+        inOrder.verify(releaseLineageRepository).upsertFromSource(new Long[]{100L});
+        inOrder.verify(releaseLineageRepository).deleteMissingFromSource(new Long[]{100L});
+    }
+
+    @Test
+    @DisplayName("상위 엔티티 이벤트는 계보 행에서 영향받는 릴리스를 찾아 batchSize 개씩 다시 계산")
+    void testOnAncestorEvent() {
+        // Arrange
+        when(releaseLineageRepository.findReleaseIdsByBrandId(31L)).thenReturn(List.of(9L, 3L, 5L, 3L));
+
+        // Act
+        releaseLineageRefresher.on(message(RevisionTargetEntity.BRAND, 31L));
+
+        // Assert
+        verify(releaseLineageRepository).upsertFromSource(new Long[]{3L, 5L});
+        verify(releaseLineageRepository).upsertFromSource(new Long[]{9L});
+        verify(releaseLineageRepository, times(2)).deleteMissingFromSource(any());
+    }
+
+    @Test
+    @DisplayName("증류소/캐스크 이벤트는 관계 테이블에서 릴리스를 찾고, 캐스크 유형 이벤트는 무시")
+    void testOnRelatedEvent() {
+        // Arrange
+        when(releaseLineageRepository.findReleaseIdsByDistilleryId(12L)).thenReturn(List.of(100L));
+        when(releaseLineageRepository.findReleaseIdsByCaskId(7L)).thenReturn(List.of());
+
+        // Act
+        releaseLineageRefresher.on(message(RevisionTargetEntity.DISTILLERY, 12L));
+        releaseLineageRefresher.on(message(RevisionTargetEntity.CASK, 7L));
+        releaseLineageRefresher.on(message(RevisionTargetEntity.CASK_TYPE, 2L));
+
+        // Assert
+        verify(releaseLineageRepository).upsertFromSource(new Long[]{100L});
+        verify(releaseLineageRepository).deleteMissingFromSource(new Long[]{100L});
+        verifyNoMoreInteractions(releaseLineageRepository);
+    }
+
+    @Test
+    @DisplayName("전체 재계산은 릴리스 ID 를 batchSize 개씩 이어 읽고 모자란 배치에서 멈춤")
+    void testRebuild() {
+        // Arrange
+        when(releaseLineageRepository.findReleaseIdsAfter(0L, BATCH_SIZE)).thenReturn(List.of(1L, 4L));
+        when(releaseLineageRepository.findReleaseIdsAfter(4L, BATCH_SIZE)).thenReturn(List.of(9L));
+
+        // Act
+        long processed = releaseLineageRefresher.rebuild();
+
+        // Assert
+        Assertions.assertThat(processed).isEqualTo(3);
+        verify(releaseLineageRepository).upsertFromSource(new Long[]{1L, 4L});
+        verify(releaseLineageRepository).upsertFromSource(new Long[]{9L});
+        verify(releaseLineageRepository, never()).findReleaseIdsAfter(9L, BATCH_SIZE);
+    }
+
+    private static OutboxMessage message(RevisionTargetEntity aggregateType, Long aggregateId) {
+        return new OutboxMessage(1L, OutboxEventType.REVISION_APPROVED, aggregateType, aggregateId, 1L, Instant.now());
+    }
+}
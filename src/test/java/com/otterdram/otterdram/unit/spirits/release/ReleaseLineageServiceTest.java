@@ -0,0 +1,89 @@
+package com.otterdram.otterdram.unit.spirits.release;
+
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+import com.otterdram.otterdram.domain.spirits.release.dto.ReleaseLineageResponse;
+import com.otterdram.otterdram.domain.spirits.release.lineage.ReleaseLineage;
+import com.otterdram.otterdram.domain.spirits.release.lineage.ReleaseLineageNode;
+import com.otterdram.otterdram.domain.spirits.release.lineage.ReleaseLineageRefresher;
+import com.otterdram.otterdram.domain.spirits.release.repository.ReleaseLineageRepository;
+import com.otterdram.otterdram.domain.spirits.release.service.ReleaseLineageService;
+import jakarta.persistence.EntityNotFoundException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReleaseLineageServiceTest {
+
+    @Mock ReleaseLineageRepository releaseLineageRepository;
+    @Mock ReleaseLineageRefresher releaseLineageRefresher;
+    @InjectMocks ReleaseLineageService releaseLineageService;
+
+    @Test
+    @DisplayName("계산된 계보는 단건 조회로 응답하고 다시 계산하지 않음")
+    void testGetLineage() {
+        // Arrange
+        when(releaseLineageRepository.findById(100L)).thenReturn(Optional.of(lineage(100L)));
+
+        // Act
+        ReleaseLineageResponse response = releaseLineageService.getLineage(100L);
+
+        // Assert
+        Assertions.assertThat(response.releaseId()).isEqualTo(100L);
+        Assertions.assertThat(response.ancestry()).extracting(ReleaseLineageNode::entityType)
+                .containsExactly(RevisionTargetEntity.BRAND, RevisionTargetEntity.COLLECTION, RevisionTargetEntity.MODEL);
+        verify(releaseLineageRepository, times(1)).findById(100L);
+        verifyNoInteractions(releaseLineageRefresher);
+    }
+
+    @Test
+    @DisplayName("아직 계산되지 않은 계보는 그 자리에서 계산한 뒤 응답")
+    void testGetLineageNotYetRefreshed() {
+        // Arrange
+        when(releaseLineageRepository.findById(100L)).thenReturn(Optional.empty())
+                .thenReturn(Optional.of(lineage(100L)));
+
+        // Act
+        ReleaseLineageResponse response = releaseLineageService.getLineage(100L);
+
+        // Assert
+        Assertions.assertThat(response.releaseId()).isEqualTo(100L);
+        verify(releaseLineageRefresher).refresh(List.of(100L));
+    }
+
+    @Test
+    @DisplayName("없거나 삭제된 릴리스는 예외 발생")
+    void testGetLineageNotFound() {
+        // Arrange
+        when(releaseLineageRepository.findById(any())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        Assertions.assertThatThrownBy(() -> releaseLineageService.getLineage(404L))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    private static ReleaseLineage lineage(Long releaseId) {
+        return ReleaseLineage.builder()
+                .releaseId(releaseId)
+                .modelId(50L)
+                .collectionId(40L)
+                .brandId(31L)
+                .ancestry(List.of(
+                        new ReleaseLineageNode(RevisionTargetEntity.BRAND, 31L, "Glenfiddich", null),
+                        new ReleaseLineageNode(RevisionTargetEntity.COLLECTION, 40L, "Core Range", null),
+                        new ReleaseLineageNode(RevisionTargetEntity.MODEL, 50L, "Glenfiddich 12", null)))
+                .distilleries(List.of())
+                .casks(List.of())
+                .build();
+    }
+}
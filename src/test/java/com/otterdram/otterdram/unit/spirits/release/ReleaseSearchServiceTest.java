@@ -0,0 +1,155 @@
+package com.otterdram.otterdram.unit.spirits.release;
+
+import com.otterdram.otterdram.common.enums.common.DataStatus;
+import com.otterdram.otterdram.common.enums.spirits.AgeStatementType;
+import com.otterdram.otterdram.common.enums.spirits.BottlingStrengthType;
+import com.otterdram.otterdram.common.enums.spirits.PeatLevel;
+import com.otterdram.otterdram.domain.spirits.category.service.CategoryTreeService;
+import com.otterdram.otterdram.domain.spirits.category.tree.CategoryNode;
+import com.otterdram.otterdram.domain.spirits.release.dto.ReleaseSearchCondition;
+import com.otterdram.otterdram.domain.spirits.release.dto.ReleaseSearchCursor;
+import com.otterdram.otterdram.domain.spirits.release.dto.ReleaseSearchPage;
+import com.otterdram.otterdram.domain.spirits.release.dto.ReleaseSummary;
+import com.otterdram.otterdram.domain.spirits.release.repository.ReleaseRepository;
+import com.otterdram.otterdram.domain.spirits.release.service.ReleaseSearchService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReleaseSearchServiceTest {
+
+    @Mock ReleaseRepository releaseRepository;
+    @Mock CategoryTreeService categoryTreeService;
+    @InjectMocks ReleaseSearchService releaseSearchService;
+
+    @Test
+    @DisplayName("size + 1 건을 읽어 다음 페이지가 있으면 마지막 항목의 (이름, id) 로 커서를 만듦")
+    void testSearchHasNext() {
+        // Arrange
+        when(releaseRepository.findSummaries(any(), eq(Limit.of(3))))
+                .thenReturn(List.of(summary(1L, "Alpha"), summary(7L, "Beta"), summary(3L, "Gamma")));
+
+        // Act
+        ReleaseSearchPage page = releaseSearchService.search(condition(null, 2));
+
+        // Assert
+        Assertions.assertThat(page.items()).extracting(ReleaseSummary::id).containsExactly(1L, 7L);
+        Assertions.assertThat(ReleaseSearchCursor.decode(page.nextCursor()))
+                .isEqualTo(new ReleaseSearchCursor("Beta", 7L));
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 커서가 없음")
+    void testSearchLastPage() {
+        // Arrange
+        String cursor = new ReleaseSearchCursor("Beta", 7L).encode();
+        when(releaseRepository.findSummaries(any(), eq(Limit.of(3))))
+                .thenReturn(List.of(summary(3L, "Gamma")));
+
+        // Act
+        ReleaseSearchPage page = releaseSearchService.search(condition(cursor, 2));
+
+        // Assert
+        Assertions.assertThat(page.items()).hasSize(1);
+        Assertions.assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("카테고리 필터는 트리 스냅샷에서 경로를 찾아 조회하고, 없는 카테고리는 조회 없이 빈 페이지")
+    void testSearchByCategory() {
+        // Arrange
+        when(categoryTreeService.find(2L)).thenReturn(Optional.of(
+                new CategoryNode(2L, 1L, "Scotch Whisky", null, (short) 1, "1/2", List.of(3L))));
+        when(categoryTreeService.find(404L)).thenReturn(Optional.empty());
+        when(releaseRepository.findSummaries(any(), eq(Limit.of(51))))
+                .thenReturn(List.of(summary(1L, "Alpha")));
+
+        // Act
+        ReleaseSearchPage page = releaseSearchService.search(categoryCondition(2L));
+        ReleaseSearchPage missing = releaseSearchService.search(categoryCondition(404L));
+
+        // Assert
+        Assertions.assertThat(page.items()).extracting(ReleaseSummary::id).containsExactly(1L);
+        Assertions.assertThat(missing.items()).isEmpty();
+        Assertions.assertThat(missing.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("카테고리 필터가 없으면 트리를 읽지 않음")
+    void testSearchWithoutCategory() {
+        // Arrange
+        when(releaseRepository.findSummaries(any(), eq(Limit.of(3)))).thenReturn(List.of());
+
+        // Act
+        releaseSearchService.search(condition(null, 2));
+
+        // Assert
+        verifyNoInteractions(categoryTreeService);
+    }
+
+    @Test
+    @DisplayName("이름에 구분자가 있어도 커서를 복원")
+    void testCursorRoundTrip() {
+        ReleaseSearchCursor cursor = new ReleaseSearchCursor("Batch 1 | Cask 7", 42L);
+
+        Assertions.assertThat(ReleaseSearchCursor.decode(cursor.encode())).isEqualTo(cursor);
+        Assertions.assertThatThrownBy(() -> ReleaseSearchCursor.decode("bm90LWEtY3Vyc29y"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
+
+    @Test
+    @DisplayName("상태 기본값은 CONFIRMED 이고, 범위 조건의 하한이 상한보다 크면 예외 발생")
+    void testConditionValidation() {
+        Assertions.assertThat(condition(null, null).status()).isEqualTo(DataStatus.CONFIRMED);
+        Assertions.assertThat(condition(null, null).size()).isEqualTo(ReleaseSearchCondition.DEFAULT_SIZE);
+
+        Assertions.assertThatThrownBy(() -> new ReleaseSearchCondition(null, null, null, null, (short) 18, (short) 12,
+                        null, null, null, null, null, null, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("statedAge");
+        Assertions.assertThatThrownBy(() -> new ReleaseSearchCondition(null, null, null, null, null, null,
+                        40.0, 120.0, null, null, null, null, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("abv must be between 0 and 100");
+    }
+
+    @Test
+    @DisplayName("검색어는 lower(release_name) 과 같은 기준으로 앞뒤 공백 제거 후 소문자로만 변환")
+    void testQueryLowercasedOnly() {
+        Assertions.assertThat(condition(null, null).q()).isEqualTo("spring");
+        Assertions.assertThat(new ReleaseSearchCondition(null, null, null, null, null, null, null, null,
+                null, null, null, null, " Ｓpring  Bank ", null, null).q()).isEqualTo("ｓpring  bank");
+        Assertions.assertThat(new ReleaseSearchCondition(null, null, null, null, null, null, null, null,
+                null, null, null, null, "  ", null, null).q()).isNull();
+    }
+
+    private static ReleaseSearchCondition condition(String cursor, Integer size) {
+        return new ReleaseSearchCondition(null, null, null, null, null, null, null, null,
+                null, null, null, null, " Spring ", cursor, size);
+    }
+
+    private static ReleaseSearchCondition categoryCondition(Long categoryId) {
+        return new ReleaseSearchCondition(null, null, categoryId, null, null, null, null, null,
+                null, null, null, null, null, null, null);
+    }
+
+    private static ReleaseSummary summary(Long id, String releaseName) {
+        return new ReleaseSummary(id, 50L, releaseName, null, AgeStatementType.NAS, null,
+                BottlingStrengthType.STANDARD, 46.0, null, PeatLevel.UNKNOWN, DataStatus.CONFIRMED);
+    }
+}
@@ -0,0 +1,154 @@
+package com.otterdram.otterdram.unit.spirits.revision;
+
+import com.otterdram.otterdram.common.enums.common.RevisionStatus;
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+import com.otterdram.otterdram.domain.spirits.revision.EntityRevision;
+import com.otterdram.otterdram.domain.spirits.revision.dto.RevisionEntityKey;
+import com.otterdram.otterdram.domain.spirits.revision.dto.RevisionTimelineEntry;
+import com.otterdram.otterdram.domain.spirits.revision.repository.RevisionRepository;
+import com.otterdram.otterdram.domain.spirits.revision.service.RevisionHistoryService;
+import com.otterdram.otterdram.testsupport.Fixtures;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RevisionHistoryServiceTest {
+
+    private static final RevisionEntityKey COMPANY_1 = new RevisionEntityKey(RevisionTargetEntity.COMPANY, 1L);
+
+    @Mock RevisionRepository revisionRepository;
+    @Spy TransactionTemplate transactionTemplate = Fixtures.transactionTemplate();
+    @InjectMocks RevisionHistoryService revisionHistoryService;
+
+    @Nested
+    @DisplayName("이력 압축 테스트")
+    class CompactionTests {
+        private final EntityRevision checkpoint = Fixtures.revision(3L, Fixtures.company(1L, "Company A"), Fixtures.companyReqFull());
+
+        @BeforeEach
+        void setUp() {
+            // Arrange: 최신순 승인 리비전 5, 4, 3, 2, 1 / 최근 2개 보존
+            when(revisionRepository.findCompactionCandidates(3L, Limit.of(100))).thenReturn(List.of(COMPANY_1));
+            when(revisionRepository.findApprovedRevisionIds(RevisionTargetEntity.COMPANY, 1L)).thenReturn(List.of(5L, 4L, 3L, 2L, 1L));
+            when(revisionRepository.findById(3L)).thenReturn(Optional.of(checkpoint));
+        }
+
+        @Test
+        @DisplayName("보존 구간 직후 리비전을 체크포인트로 지정하고 이전 승인 리비전을 삭제")
+        void testCompact() {
+            // Act
+            int compacted = revisionHistoryService.compact(2, 100);
+
+            // Assert
+            Assertions.assertThat(compacted).isEqualTo(1);
+            Assertions.assertThat(checkpoint.getIsCheckpoint()).isTrue();
+            verify(revisionRepository).deleteAllByIdInBatch(List.of(2L, 1L));
+        }
+
+        @Test
+        @DisplayName("체크포인트 diffData 는 빈 문서 기준 전체 상태로 재계산")
+        void testCheckpointDiffData() {
+            // Act
+            revisionHistoryService.compact(2, 100);
+
+            // Assert
+            Assertions.assertThat(checkpoint.getDiffData())
+                    .extracting(op -> op.get("op").asText())
+                    .containsOnly("add");
+            Assertions.assertThat(checkpoint.getDiffData())
+                    .extracting(op -> op.get("path").asText())
+                    .contains("/companyName", "/translations", "/snapshotStatus");
+        }
+    }
+
+    @Test
+    @DisplayName("조회 시점에 이미 압축되어 대상이 아니면 아무것도 삭제하지 않음")
+    void testCompact_AlreadyCompacted() {
+        // Arrange
+        when(revisionRepository.findCompactionCandidates(3L, Limit.of(100))).thenReturn(List.of(COMPANY_1));
+        when(revisionRepository.findApprovedRevisionIds(RevisionTargetEntity.COMPANY, 1L)).thenReturn(List.of(5L, 4L, 3L));
+
+        // Act
+        int compacted = revisionHistoryService.compact(2, 100);
+
+        // Assert
+        Assertions.assertThat(compacted).isZero();
+        verify(revisionRepository, never()).findById(anyLong());
+        verify(revisionRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    @DisplayName("한 엔티티의 압축이 실패해도 나머지 후보는 계속 압축")
+    void testCompact_ContinuesAfterFailure() {
+        // Arrange: 두 번째 후보의 체크포인트 리비전이 사라진 상태
+        RevisionEntityKey company2 = new RevisionEntityKey(RevisionTargetEntity.COMPANY, 2L);
+        RevisionEntityKey company3 = new RevisionEntityKey(RevisionTargetEntity.COMPANY, 3L);
+        when(revisionRepository.findCompactionCandidates(3L, Limit.of(100))).thenReturn(List.of(COMPANY_1, company2, company3));
+        when(revisionRepository.findApprovedRevisionIds(RevisionTargetEntity.COMPANY, 1L)).thenReturn(List.of(5L, 4L, 3L, 2L, 1L));
+        when(revisionRepository.findApprovedRevisionIds(RevisionTargetEntity.COMPANY, 2L)).thenReturn(List.of(15L, 14L, 13L, 12L));
+        when(revisionRepository.findApprovedRevisionIds(RevisionTargetEntity.COMPANY, 3L)).thenReturn(List.of(25L, 24L, 23L, 22L));
+        when(revisionRepository.findById(3L)).thenReturn(Optional.of(Fixtures.revision(3L, Fixtures.company(1L, "Company A"), Fixtures.companyReqFull())));
+        when(revisionRepository.findById(13L)).thenReturn(Optional.empty());
+        when(revisionRepository.findById(23L)).thenReturn(Optional.of(Fixtures.revision(23L, Fixtures.company(3L, "Company C"), Fixtures.companyReqFull())));
+
+        // Act
+        int compacted = revisionHistoryService.compact(2, 100);
+
+        // Assert
+        Assertions.assertThat(compacted).isEqualTo(2);
+        verify(revisionRepository).deleteAllByIdInBatch(List.of(2L, 1L));
+        verify(revisionRepository).deleteAllByIdInBatch(List.of(22L));
+        verify(revisionRepository, never()).deleteAllByIdInBatch(List.of(12L));
+    }
+
+    @Test
+    @DisplayName("보존 개수가 1 미만이면 예외 발생")
+    void testCompact_InvalidRetain() {
+        Assertions.assertThatThrownBy(() -> revisionHistoryService.compact(0, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(revisionRepository);
+    }
+
+    @Test
+    @DisplayName("타임라인은 최신순 스트림을 그대로 전달하고 스트림을 닫음")
+    void testStreamTimeline() {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean(false);
+        Instant now = Instant.parse("2025-08-12T09:00:00Z");
+        Stream<RevisionTimelineEntry> timeline = Stream.of(
+                new RevisionTimelineEntry(2L, "1.0.0", RevisionStatus.IN_REVIEW, true, false, null, now, 1L, null, null),
+                new RevisionTimelineEntry(1L, "1.0.0", RevisionStatus.APPROVED, false, true, null, now.minusSeconds(60), 1L, now, 0L)
+        ).onClose(() -> closed.set(true));
+        when(revisionRepository.streamTimeline(RevisionTargetEntity.COMPANY, 1L)).thenReturn(timeline);
+
+        // Act
+        List<Long> ids = new ArrayList<>();
+        revisionHistoryService.streamTimeline(RevisionTargetEntity.COMPANY, 1L, entry -> ids.add(entry.id()));
+
+        // Assert
+        Assertions.assertThat(ids).containsExactly(2L, 1L);
+        Assertions.assertThat(closed).isTrue();
+    }
+}
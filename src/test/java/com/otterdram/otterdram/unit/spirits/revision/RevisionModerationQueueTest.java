@@ -0,0 +1,126 @@
+package com.otterdram.otterdram.unit.spirits.revision;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.otterdram.otterdram.common.enums.common.RevisionStatus;
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+import com.otterdram.otterdram.common.outbox.OutboxService;
+import com.otterdram.otterdram.domain.spirits.revision.applier.RevisionApplierRegistry;
+import com.otterdram.otterdram.domain.spirits.revision.dto.RevisionDataView;
+import com.otterdram.otterdram.domain.spirits.revision.dto.RevisionQueueCondition;
+import com.otterdram.otterdram.domain.spirits.revision.dto.RevisionQueueCursor;
+import com.otterdram.otterdram.domain.spirits.revision.dto.RevisionQueuePage;
+import com.otterdram.otterdram.domain.spirits.revision.dto.RevisionSummary;
+import com.otterdram.otterdram.domain.spirits.revision.repository.RevisionRepository;
+import com.otterdram.otterdram.domain.spirits.revision.service.RevisionService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RevisionModerationQueueTest {
+
+    private static final Instant BASE_TIME = Instant.parse("2025-08-12T09:00:00Z");
+
+    @Mock RevisionRepository revisionRepository;
+    @Mock OutboxService outboxService;
+    @Mock RevisionApplierRegistry revisionApplierRegistry;
+    @InjectMocks RevisionService revisionService;
+
+    @Test
+    @DisplayName("size + 1 건을 조회하여 다음 페이지 커서를 마지막 항목으로 생성")
+    void testFirstPage_HasNext() {
+        // Arrange
+        when(revisionRepository.findQueue(RevisionStatus.IN_REVIEW, RevisionTargetEntity.COMPANY, null, Limit.of(3)))
+                .thenReturn(summaries(1, 3));
+
+        // Act
+        RevisionQueuePage page = revisionService.getModerationQueue(
+                new RevisionQueueCondition(null, RevisionTargetEntity.COMPANY, null, null, 2, false));
+
+        // Assert
+        Assertions.assertThat(page.items()).extracting(RevisionSummary::id).containsExactly(1L, 2L);
+        Assertions.assertThat(page.hasNext()).isTrue();
+        Assertions.assertThat(RevisionQueueCursor.decode(page.nextCursor()))
+                .isEqualTo(new RevisionQueueCursor(BASE_TIME.plusSeconds(2), 2L));
+        verify(revisionRepository, never()).findRevisionDataByIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("커서가 주어지면 커서 이후 구간을 조회하고 마지막 페이지에서는 커서를 반환하지 않음")
+    void testNextPage_Last() {
+        // Arrange
+        String cursor = new RevisionQueueCursor(BASE_TIME.plusSeconds(2), 2L).encode();
+        when(revisionRepository.findQueueAfter(RevisionStatus.IN_REVIEW, null, 7L, BASE_TIME.plusSeconds(2), 2L, Limit.of(3)))
+                .thenReturn(summaries(3, 1));
+
+        // Act
+        RevisionQueuePage page = revisionService.getModerationQueue(
+                new RevisionQueueCondition(RevisionStatus.IN_REVIEW, null, 7L, cursor, 2, false));
+
+        // Assert
+        Assertions.assertThat(page.items()).extracting(RevisionSummary::id).containsExactly(3L);
+        Assertions.assertThat(page.nextCursor()).isNull();
+        verify(revisionRepository, never()).findQueue(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("includeRevisionData 인 경우에만 해당 페이지 ID 로 revision_data 를 조회")
+    void testIncludeRevisionData() {
+        // Arrange
+        JsonNode revisionData = JsonNodeFactory.instance.objectNode().put("companyName", "A");
+        when(revisionRepository.findQueue(RevisionStatus.IN_REVIEW, null, null, Limit.of(51)))
+                .thenReturn(summaries(1, 2));
+        when(revisionRepository.findRevisionDataByIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(revisionDataView(1L, revisionData), revisionDataView(2L, revisionData)));
+
+        // Act
+        RevisionQueuePage page = revisionService.getModerationQueue(
+                new RevisionQueueCondition(null, null, null, null, null, true));
+
+        // Assert
+        Assertions.assertThat(page.items()).extracting(RevisionSummary::revisionData)
+                .containsExactly(revisionData, revisionData);
+        Assertions.assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서나 허용 범위를 벗어난 size 는 예외 발생")
+    void testInvalidCondition() {
+        Assertions.assertThatThrownBy(() -> revisionService.getModerationQueue(
+                        new RevisionQueueCondition(null, null, null, "not-a-cursor", 10, false)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid cursor");
+        Assertions.assertThatThrownBy(() -> new RevisionQueueCondition(null, null, null, null, 201, false))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(revisionRepository);
+    }
+
+    private List<RevisionSummary> summaries(long fromId, int count) {
+        return LongStream.range(fromId, fromId + count)
+                .mapToObj(id -> new RevisionSummary(id, RevisionTargetEntity.COMPANY, id * 10, "1.0.0",
+                        RevisionStatus.IN_REVIEW, BASE_TIME.plusSeconds(id), 7L, null, null))
+                .toList();
+    }
+
+    private RevisionDataView revisionDataView(Long id, JsonNode revisionData) {
+        return new RevisionDataView() {
+            @Override public Long getId() { return id; }
+            @Override public JsonNode getRevisionData() { return revisionData; }
+        };
+    }
+}
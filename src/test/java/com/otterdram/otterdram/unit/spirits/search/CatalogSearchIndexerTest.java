@@ -0,0 +1,77 @@
+package com.otterdram.otterdram.unit.spirits.search;
+
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+import com.otterdram.otterdram.common.outbox.OutboxEventType;
+import com.otterdram.otterdram.common.outbox.OutboxMessage;
+import com.otterdram.otterdram.domain.spirits.search.CatalogSearchSource;
+import com.otterdram.otterdram.domain.spirits.search.indexer.CatalogSearchIndexer;
+import com.otterdram.otterdram.domain.spirits.search.repository.CatalogSearchRepository;
+import com.otterdram.otterdram.testsupport.Fixtures;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CatalogSearchIndexerTest {
+
+    @Mock CatalogSearchRepository catalogSearchRepository;
+    CatalogSearchIndexer catalogSearchIndexer;
+
+    @BeforeEach
+    void setUp() {
+        catalogSearchIndexer = new CatalogSearchIndexer(catalogSearchRepository, Fixtures.transactionTemplate());
+    }
+
+    @Test
+    @DisplayName("카탈로그 엔티티 이벤트는 원본에서 항목을 갱신한 뒤 삭제된 원본의 항목을 지움")
+    void testOnCatalogEvent() {
+        // Act
+        catalogSearchIndexer.on(message(OutboxEventType.ENTITY_DELETED, RevisionTargetEntity.BRAND, 31L));
+
+        // Assert
+        InOrder inOrder = inOrder(catalogSearchRepository);
+        inOrder.verify(catalogSearchRepository).upsertFromSource(CatalogSearchSource.BRAND, List.of(31L));
+        inOrder.verify(catalogSearchRepository).deleteMissingFromSource(CatalogSearchSource.BRAND, List.of(31L));
+    }
+
+    @Test
+    @DisplayName("색인 대상이 아닌 엔티티(캐스크 등) 이벤트는 무시")
+    void testOnNonCatalogEvent() {
+        // Act
+        catalogSearchIndexer.on(message(OutboxEventType.REVISION_APPROVED, RevisionTargetEntity.CASK, 5L));
+
+        // Assert
+        verifyNoInteractions(catalogSearchRepository);
+    }
+
+    @Test
+    @DisplayName("재색인은 원본 ID 를 batchSize 개씩 이어 읽고 모자란 배치에서 멈춤")
+    void testRebuild() {
+        // Arrange
+        when(catalogSearchRepository.findSourceIds(CatalogSearchSource.MODEL, 0L, 2)).thenReturn(List.of(1L, 4L));
+        when(catalogSearchRepository.findSourceIds(CatalogSearchSource.MODEL, 4L, 2)).thenReturn(List.of(9L));
+
+        // Act
+        long processed = catalogSearchIndexer.rebuild(CatalogSearchSource.MODEL, 2);
+
+        // Assert
+        Assertions.assertThat(processed).isEqualTo(3);
+        verify(catalogSearchRepository).upsertFromSource(CatalogSearchSource.MODEL, List.of(1L, 4L));
+        verify(catalogSearchRepository).upsertFromSource(CatalogSearchSource.MODEL, List.of(9L));
+        verify(catalogSearchRepository, never()).findSourceIds(CatalogSearchSource.MODEL, 9L, 2);
+    }
+
+    private static OutboxMessage message(OutboxEventType eventType, RevisionTargetEntity aggregateType, Long aggregateId) {
+        return new OutboxMessage(1L, eventType, aggregateType, aggregateId, null, Instant.now());
+    }
+}
@@ -0,0 +1,84 @@
+package com.otterdram.otterdram.unit.spirits.search;
+
+import com.otterdram.otterdram.common.enums.common.DataStatus;
+import com.otterdram.otterdram.common.enums.common.LanguageCode;
+import com.otterdram.otterdram.common.enums.target.RevisionTargetEntity;
+import com.otterdram.otterdram.domain.spirits.search.CatalogSearchEntry;
+import com.otterdram.otterdram.domain.spirits.search.CatalogSearchEntryId;
+import com.otterdram.otterdram.domain.spirits.search.dto.CatalogSearchCondition;
+import com.otterdram.otterdram.domain.spirits.search.dto.CatalogSearchHit;
+import com.otterdram.otterdram.domain.spirits.search.repository.CatalogSearchRepository;
+import com.otterdram.otterdram.domain.spirits.search.service.CatalogSearchService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CatalogSearchServiceTest {
+
+    @Mock CatalogSearchRepository catalogSearchRepository;
+    @InjectMocks CatalogSearchService catalogSearchService;
+
+    @Test
+    @DisplayName("정규화한 검색어와 노출 가능 상태로 조회하고, 관련도 순서를 유지하며 요청 언어 표시 이름을 붙임")
+    void testSearch() {
+        // Arrange
+        when(catalogSearchRepository.search("glen fiddich", List.of("BRAND", "DISTILLERY"), List.of("CONFIRMED", "IN_REVIEW"), 20))
+                .thenReturn(List.of(
+                        entry(RevisionTargetEntity.DISTILLERY, 12L, "Glenfiddich", Map.of(LanguageCode.KO, "글렌피딕")),
+                        entry(RevisionTargetEntity.BRAND, 31L, "Glenfiddich", null)));
+
+        // Act
+        List<CatalogSearchHit> hits = catalogSearchService.search(new CatalogSearchCondition(
+                "  GLEN   Fiddich ", Set.of(RevisionTargetEntity.DISTILLERY, RevisionTargetEntity.BRAND), LanguageCode.KO, null));
+
+        // Assert
+        Assertions.assertThat(hits).containsExactly(
+                new CatalogSearchHit(RevisionTargetEntity.DISTILLERY, 12L, "Glenfiddich", "글렌피딕", DataStatus.CONFIRMED),
+                new CatalogSearchHit(RevisionTargetEntity.BRAND, 31L, "Glenfiddich", "Glenfiddich", DataStatus.CONFIRMED));
+    }
+
+    @Test
+    @DisplayName("대상 종류를 지정하지 않으면 색인 대상 전체를 검색")
+    void testDefaultEntityTypes() {
+        // Act
+        CatalogSearchCondition condition = new CatalogSearchCondition("ardbeg", null, null, null);
+
+        // Assert
+        Assertions.assertThat(condition.entityTypes()).containsExactlyInAnyOrder(
+                RevisionTargetEntity.COMPANY, RevisionTargetEntity.DISTILLERY, RevisionTargetEntity.BRAND,
+                RevisionTargetEntity.COLLECTION, RevisionTargetEntity.MODEL, RevisionTargetEntity.RELEASE);
+        Assertions.assertThat(condition.size()).isEqualTo(CatalogSearchCondition.DEFAULT_SIZE);
+    }
+
+    @Test
+    @DisplayName("너무 짧은 검색어, 색인 대상이 아닌 종류, 범위를 벗어난 size 는 예외 발생")
+    void testInvalidCondition() {
+        Assertions.assertThatThrownBy(() -> new CatalogSearchCondition(" a ", null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        Assertions.assertThatThrownBy(() -> new CatalogSearchCondition("oak", Set.of(RevisionTargetEntity.CASK), null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        Assertions.assertThatThrownBy(() -> new CatalogSearchCondition("oak", null, null, CatalogSearchCondition.MAX_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static CatalogSearchEntry entry(RevisionTargetEntity entityType, Long entityId, String name,
+                                            Map<LanguageCode, String> translations) {
+        return CatalogSearchEntry.builder()
+                .id(new CatalogSearchEntryId(entityType, entityId))
+                .name(name)
+                .translations(translations)
+                .status(DataStatus.CONFIRMED)
+                .build();
+    }
+}
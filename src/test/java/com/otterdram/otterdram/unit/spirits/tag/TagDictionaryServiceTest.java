@@ -0,0 +1,188 @@
+package com.otterdram.otterdram.unit.spirits.tag;
+
+import com.otterdram.otterdram.common.enums.common.LanguageCode;
+import com.otterdram.otterdram.domain.spirits.tag.CanonicalTag;
+import com.otterdram.otterdram.domain.spirits.tag.TagAlias;
+import com.otterdram.otterdram.domain.spirits.tag.dto.TagAliasRequest;
+import com.otterdram.otterdram.domain.spirits.tag.dto.TagCount;
+import com.otterdram.otterdram.domain.spirits.tag.dto.TagCountRow;
+import com.otterdram.otterdram.domain.spirits.tag.repository.CanonicalTagRepository;
+import com.otterdram.otterdram.domain.spirits.tag.repository.TagAliasRepository;
+import com.otterdram.otterdram.domain.spirits.tag.service.TagDictionaryService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TagDictionaryServiceTest {
+
+    @Mock CanonicalTagRepository canonicalTagRepository;
+    @Mock TagAliasRepository tagAliasRepository;
+    @InjectMocks TagDictionaryService tagDictionaryService;
+
+    @Nested
+    @DisplayName("태그 해석 / 등록")
+    class ResolveTests {
+
+        @Test
+        @DisplayName("표기만 다른 입력은 하나의 키로 모이고, 별칭 → 사전 키 → 신규 등록 순으로 해석")
+        void testResolveOrCreate() {
+            // Arrange
+            CanonicalTag sherry = canonical(7L, "sherry", "Sherry");
+            CanonicalTag peated = canonical(3L, "peated", "Peated");
+            when(tagAliasRepository.findWithTagByLanguageCodeAndAliasKeyIn(
+                    LanguageCode.EN, Set.of("sherry", "peated", "sherry bomb")))
+                    .thenReturn(List.of(alias(sherry, LanguageCode.EN, "sherry")));
+            when(canonicalTagRepository.findByTagKeyIn(Set.of("peated", "sherry bomb")))
+                    .thenReturn(List.of(peated));
+            when(canonicalTagRepository.saveAll(any())).thenAnswer(invocation -> {
+                List<CanonicalTag> tags = invocation.getArgument(0);
+                return tags.stream()
+                        .map(tag -> canonical(21L, tag.getTagKey(), tag.getName()))
+                        .toList();
+            });
+
+            // Act
+            List<CanonicalTag> tags = tagDictionaryService.resolveOrCreate(LanguageCode.EN,
+                    List.of("Sherry", "SHERRY", "peated", "Sherry-bomb", " sherry_bomb "));
+
+            // Assert
+            Assertions.assertThat(tags).extracting(CanonicalTag::getId).containsExactly(3L, 7L, 21L);
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<CanonicalTag>> newTags = ArgumentCaptor.forClass(List.class);
+            verify(canonicalTagRepository).saveAll(newTags.capture());
+            Assertions.assertThat(newTags.getValue())
+                    .extracting(CanonicalTag::getTagKey, CanonicalTag::getName)
+                    .containsExactly(Assertions.tuple("sherry bomb", "Sherry-bomb"));
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<TagAlias>> aliases = ArgumentCaptor.forClass(List.class);
+            verify(tagAliasRepository).saveAll(aliases.capture());
+            Assertions.assertThat(aliases.getValue())
+                    .extracting(alias -> alias.getTag().getId(), TagAlias::getAliasKey)
+                    .containsExactly(Assertions.tuple(3L, "peated"), Assertions.tuple(21L, "sherry bomb"));
+        }
+
+        @Test
+        @DisplayName("모든 입력이 요청 언어의 별칭이면 사전을 변경하지 않음")
+        void testResolveOrCreateAllAliased() {
+            // Arrange
+            CanonicalTag sherry = canonical(7L, "sherry", "Sherry");
+            when(tagAliasRepository.findWithTagByLanguageCodeAndAliasKeyIn(LanguageCode.KO, Set.of("셰리", "sherry")))
+                    .thenReturn(List.of(alias(sherry, LanguageCode.KO, "셰리"), alias(sherry, LanguageCode.KO, "sherry")));
+
+            // Act
+            List<CanonicalTag> tags = tagDictionaryService.resolveOrCreate(LanguageCode.KO, List.of("셰리", "Sherry"));
+
+            // Assert
+            Assertions.assertThat(tags).containsExactly(sherry);
+            verify(canonicalTagRepository, never()).saveAll(any());
+            verify(tagAliasRepository, never()).saveAll(any());
+        }
+
+        @Test
+        @DisplayName("조회용 해석은 사전에 없는 태그를 등록하지 않음")
+        void testResolveExisting() {
+            // Arrange
+            CanonicalTag peated = canonical(3L, "peated", "Peated");
+            when(tagAliasRepository.findWithTagByLanguageCodeAndAliasKeyIn(LanguageCode.EN, Set.of("peated", "smoky")))
+                    .thenReturn(List.of());
+            when(canonicalTagRepository.findByTagKeyIn(Set.of("peated", "smoky"))).thenReturn(List.of(peated));
+
+            // Act
+            List<CanonicalTag> tags = tagDictionaryService.resolveExisting(LanguageCode.EN, List.of("Peated", "smoky"));
+
+            // Assert
+            Assertions.assertThat(tags).containsExactly(peated);
+            verify(canonicalTagRepository, never()).saveAll(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("별칭 / 표시 이름")
+    class AliasTests {
+
+        @Test
+        @DisplayName("별칭을 연결하면 해당 언어의 표시 이름이 없을 때 별칭을 표시 이름으로 등록")
+        void testAddAlias() {
+            // Arrange
+            CanonicalTag sherry = canonical(7L, "sherry", "Sherry");
+            when(canonicalTagRepository.findById(7L)).thenReturn(Optional.of(sherry));
+            when(tagAliasRepository.findWithTagByLanguageCodeAndAliasKeyIn(LanguageCode.KO, List.of("셰리")))
+                    .thenReturn(List.of());
+
+            // Act
+            tagDictionaryService.addAlias(7L, new TagAliasRequest(LanguageCode.KO, " 셰리 "));
+
+            // Assert
+            verify(tagAliasRepository).save(any(TagAlias.class));
+            Assertions.assertThat(sherry.displayName(LanguageCode.KO)).isEqualTo("셰리");
+            Assertions.assertThat(sherry.displayName(LanguageCode.JA)).isEqualTo("Sherry");
+        }
+
+        @Test
+        @DisplayName("다른 사전 태그에 연결된 별칭이면 예외 발생")
+        void testAddAliasConflict() {
+            // Arrange
+            CanonicalTag sherry = canonical(7L, "sherry", "Sherry");
+            CanonicalTag peated = canonical(3L, "peated", "Peated");
+            when(canonicalTagRepository.findById(7L)).thenReturn(Optional.of(sherry));
+            when(tagAliasRepository.findWithTagByLanguageCodeAndAliasKeyIn(LanguageCode.EN, List.of("peated")))
+                    .thenReturn(List.of(alias(peated, LanguageCode.EN, "peated")));
+
+            // Act & Assert
+            Assertions.assertThatThrownBy(() -> tagDictionaryService.addAlias(7L, new TagAliasRequest(LanguageCode.EN, "Peated")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("already linked to tag 'Peated'");
+            verify(tagAliasRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("집계 행 순서를 유지하며 요청 언어의 표시 이름을 붙임")
+        void testWithDisplayNames() {
+            // Arrange
+            CanonicalTag sherry = canonical(7L, "sherry", "Sherry");
+            sherry.addTranslationIfAbsent(LanguageCode.KO, "셰리");
+            CanonicalTag peated = canonical(3L, "peated", "Peated");
+            when(canonicalTagRepository.findAllById(List.of(7L, 3L))).thenReturn(List.of(peated, sherry));
+
+            // Act
+            List<TagCount> counts = tagDictionaryService.withDisplayNames(
+                    List.of(new TagCountRow(7L, 10), new TagCountRow(3L, 4)), LanguageCode.KO);
+
+            // Assert
+            Assertions.assertThat(counts)
+                    .containsExactly(new TagCount(7L, "셰리", 10), new TagCount(3L, "Peated", 4));
+        }
+    }
+
+    private static CanonicalTag canonical(Long id, String tagKey, String name) {
+        return CanonicalTag.builder()
+                .id(id)
+                .tagKey(tagKey)
+                .name(name)
+                .build();
+    }
+
+    private static TagAlias alias(CanonicalTag tag, LanguageCode languageCode, String aliasKey) {
+        return TagAlias.builder()
+                .tag(tag)
+                .languageCode(languageCode)
+                .alias(aliasKey)
+                .aliasKey(aliasKey)
+                .build();
+    }
+}
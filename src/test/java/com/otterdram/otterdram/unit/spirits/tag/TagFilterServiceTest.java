@@ -0,0 +1,132 @@
+package com.otterdram.otterdram.unit.spirits.tag;
+
+import com.otterdram.otterdram.common.enums.common.LanguageCode;
+import com.otterdram.otterdram.common.enums.target.TagTargetEntity;
+import com.otterdram.otterdram.domain.spirits.tag.dto.*;
+import com.otterdram.otterdram.domain.spirits.tag.repository.EntityTagCountRepository;
+import com.otterdram.otterdram.domain.spirits.tag.repository.TagRepository;
+import com.otterdram.otterdram.domain.spirits.tag.service.TagDictionaryService;
+import com.otterdram.otterdram.domain.spirits.tag.service.TagFilterService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TagFilterServiceTest {
+
+    @Mock TagRepository tagRepository;
+    @Mock EntityTagCountRepository entityTagCountRepository;
+    @Mock TagDictionaryService tagDictionaryService;
+    @InjectMocks TagFilterService tagFilterService;
+
+    private static final TagTargetEntity ENTITY_TYPE = TagTargetEntity.RELEASE;
+    private static final Long PEATED = 3L;
+    private static final Long SHERRY = 7L;
+    private static final Set<Long> TAG_IDS = Set.of(PEATED, SHERRY);
+
+    @Test
+    @DisplayName("ALL 필터는 사용 수가 가장 적은 태그의 posting list 를 기준으로 size + 1 건을 조회")
+    void testAllUsesRarestTagAsDriver() {
+        // Arrange
+        when(entityTagCountRepository.findByTagIds(ENTITY_TYPE, TAG_IDS))
+                .thenReturn(List.of(new TagCountRow(SHERRY, 900), new TagCountRow(PEATED, 40)));
+        when(tagRepository.findEntityIdsWithAllTags(ENTITY_TYPE.name(), PEATED, TAG_IDS, 2, 0L, 3))
+                .thenReturn(List.of(10L, 12L, 31L));
+
+        // Act
+        TagFilterPage page = tagFilterService.findEntityIds(
+                new TagFilterCondition(ENTITY_TYPE, List.of(SHERRY, PEATED, SHERRY), null, null, 2));
+
+        // Assert
+        Assertions.assertThat(page.entityIds()).containsExactly(10L, 12L);
+        Assertions.assertThat(page.nextAfterEntityId()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("ALL 필터에 사용되지 않은 태그가 있으면 엔티티를 조회하지 않음")
+    void testAllShortCircuitsOnUnusedTag() {
+        // Arrange
+        when(entityTagCountRepository.findByTagIds(ENTITY_TYPE, TAG_IDS))
+                .thenReturn(List.of(new TagCountRow(SHERRY, 900)));
+
+        // Act
+        TagFilterPage page = tagFilterService.findEntityIds(
+                new TagFilterCondition(ENTITY_TYPE, List.of(SHERRY, PEATED), TagMatchMode.ALL, null, null));
+
+        // Assert
+        Assertions.assertThat(page.entityIds()).isEmpty();
+        Assertions.assertThat(page.hasNext()).isFalse();
+        verify(tagRepository, never()).findEntityIdsWithAllTags(anyString(), anyLong(), any(), anyInt(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("ANY 필터는 posting list 병합 쿼리를 사용하고 마지막 페이지는 커서가 없음")
+    void testAnyMergesPostingLists() {
+        // Arrange
+        when(tagRepository.findEntityIdsWithAnyTag(ENTITY_TYPE.name(), new Long[]{PEATED, SHERRY}, 12L, 51))
+                .thenReturn(List.of(15L, 20L));
+
+        // Act
+        TagFilterPage page = tagFilterService.findEntityIds(
+                new TagFilterCondition(ENTITY_TYPE, List.of(SHERRY, PEATED), TagMatchMode.ANY, 12L, null));
+
+        // Assert
+        Assertions.assertThat(page.entityIds()).containsExactly(15L, 20L);
+        Assertions.assertThat(page.hasNext()).isFalse();
+        verify(entityTagCountRepository, never()).findByTagIds(any(), any());
+    }
+
+    @Test
+    @DisplayName("패싯은 전체 매칭 수와 태그별 엔티티 수를 요청 언어의 표시 이름으로 반환")
+    void testFacets() {
+        // Arrange
+        when(entityTagCountRepository.findByTagIds(ENTITY_TYPE, TAG_IDS))
+                .thenReturn(List.of(new TagCountRow(SHERRY, 900), new TagCountRow(PEATED, 40)));
+        when(tagRepository.countMatchingEntities(ENTITY_TYPE.name(), TAG_IDS, 2)).thenReturn(3L);
+        when(tagRepository.findFacets(ENTITY_TYPE.name(), TAG_IDS, 2, 20))
+                .thenReturn(List.of(facet(PEATED, 3L), facet(SHERRY, 3L), facet(12L, 1L)));
+        List<TagCount> named = List.of(new TagCount(PEATED, "피트", 3), new TagCount(SHERRY, "셰리", 3), new TagCount(12L, "cask strength", 1));
+        when(tagDictionaryService.withDisplayNames(
+                List.of(new TagCountRow(PEATED, 3), new TagCountRow(SHERRY, 3), new TagCountRow(12L, 1)), LanguageCode.KO))
+                .thenReturn(named);
+
+        // Act
+        TagFacets facets = tagFilterService.getFacets(
+                new TagFilterCondition(ENTITY_TYPE, List.of(SHERRY, PEATED), TagMatchMode.ALL, null, null), LanguageCode.KO, 20);
+
+        // Assert
+        Assertions.assertThat(facets.totalEntities()).isEqualTo(3);
+        Assertions.assertThat(facets.facets()).isEqualTo(named);
+    }
+
+    @Test
+    @DisplayName("필터 태그 수가 범위를 벗어나면 예외 발생")
+    void testTooManyTags() {
+        // Act & Assert
+        Assertions.assertThatThrownBy(() -> new TagFilterCondition(ENTITY_TYPE, List.of(), null, null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("tagIds must contain between 1 and");
+    }
+
+    private static TagFacetRow facet(Long tagId, Long entityCount) {
+        return new TagFacetRow() {
+            @Override public Long getTagId() { return tagId; }
+            @Override public Long getEntityCount() { return entityCount; }
+        };
+    }
+}
@@ -0,0 +1,252 @@
+package com.otterdram.otterdram.unit.spirits.tag;
+
+import com.otterdram.otterdram.common.enums.common.LanguageCode;
+import com.otterdram.otterdram.common.enums.target.TagTargetEntity;
+import com.otterdram.otterdram.domain.spirits.tag.CanonicalTag;
+import com.otterdram.otterdram.domain.spirits.tag.EntityTag;
+import com.otterdram.otterdram.domain.spirits.tag.dto.EntityTagBatchRequest;
+import com.otterdram.otterdram.domain.spirits.tag.dto.EntityTagPage;
+import com.otterdram.otterdram.domain.spirits.tag.dto.EntityTagResponse;
+import com.otterdram.otterdram.domain.spirits.tag.dto.TagCount;
+import com.otterdram.otterdram.domain.spirits.tag.dto.TagCountRow;
+import com.otterdram.otterdram.domain.spirits.tag.repository.EntityTagCountRepository;
+import com.otterdram.otterdram.domain.spirits.tag.repository.TagRepository;
+import com.otterdram.otterdram.domain.spirits.tag.service.TagDictionaryService;
+import com.otterdram.otterdram.domain.spirits.tag.service.TagService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TagServiceTest {
+
+    @Mock TagRepository tagRepository;
+    @Mock EntityTagCountRepository entityTagCountRepository;
+    @Mock TagDictionaryService tagDictionaryService;
+    @InjectMocks TagService tagService;
+
+    private static final TagTargetEntity ENTITY_TYPE = TagTargetEntity.RELEASE;
+    private static final Long ENTITY_ID = 10L;
+
+    private static final CanonicalTag PEATED = canonical(3L, "peated");
+    private static final CanonicalTag SHERRY = canonical(7L, "sherry");
+    private static final CanonicalTag CASK_STRENGTH = canonical(12L, "cask strength");
+
+    @Nested
+    @DisplayName("태그 일괄 부착")
+    class AttachTests {
+
+        @Test
+        @DisplayName("사전 태그로 해석한 뒤 이미 부착된 태그를 제외한 나머지만 한 번에 저장하고 사용 수를 태그 ID 순으로 증가")
+        void testAttachOnlyNewTags() {
+            // Arrange
+            List<String> tags = List.of(" sherry ", "peated", "Sherry", "cask-strength");
+            EntityTagBatchRequest request = new EntityTagBatchRequest(LanguageCode.EN, tags);
+            when(tagDictionaryService.resolveOrCreate(LanguageCode.EN, tags))
+                    .thenReturn(List.of(PEATED, SHERRY, CASK_STRENGTH));
+            when(tagRepository.findByEntityTypeAndEntityIdAndTagIdIn(ENTITY_TYPE, ENTITY_ID, List.of(3L, 7L, 12L)))
+                    .thenReturn(List.of(tag(PEATED)));
+            when(tagRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            List<EntityTagResponse> attached = tagService.attachTags(ENTITY_TYPE, ENTITY_ID, request);
+
+            // Assert
+            Assertions.assertThat(attached)
+                    .extracting(EntityTagResponse::tagId, EntityTagResponse::tag)
+                    .containsExactly(Assertions.tuple(7L, "sherry"), Assertions.tuple(12L, "cask strength"));
+            verify(entityTagCountRepository).addCounts(ENTITY_TYPE.name(), new Long[]{7L, 12L}, 1L);
+        }
+
+        @Test
+        @DisplayName("모든 태그가 이미 부착되어 있으면 저장과 사용 수 갱신을 하지 않음")
+        void testAttachIdempotent() {
+            // Arrange
+            EntityTagBatchRequest request = new EntityTagBatchRequest(LanguageCode.EN, List.of("sherry"));
+            when(tagDictionaryService.resolveOrCreate(any(), any())).thenReturn(List.of(SHERRY));
+            when(tagRepository.findByEntityTypeAndEntityIdAndTagIdIn(any(), any(), any()))
+                    .thenReturn(List.of(tag(SHERRY)));
+
+            // Act
+            List<EntityTagResponse> attached = tagService.attachTags(ENTITY_TYPE, ENTITY_ID, request);
+
+            // Assert
+            Assertions.assertThat(attached).isEmpty();
+            verify(tagRepository, never()).saveAll(any());
+            verify(entityTagCountRepository, never()).addCounts(anyString(), any(), anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("태그 일괄 해제")
+    class DetachTests {
+
+        @Test
+        @DisplayName("사전에 있는 태그 중 부착된 태그만 한 번에 삭제하고 사용 수를 감소")
+        void testDetachExistingTags() {
+            // Arrange
+            List<EntityTag> existing = List.of(tag(SHERRY), tag(PEATED));
+            when(tagDictionaryService.resolveExisting(any(), any())).thenReturn(List.of(PEATED, SHERRY));
+            when(tagRepository.findByEntityTypeAndEntityIdAndTagIdIn(ENTITY_TYPE, ENTITY_ID, List.of(3L, 7L)))
+                    .thenReturn(existing);
+
+            // Act
+            int detached = tagService.detachTags(ENTITY_TYPE, ENTITY_ID,
+                    new EntityTagBatchRequest(LanguageCode.EN, List.of("sherry", "peated", "smoky")));
+
+            // Assert
+            Assertions.assertThat(detached).isEqualTo(2);
+            verify(tagRepository).deleteAllInBatch(existing);
+            verify(entityTagCountRepository).addCounts(ENTITY_TYPE.name(), new Long[]{3L, 7L}, -1L);
+        }
+
+        @Test
+        @DisplayName("사전에 없는 태그만 있으면 부착 목록을 조회하지 않음")
+        void testDetachUnknownTags() {
+            // Arrange
+            when(tagDictionaryService.resolveExisting(any(), any())).thenReturn(List.of());
+
+            // Act
+            int detached = tagService.detachTags(ENTITY_TYPE, ENTITY_ID,
+                    new EntityTagBatchRequest(LanguageCode.EN, List.of("smoky")));
+
+            // Assert
+            Assertions.assertThat(detached).isZero();
+            verify(tagRepository, never()).findByEntityTypeAndEntityIdAndTagIdIn(any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("페이지 / 배치 조회")
+    class BulkReadTests {
+
+        @Test
+        @DisplayName("size + 1 건을 읽어 다음 페이지가 있으면 마지막 항목 id 를 커서로 반환")
+        void testKeysetPageHasNext() {
+            // Arrange
+            when(tagRepository.findByEntityTypeAfter(ENTITY_TYPE, 0L, Limit.of(3)))
+                    .thenReturn(List.of(response(1L, 10L), response(2L, 11L), response(5L, 12L)));
+
+            // Act
+            EntityTagPage page = tagService.getTagsByEntityType(ENTITY_TYPE, null, 2);
+
+            // Assert
+            Assertions.assertThat(page.items()).extracting(EntityTagResponse::id).containsExactly(1L, 2L);
+            Assertions.assertThat(page.nextAfterId()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("마지막 페이지는 커서가 없음")
+        void testKeysetPageLast() {
+            // Arrange
+            when(tagRepository.findByTagIdAfter(7L, 2L, Limit.of(3)))
+                    .thenReturn(List.of(response(5L, 12L)));
+
+            // Act
+            EntityTagPage page = tagService.getTagsByTag(7L, 2L, 2);
+
+            // Assert
+            Assertions.assertThat(page.items()).hasSize(1);
+            Assertions.assertThat(page.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("여러 엔티티의 태그를 한 번의 쿼리로 읽어 엔티티 ID 별로 묶음")
+        void testTagsByEntityIds() {
+            // Arrange
+            when(tagRepository.findByEntityTypeAndEntityIdIn(ENTITY_TYPE, List.of(10L, 11L, 12L)))
+                    .thenReturn(List.of(tag(10L, SHERRY), tag(10L, PEATED), tag(12L, SHERRY)));
+
+            // Act
+            Map<Long, List<EntityTagResponse>> tags = tagService.getTagsByEntityIds(ENTITY_TYPE, List.of(10L, 11L, 12L));
+
+            // Assert
+            Assertions.assertThat(tags).containsOnlyKeys(10L, 12L);
+            Assertions.assertThat(tags.get(10L)).extracting(EntityTagResponse::tag).containsExactly("sherry", "peated");
+        }
+    }
+
+    @Nested
+    @DisplayName("자동완성 / 인기 태그")
+    class LookupTests {
+
+        @Test
+        @DisplayName("접두어를 태그 키로 정규화하고 LIKE 특수문자를 이스케이프한 뒤 표시 이름을 붙임")
+        void testAutocompletePrefixPattern() {
+            // Arrange
+            List<TagCountRow> rows = List.of(new TagCountRow(30L, 3));
+            List<TagCount> suggestions = List.of(new TagCount(30L, "100% Sherry", 3));
+            when(entityTagCountRepository.findByAliasPrefix(ENTITY_TYPE, LanguageCode.EN, "100\\% s%", Limit.of(10)))
+                    .thenReturn(rows);
+            when(tagDictionaryService.withDisplayNames(rows, LanguageCode.EN)).thenReturn(suggestions);
+
+            // Act
+            List<TagCount> result = tagService.autocomplete(ENTITY_TYPE, LanguageCode.EN, " 100%__S", 10);
+
+            // Assert
+            Assertions.assertThat(result).isEqualTo(suggestions);
+        }
+
+        @Test
+        @DisplayName("빈 접두어는 조회하지 않음")
+        void testAutocompleteBlankPrefix() {
+            // Act
+            List<TagCount> result = tagService.autocomplete(ENTITY_TYPE, LanguageCode.EN, " ", 10);
+
+            // Assert
+            Assertions.assertThat(result).isEmpty();
+            verify(entityTagCountRepository, never()).findByAliasPrefix(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("limit 범위를 벗어나면 예외 발생")
+        void testTopTagsLimitOutOfRange() {
+            // Act & Assert
+            Assertions.assertThatThrownBy(() -> tagService.getTopTags(ENTITY_TYPE, LanguageCode.EN, TagService.MAX_LIMIT + 1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("limit must be between");
+            verify(entityTagCountRepository, never()).findTop(any(), eq(Limit.of(TagService.MAX_LIMIT + 1)));
+        }
+    }
+
+    private static CanonicalTag canonical(Long id, String name) {
+        return CanonicalTag.builder()
+                .id(id)
+                .tagKey(name)
+                .name(name)
+                .build();
+    }
+
+    private static EntityTag tag(CanonicalTag tag) {
+        return tag(ENTITY_ID, tag);
+    }
+
+    private static EntityTag tag(Long entityId, CanonicalTag tag) {
+        return EntityTag.builder()
+                .entityType(ENTITY_TYPE)
+                .entityId(entityId)
+                .tag(tag)
+                .build();
+    }
+
+    private static EntityTagResponse response(Long id, Long entityId) {
+        return new EntityTagResponse(id, ENTITY_TYPE, entityId, 7L, "sherry");
+    }
+}
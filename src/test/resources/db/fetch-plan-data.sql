@@ -0,0 +1,63 @@
+-- 조회 계획 문 수 테스트 데이터: 한 모델 아래 릴리스 5개, 릴리스마다 증류소 2개와 캐스크 2개
+-- 증류소/캐스크를 릴리스마다 따로 읽으면(N+1) 문 수가 릴리스 수에 비례해 늘어난다.
+
+INSERT INTO companies (id, company_name, normalized_company_name, status, created_at, created_by, updated_at, updated_by)
+VALUES (1, 'William Grant & Sons', 'william grant & sons', 'CONFIRMED', CURRENT_TIMESTAMP, 1, CURRENT_TIMESTAMP, 1);
+
+INSERT INTO brands (id, company_id, brand_name, status, created_at, created_by, updated_at, updated_by)
+VALUES (10, 1, 'Glenfiddich', 'CONFIRMED', CURRENT_TIMESTAMP, 1, CURRENT_TIMESTAMP, 1);
+
+INSERT INTO collections (id, brand_id, collection_name, status, created_at, created_by, updated_at, updated_by)
+VALUES (20, 10, 'Core Range', 'CONFIRMED', CURRENT_TIMESTAMP, 1, CURRENT_TIMESTAMP, 1);
+
+INSERT INTO categories (id, name, depth, path, created_at, created_by, updated_at, updated_by)
+VALUES (30, 'Single Malt Scotch', 0, '30', CURRENT_TIMESTAMP, 1, CURRENT_TIMESTAMP, 1);
+
+INSERT INTO models (id, collection_id, category_id, model_name, status, created_at, created_by, updated_at, updated_by)
+VALUES (40, 20, 30, 'Glenfiddich 12', 'CONFIRMED', CURRENT_TIMESTAMP, 1, CURRENT_TIMESTAMP, 1);
+
+INSERT INTO releases (id, model_id, release_name, abv, status, created_at, created_by, updated_at, updated_by)
+VALUES
+    (100, 40, 'Glenfiddich 12 Batch 1', 40.00, 'CONFIRMED', CURRENT_TIMESTAMP, 1, CURRENT_TIMESTAMP, 1),
+    (101, 40, 'Glenfiddich 12 Batch 2', 40.00, 'CONFIRMED', CURRENT_TIMESTAMP, 1, CURRENT_TIMESTAMP, 1),
+    (102, 40, 'Glenfiddich 12 Batch 3', 40.00, 'CONFIRMED', CURRENT_TIMESTAMP, 1, CURRENT_TIMESTAMP, 1),
+    (103, 40, 'Glenfiddich 12 Batch 4', 40.00, 'CONFIRMED', CURRENT_TIMESTAMP, 1, CURRENT_TIMESTAMP, 1),
+    (104, 40, 'Glenfiddich 12 Batch 5', 40.00, 'CONFIRMED', CURRENT_TIMESTAMP, 1, CURRENT_TIMESTAMP, 1);
+
+INSERT INTO distilleries (id, company_id, distillery_name, country_id, city_id, status, created_at, created_by, updated_at, updated_by)
+VALUES
+    (200, 1, 'Glenfiddich', 1, 1, 'CONFIRMED', CURRENT_TIMESTAMP, 1, CURRENT_TIMESTAMP, 1),
+    (201, 1, 'Balvenie', 1, 1, 'CONFIRMED', CURRENT_TIMESTAMP, 1, CURRENT_TIMESTAMP, 1),
+    (202, 1, 'Kininvie', 1, 1, 'CONFIRMED', CURRENT_TIMESTAMP, 1, CURRENT_TIMESTAMP, 1);
+
+INSERT INTO release_distillery_relations (id, distillery_id, release_id, created_at, created_by)
+VALUES
+    (501, 200, 100, CURRENT_TIMESTAMP, 1),
+    (502, 201, 100, CURRENT_TIMESTAMP, 1),
+    (503, 201, 101, CURRENT_TIMESTAMP, 1),
+    (504, 202, 101, CURRENT_TIMESTAMP, 1),
+    (505, 202, 102, CURRENT_TIMESTAMP, 1),
+    (506, 200, 102, CURRENT_TIMESTAMP, 1),
+    (507, 200, 103, CURRENT_TIMESTAMP, 1),
+    (508, 201, 103, CURRENT_TIMESTAMP, 1),
+    (509, 201, 104, CURRENT_TIMESTAMP, 1),
+    (510, 202, 104, CURRENT_TIMESTAMP, 1);
+
+INSERT INTO casks (id, name, category_id, material_id, type_id, status, created_at, created_by, updated_at, updated_by)
+VALUES
+    (300, 'Ex-Bourbon Barrel', 30, 1, 1, 'CONFIRMED', CURRENT_TIMESTAMP, 1, CURRENT_TIMESTAMP, 1),
+    (301, 'Oloroso Sherry Butt', 30, 1, 1, 'CONFIRMED', CURRENT_TIMESTAMP, 1, CURRENT_TIMESTAMP, 1),
+    (302, 'Port Pipe', 30, 1, 1, 'CONFIRMED', CURRENT_TIMESTAMP, 1, CURRENT_TIMESTAMP, 1);
+
+INSERT INTO release_cask_relations (id, release_id, fill_number, cask_id, proportion, created_at, created_by)
+VALUES
+    (601, 100, 'FIRST_FILL', 300, 70.00, CURRENT_TIMESTAMP, 1),
+    (602, 100, 'FIRST_FILL', 301, 30.00, CURRENT_TIMESTAMP, 1),
+    (603, 101, 'FIRST_FILL', 301, 70.00, CURRENT_TIMESTAMP, 1),
+    (604, 101, 'FIRST_FILL', 302, 30.00, CURRENT_TIMESTAMP, 1),
+    (605, 102, 'FIRST_FILL', 302, 70.00, CURRENT_TIMESTAMP, 1),
+    (606, 102, 'FIRST_FILL', 300, 30.00, CURRENT_TIMESTAMP, 1),
+    (607, 103, 'FIRST_FILL', 300, 70.00, CURRENT_TIMESTAMP, 1),
+    (608, 103, 'FIRST_FILL', 301, 30.00, CURRENT_TIMESTAMP, 1),
+    (609, 104, 'FIRST_FILL', 301, 70.00, CURRENT_TIMESTAMP, 1),
+    (610, 104, 'FIRST_FILL', 302, 30.00, CURRENT_TIMESTAMP, 1);
@@ -0,0 +1,171 @@
+-- 조회 계획 문 수 테스트 전용 H2 스키마 (PostgreSQL 모드)
+-- 조회 계획이 읽는 테이블만 정의한다. 읽지 않는 참조(국가, 도시, 캐스크 재질/유형)는 FK 없이 컬럼만 둔다.
+
+CREATE TABLE IF NOT EXISTS companies (
+    id                  bigint PRIMARY KEY,
+    parent_company_id   bigint REFERENCES companies (id),
+    company_logo        varchar(255),
+    company_name        varchar(100) NOT NULL UNIQUE,
+    normalized_company_name varchar(100) NOT NULL UNIQUE,
+    translations        json,
+    descriptions        json,
+    independent_bottler boolean,
+    status              varchar(20)  NOT NULL DEFAULT 'IN_REVIEW',
+    version             bigint       NOT NULL DEFAULT 0,
+    created_at          timestamp(6) with time zone NOT NULL,
+    created_by          bigint       NOT NULL,
+    updated_at          timestamp(6) with time zone NOT NULL,
+    updated_by          bigint       NOT NULL,
+    deleted_at          timestamp(6) with time zone,
+    deleted_by          bigint
+);
+
+CREATE TABLE IF NOT EXISTS brands (
+    id           bigint PRIMARY KEY,
+    company_id   bigint REFERENCES companies (id),
+    brand_logo   varchar(255),
+    brand_name   varchar(100) NOT NULL UNIQUE,
+    translations json,
+    descriptions json,
+    status       varchar(20)  NOT NULL DEFAULT 'IN_REVIEW',
+    created_at   timestamp(6) with time zone NOT NULL,
+    created_by   bigint       NOT NULL,
+    updated_at   timestamp(6) with time zone NOT NULL,
+    updated_by   bigint       NOT NULL,
+    deleted_at   timestamp(6) with time zone,
+    deleted_by   bigint
+);
+
+CREATE TABLE IF NOT EXISTS collections (
+    id              bigint PRIMARY KEY,
+    brand_id        bigint       NOT NULL REFERENCES brands (id),
+    collection_name varchar(100) NOT NULL,
+    translations    json,
+    descriptions    json,
+    status          varchar(20)  NOT NULL DEFAULT 'IN_REVIEW',
+    created_at      timestamp(6) with time zone NOT NULL,
+    created_by      bigint       NOT NULL,
+    updated_at      timestamp(6) with time zone NOT NULL,
+    updated_by      bigint       NOT NULL,
+    deleted_at      timestamp(6) with time zone,
+    deleted_by      bigint
+);
+
+CREATE TABLE IF NOT EXISTS categories (
+    id           bigint PRIMARY KEY,
+    name         varchar(100) NOT NULL,
+    parent_id    bigint REFERENCES categories (id),
+    depth        smallint     NOT NULL,
+    path         varchar(255) NOT NULL,
+    translations json,
+    descriptions json,
+    created_at   timestamp(6) with time zone NOT NULL,
+    created_by   bigint       NOT NULL,
+    updated_at   timestamp(6) with time zone NOT NULL,
+    updated_by   bigint       NOT NULL,
+    deleted_at   timestamp(6) with time zone,
+    deleted_by   bigint
+);
+
+CREATE TABLE IF NOT EXISTS models (
+    id            bigint PRIMARY KEY,
+    collection_id bigint       NOT NULL REFERENCES collections (id),
+    category_id   bigint       NOT NULL REFERENCES categories (id),
+    model_image   varchar(255),
+    model_name    varchar(100) NOT NULL,
+    translations  json,
+    descriptions  json,
+    status        varchar(20)  NOT NULL DEFAULT 'IN_REVIEW',
+    created_at    timestamp(6) with time zone NOT NULL,
+    created_by    bigint       NOT NULL,
+    updated_at    timestamp(6) with time zone NOT NULL,
+    updated_by    bigint       NOT NULL,
+    deleted_at    timestamp(6) with time zone,
+    deleted_by    bigint
+);
+
+CREATE TABLE IF NOT EXISTS releases (
+    id                     bigint PRIMARY KEY,
+    model_id               bigint       NOT NULL REFERENCES models (id),
+    release_image          varchar(255),
+    release_name           varchar(100) NOT NULL,
+    translations           json,
+    descriptions           json,
+    age_statement_type     varchar(20)  DEFAULT 'UNKNOWN',
+    stated_age             smallint,
+    distilled_on           date,
+    bottled_on             date,
+    bottling_strength_type varchar(20)  NOT NULL DEFAULT 'STANDARD',
+    abv                    decimal(5,2) NOT NULL,
+    limited_edition        boolean,
+    released_bottles       varchar(32),
+    bottling_format_type   varchar(20)  NOT NULL DEFAULT 'UNKNOWN',
+    chill_filtered         boolean,
+    natural_color          boolean,
+    peat_level             varchar(20)  NOT NULL DEFAULT 'UNKNOWN',
+    status                 varchar(20)  NOT NULL DEFAULT 'IN_REVIEW',
+    created_at             timestamp(6) with time zone NOT NULL,
+    created_by             bigint       NOT NULL,
+    updated_at             timestamp(6) with time zone NOT NULL,
+    updated_by             bigint       NOT NULL,
+    deleted_at             timestamp(6) with time zone,
+    deleted_by             bigint
+);
+
+CREATE TABLE IF NOT EXISTS distilleries (
+    id                 bigint PRIMARY KEY,
+    company_id         bigint REFERENCES companies (id),
+    distillery_logo    varchar(255),
+    distillery_name    varchar(100) NOT NULL UNIQUE,
+    translations       json,
+    descriptions       json,
+    country_id         bigint       NOT NULL,
+    city_id            bigint       NOT NULL,
+    address            varchar(255),
+    operational_status varchar(20)  NOT NULL DEFAULT 'UNKNOWN',
+    status             varchar(20)  NOT NULL DEFAULT 'IN_REVIEW',
+    created_at         timestamp(6) with time zone NOT NULL,
+    created_by         bigint       NOT NULL,
+    updated_at         timestamp(6) with time zone NOT NULL,
+    updated_by         bigint       NOT NULL,
+    deleted_at         timestamp(6) with time zone,
+    deleted_by         bigint
+);
+
+CREATE TABLE IF NOT EXISTS release_distillery_relations (
+    id            bigint PRIMARY KEY,
+    distillery_id bigint NOT NULL REFERENCES distilleries (id),
+    release_id    bigint NOT NULL REFERENCES releases (id),
+    created_at    timestamp(6) with time zone NOT NULL,
+    created_by    bigint NOT NULL,
+    UNIQUE (distillery_id, release_id)
+);
+
+CREATE TABLE IF NOT EXISTS casks (
+    id           bigint PRIMARY KEY,
+    name         varchar(100) NOT NULL UNIQUE,
+    category_id  bigint       NOT NULL REFERENCES categories (id),
+    material_id  bigint       NOT NULL,
+    type_id      bigint       NOT NULL,
+    translations json,
+    descriptions json,
+    status       varchar(20)  NOT NULL DEFAULT 'IN_REVIEW',
+    created_at   timestamp(6) with time zone NOT NULL,
+    created_by   bigint       NOT NULL,
+    updated_at   timestamp(6) with time zone NOT NULL,
+    updated_by   bigint       NOT NULL,
+    deleted_at   timestamp(6) with time zone,
+    deleted_by   bigint
+);
+
+CREATE TABLE IF NOT EXISTS release_cask_relations (
+    id                bigint PRIMARY KEY,
+    release_id        bigint       NOT NULL REFERENCES releases (id),
+    fill_number       varchar(20)  NOT NULL DEFAULT 'UNKNOWN',
+    cask_id           bigint       NOT NULL REFERENCES casks (id),
+    proportion        decimal(5,2),
+    maturation_months smallint,
+    created_at        timestamp(6) with time zone NOT NULL,
+    created_by        bigint       NOT NULL,
+    UNIQUE (release_id, cask_id)
+);
@@ -0,0 +1,15 @@
+-- 아웃박스 릴레이 트랜잭션 테스트 전용 H2 스키마 (PostgreSQL 모드)
+
+CREATE SEQUENCE IF NOT EXISTS outbox_event_sequence START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id             bigint PRIMARY KEY,
+    event_type     varchar(50)  NOT NULL,
+    aggregate_type varchar(50)  NOT NULL,
+    aggregate_id   bigint       NOT NULL,
+    revision_id    bigint,
+    attempts       integer      NOT NULL DEFAULT 0,
+    last_error     varchar(500),
+    created_at     timestamp(6) with time zone NOT NULL,
+    published_at   timestamp(6) with time zone
+);